@@ -0,0 +1,66 @@
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+
+// Background layers pre-scaled to their on-screen pixel size and kept in
+// accelerated VolatileImages, so drawing a background is a plain unscaled blit.
+// Holds one background set at a time: asking for another set (a new level)
+// flushes the old one. Layers whose video memory was lost are re-scaled from
+// the source image on the next get(). Render thread only.
+final class BackgroundCache {
+    private final VolatileImage[] images;
+    private final BufferedImage[] sources; // What each image was scaled from
+    private int cachedSet = -1;
+
+    // slots: how many images one set can hold (parallax layers plus any extras)
+    BackgroundCache(int slots) {
+        images = new VolatileImage[slots];
+        sources = new BufferedImage[slots];
+    }
+
+    // Valid image of source scaled to width x height pixels. Draw it, then call
+    // again if contentsLost() reports the draw was lost.
+    VolatileImage get(GraphicsConfiguration config, int set, int slot, BufferedImage source, int width, int height) {
+        if (set != cachedSet) {
+            flush();
+            cachedSet = set;
+        }
+        width = Math.max(1, width);
+        height = Math.max(1, height);
+
+        VolatileImage image = images[slot];
+        boolean stale = image == null || sources[slot] != source
+            || image.getWidth() != width || image.getHeight() != height;
+        int status = stale ? VolatileImage.IMAGE_INCOMPATIBLE : image.validate(config);
+        if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+            if (image != null) image.flush();
+            image = config.createCompatibleVolatileImage(width, height, Transparency.TRANSLUCENT);
+            image.validate(config);
+            images[slot] = image;
+            sources[slot] = source;
+            render(image, source);
+        } else if (status == VolatileImage.IMAGE_RESTORED) {
+            render(image, source);
+        }
+        return image;
+    }
+
+    // Release every cached image (e.g. when backgrounds are switched off)
+    void flush() {
+        for (int i = 0; i < images.length; i++) {
+            if (images[i] != null) {
+                images[i].flush();
+                images[i] = null;
+            }
+            sources[i] = null;
+        }
+        cachedSet = -1;
+    }
+
+    private static void render(VolatileImage image, BufferedImage source) {
+        Graphics2D g = image.createGraphics();
+        g.setComposite(AlphaComposite.Src); // Replace old contents, keep transparency
+        g.drawImage(source, 0, 0, image.getWidth(), image.getHeight(), null);
+        g.dispose();
+    }
+}
@@ -136,7 +136,7 @@ public class BeamAttack {
                 
                 // Draw warning text
                 if (warningTimer > 30) {
-                    g.setFont(new Font("Arial", Font.BOLD, 24));
+                    g.setFont(TextCache.font("Arial", Font.BOLD, 24));
                     String warning = "!";
                     FontMetrics fm = g.getFontMetrics();
                     int textX = (int)(position - fm.stringWidth(warning) / 2);
@@ -158,7 +158,7 @@ public class BeamAttack {
                 
                 // Draw warning text
                 if (warningTimer > 30) {
-                    g.setFont(new Font("Arial", Font.BOLD, 24));
+                    g.setFont(TextCache.font("Arial", Font.BOLD, 24));
                     String warning = "!";
                     FontMetrics fm = g.getFontMetrics();
                     int textY = (int)(position + fm.getHeight() / 3);
@@ -224,4 +224,16 @@ public class BeamAttack {
     public BeamType getType() { return type; }
     public double getPosition() { return position; }
     public double getWidth() { return width; }
+    
+    // Copy all state from another beam (render copies in FrameSnapshot)
+    public void copyFrom(BeamAttack other) {
+        position = other.position;
+        width = other.width;
+        type = other.type;
+        warningTimer = other.warningTimer;
+        beamTimer = other.beamTimer;
+        isActive = other.isActive;
+        warningPlayed = other.warningPlayed;
+        firePlayed = other.firePlayed;
+    }
 }
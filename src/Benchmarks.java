@@ -0,0 +1,261 @@
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+// Dependency-free microbenchmarks for the gameplay hot paths.
+// Each benchmark is warmed up, then timed over several batches; the report is
+// the best and median time per operation, plus per-entity cost where an
+// operation touches N entities. Run headless so the numbers are comparable:
+//   java -Djava.awt.headless=true -cp bin Benchmarks [filter]
+// where filter is a substring of the benchmark names (e.g. "grid", "boss").
+public class Benchmarks {
+    private static final int[] COUNTS = {100, 1000, 10000};
+    private static final int WIDTH = GameData.WIDTH;
+    private static final int HEIGHT = GameData.HEIGHT;
+
+    private static final long WARMUP_NS = 500_000_000L; // Per benchmark
+    private static final int BATCHES = 10;
+    private static final long BATCH_NS = 100_000_000L; // Target time per measured batch
+
+    private static final Color PARTICLE_COLOR = new Color(255, 150, 0);
+
+    private static String filter = "";
+    private static long sink; // Keeps results alive so the JIT can't drop the work
+
+    // One benchmark: setup() runs untimed before every batch, run() is one operation
+    private interface Bench {
+        default void setup() {}
+        void run();
+    }
+
+    public static void main(String[] args) {
+        filter = args.length > 0 ? args[0] : "";
+        System.out.printf("%-36s %8s %14s %14s %12s%n", "benchmark", "n", "best ns/op", "median ns/op", "ns/entity");
+
+        for (int n : COUNTS) {
+            for (Bullet.BulletType type : Bullet.BulletType.values()) {
+                benchBulletUpdate(type, n);
+            }
+        }
+        for (int n : COUNTS) {
+            benchGridRebuild(n);
+            benchGridQuery(n);
+            benchGrazes(n);
+        }
+        for (int n : COUNTS) {
+            benchParticleUpdate(n);
+            benchParticleDraw(n);
+            benchParticleBatch(n);
+            benchBloom(n);
+        }
+        for (int pattern = 0; pattern < Boss.PATTERN_COUNT + Boss.MEGA_PATTERN_COUNT; pattern++) {
+            benchBossPattern(pattern);
+        }
+
+        System.out.println("(checksum " + sink + ")"); // Consumes sink so no result is dead
+    }
+
+    // --- Bullets ---
+
+    private static void benchBulletUpdate(Bullet.BulletType type, int n) {
+        Player player = new Player(WIDTH / 2, HEIGHT - 200);
+        BulletStore bullets = newStore();
+        run("bullet.update/" + type, n, new Bench() {
+            public void setup() {
+                fillBullets(bullets, n, type, player);
+            }
+
+            public void run() {
+                for (int i = 0, count = bullets.size(); i < count; i++) {
+                    bullets.update(i, player, WIDTH, HEIGHT, 1.0);
+                }
+                sink += (long) bullets.getX(0);
+            }
+        });
+    }
+
+    private static void benchGridRebuild(int n) {
+        Player player = new Player(WIDTH / 2, HEIGHT - 200);
+        BulletStore bullets = newStore();
+        BulletGrid grid = new BulletGrid(WIDTH, HEIGHT);
+        fillBullets(bullets, n, Bullet.BulletType.NORMAL, player);
+        run("grid.rebuild", n, () -> grid.rebuild(bullets));
+    }
+
+    private static void benchGridQuery(int n) {
+        Player player = new Player(WIDTH / 2, HEIGHT - 200);
+        BulletStore bullets = newStore();
+        BulletGrid grid = new BulletGrid(WIDTH, HEIGHT);
+        fillBullets(bullets, n, Bullet.BulletType.NORMAL, player);
+        grid.rebuild(bullets);
+        run("grid.queryNeighborhood", n, () -> {
+            int found = 0;
+            int ranges = grid.queryNeighborhood(player.getX(), player.getY());
+            for (int r = 0; r < ranges; r++) {
+                for (int k = grid.getRangeStart(r), end = grid.getRangeEnd(r); k < end; k++) {
+                    found += grid.getBullet(k);
+                }
+            }
+            sink += found;
+        });
+    }
+
+    private static void benchGrazes(int n) {
+        GameData data = new GameData();
+        Simulation sim = new Simulation(WIDTH, HEIGHT, data, new AchievementManager(), new PassiveUpgradeManager(), null);
+        sim.setParticlesEnabled(false);
+        sim.setSeed(1);
+        sim.startLevel(0, 1.0);
+        Player player = sim.getPlayer();
+        run("simulation.checkBulletGrazes", n, new Bench() {
+            public void setup() {
+                fillBullets(sim.getBullets(), n, Bullet.BulletType.NORMAL, player); // Also clears grazed flags
+                sim.rebuildBulletGrid();
+            }
+
+            public void run() {
+                sim.checkBulletGrazes(player);
+            }
+        });
+    }
+
+    // --- Particles ---
+
+    private static void benchParticleUpdate(int n) {
+        ParticleSystem particles = new ParticleSystem();
+        run("particle.update", n, new Bench() {
+            public void setup() {
+                fillParticles(particles, n);
+            }
+
+            public void run() {
+                particles.update(1.0);
+                sink += (long) particles.getX(0);
+            }
+        });
+    }
+
+    private static void benchParticleDraw(int n) {
+        ParticleSystem particles = new ParticleSystem();
+        fillParticles(particles, n);
+        BufferedImage target = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = target.createGraphics();
+        run("particle.draw (offscreen)", n, () -> {
+            for (int i = 0, count = particles.size(); i < count; i++) {
+                Particle.draw(g, particles, i);
+            }
+        });
+        g.dispose();
+    }
+
+    private static void benchParticleBatch(int n) {
+        ParticleSystem particles = new ParticleSystem();
+        fillParticles(particles, n);
+        BufferedImage target = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = target.createGraphics();
+        run("particle.drawBatch (offscreen)", n, () -> ParticleBatch.draw(g, particles));
+        g.dispose();
+    }
+
+    private static void benchBloom(int n) {
+        ParticleSystem particles = new ParticleSystem();
+        fillParticles(particles, n);
+        BufferedImage target = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = target.createGraphics();
+        BloomPass bloom = new BloomPass();
+        run("particle.bloom (offscreen)", n, () -> {
+            bloom.begin(0, 0, WIDTH, HEIGHT);
+            for (int i = 0, count = particles.size(); i < count; i++) {
+                bloom.glow(particles.getX(i), particles.getY(i), 23, PARTICLE_COLOR, 0.075f);
+            }
+            bloom.finish(g);
+        });
+        g.dispose();
+    }
+
+    // --- Boss patterns ---
+
+    private static void benchBossPattern(int pattern) {
+        Player player = new Player(WIDTH / 2, HEIGHT - 200);
+        Boss boss = new Boss(WIDTH / 2, 100, 12, null, new GameRandom(1), new GameRandom(2));
+        BulletStore bullets = newStore();
+        String name = pattern < Boss.PATTERN_COUNT ? "boss.pattern/" + pattern : "boss.megaPattern/" + (pattern - Boss.PATTERN_COUNT);
+        run(name, 1, () -> {
+            bullets.clear();
+            boss.firePattern(pattern, bullets, player);
+            sink += bullets.size();
+        });
+    }
+
+    // --- Setup helpers ---
+
+    private static BulletStore newStore() {
+        return new BulletStore(new GameRandom(1), new GameRandom(2));
+    }
+
+    // Spread n active bullets of one type over the screen (deterministic layout)
+    private static void fillBullets(BulletStore bullets, int n, Bullet.BulletType type, Player player) {
+        GameRandom random = new GameRandom(n);
+        bullets.clear();
+        for (int i = 0; i < n; i++) {
+            double angle = random.nextDouble() * Math.PI * 2;
+            bullets.add(random.nextDouble() * WIDTH, random.nextDouble() * HEIGHT,
+                Math.cos(angle) * 3, Math.sin(angle) * 3, type);
+        }
+        // Run out the spawn warning so update() exercises the moving path
+        for (int tick = 0; tick < Bullet.WARNING_DURATION; tick++) {
+            for (int i = 0; i < n; i++) {
+                bullets.update(i, player, WIDTH, HEIGHT, 1.0);
+            }
+        }
+    }
+
+    private static void fillParticles(ParticleSystem particles, int n) {
+        GameRandom random = new GameRandom(n);
+        Particle.ParticleType[] types = Particle.ParticleType.values();
+        particles.clear();
+        for (int i = 0; i < n; i++) {
+            double angle = random.nextDouble() * Math.PI * 2;
+            particles.add(random.nextDouble() * WIDTH, random.nextDouble() * HEIGHT,
+                Math.cos(angle) * 2, Math.sin(angle) * 2, PARTICLE_COLOR,
+                1_000_000, 4 + random.nextDouble() * 8, types[i % types.length]); // Long-lived: stays alive across batches
+        }
+    }
+
+    // --- Harness ---
+
+    private static void run(String name, int n, Bench bench) {
+        if (!name.contains(filter)) return;
+
+        // Warm up (lets the JIT compile the hot loop)
+        bench.setup();
+        long warmupEnd = System.nanoTime() + WARMUP_NS;
+        int opsPerBatch = 1;
+        while (System.nanoTime() < warmupEnd) {
+            long start = System.nanoTime();
+            for (int i = 0; i < opsPerBatch; i++) {
+                bench.run();
+            }
+            long elapsed = System.nanoTime() - start;
+            if (elapsed < BATCH_NS / 2) {
+                opsPerBatch *= 2; // Grow batches until each one takes about BATCH_NS
+            }
+            bench.setup();
+        }
+
+        double[] nsPerOp = new double[BATCHES];
+        for (int b = 0; b < BATCHES; b++) {
+            bench.setup();
+            long start = System.nanoTime();
+            for (int i = 0; i < opsPerBatch; i++) {
+                bench.run();
+            }
+            nsPerOp[b] = (System.nanoTime() - start) / (double) opsPerBatch;
+        }
+        Arrays.sort(nsPerOp);
+        double best = nsPerOp[0];
+        double median = nsPerOp[BATCHES / 2];
+        System.out.printf("%-36s %8d %14.1f %14.1f %12.2f%n", name, n, best, median, median / n);
+    }
+}
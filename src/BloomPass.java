@@ -0,0 +1,193 @@
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+// Offscreen bloom. Bright emitters are splatted straight into quarter-resolution
+// premultiplied float buffers (no Graphics2D call per emitter), the buffers get
+// a separable box blur (two passes, close to Gaussian) over their rows and
+// columns, and the result is packed into an int[] raster and composited over
+// the scene with one scaled drawImage. Emitter splats are a few pixels each, so
+// the cost is dominated by the blur, which depends on resolution only.
+// Large buffers are blurred in parallel row/column bands. Render thread only.
+final class BloomPass {
+    static final int DOWNSAMPLE = 4; // Buffer pixel = 4x4 screen pixels
+    static final int MARGIN = 64; // Emitters this far outside the view can still glow into it
+    private static final int BLUR_RADIUS = 2; // Buffer pixels, per pass
+    private static final int BLUR_PASSES = 2;
+    private static final int REACH = BLUR_RADIUS * BLUR_PASSES + 1; // Blur spread, +1 so bilinear filtering fades to clear
+    private static final int PARALLEL_MIN_PIXELS = 64 * 1024;
+
+    private BufferedImage image; // TYPE_INT_ARGB_PRE, raster shared with pixels
+    private int[] pixels;
+    private float[][] channels; // Premultiplied red, green, blue, alpha
+    private float[][] scratch;
+    private int bufferWidth, bufferHeight;
+    private double originX, originY; // World position of buffer pixel (0, 0)
+    private int minX, minY, maxX, maxY; // Buffer pixels touched since begin(); empty when minX > maxX
+
+    // Start a frame covering the world rectangle (left, top, width x height) plus MARGIN
+    void begin(double left, double top, int width, int height) {
+        int w = (width + MARGIN * 2 + DOWNSAMPLE - 1) / DOWNSAMPLE;
+        int h = (height + MARGIN * 2 + DOWNSAMPLE - 1) / DOWNSAMPLE;
+        if (image == null || w != bufferWidth || h != bufferHeight) {
+            bufferWidth = w;
+            bufferHeight = h;
+            image = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB_PRE);
+            pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+            channels = new float[4][w * h];
+            scratch = new float[4][w * h];
+        } else if (minX <= maxX) {
+            // Only last frame's blurred region can be non-zero
+            int x0 = Math.max(0, minX - REACH);
+            int x1 = Math.min(bufferWidth - 1, maxX + REACH);
+            for (int y = Math.max(0, minY - REACH), y1 = Math.min(bufferHeight - 1, maxY + REACH); y <= y1; y++) {
+                for (float[] channel : channels) {
+                    Arrays.fill(channel, y * bufferWidth + x0, y * bufferWidth + x1 + 1, 0f);
+                }
+            }
+        }
+        originX = left - MARGIN;
+        originY = top - MARGIN;
+        minX = minY = Integer.MAX_VALUE;
+        maxX = maxY = Integer.MIN_VALUE;
+    }
+
+    // Add a glowing disc (world coordinates and diameter) with the given color and opacity
+    void glow(double x, double y, double diameter, Color color, float opacity) {
+        double cx = (x - originX) / DOWNSAMPLE;
+        double cy = (y - originY) / DOWNSAMPLE;
+        double radius = Math.max(0.5, diameter / 2 / DOWNSAMPLE);
+        int x0 = Math.max(0, (int)(cx - radius));
+        int x1 = Math.min(bufferWidth - 1, (int)(cx + radius));
+        int y0 = Math.max(0, (int)(cy - radius));
+        int y1 = Math.min(bufferHeight - 1, (int)(cy + radius));
+        if (x0 > x1 || y0 > y1) return;
+
+        float red = color.getRed() / 255f * opacity;
+        float green = color.getGreen() / 255f * opacity;
+        float blue = color.getBlue() / 255f * opacity;
+        float[] r = channels[0], g = channels[1], b = channels[2], a = channels[3];
+        double radiusSquared = radius * radius;
+        for (int py = y0; py <= y1; py++) {
+            double dy = py + 0.5 - cy;
+            int row = py * bufferWidth;
+            for (int px = x0; px <= x1; px++) {
+                double dx = px + 0.5 - cx;
+                if (dx * dx + dy * dy > radiusSquared) continue;
+                int i = row + px;
+                r[i] += red;
+                g[i] += green;
+                b[i] += blue;
+                a[i] += opacity;
+            }
+        }
+        minX = Math.min(minX, x0);
+        minY = Math.min(minY, y0);
+        maxX = Math.max(maxX, x1);
+        maxY = Math.max(maxY, y1);
+    }
+
+    // Blur the splats and draw them over the scene (g in world coordinates).
+    // Only the region the splats touched, grown by the blur's reach, is
+    // blurred, packed and drawn.
+    void finish(Graphics2D g) {
+        if (minX > maxX) return;
+        int x0 = Math.max(0, minX - REACH);
+        int y0 = Math.max(0, minY - REACH);
+        int x1 = Math.min(bufferWidth - 1, maxX + REACH);
+        int y1 = Math.min(bufferHeight - 1, maxY + REACH);
+
+        for (int pass = 0; pass < BLUR_PASSES; pass++) {
+            forBands(y0, y1 + 1, (from, to) -> {
+                for (int c = 0; c < 4; c++) blurRows(channels[c], scratch[c], from, to, x0, x1);
+            });
+            forBands(x0, x1 + 1, (from, to) -> {
+                for (int c = 0; c < 4; c++) blurColumns(scratch[c], channels[c], from, to, y0, y1);
+            });
+        }
+        pack(x0, y0, x1, y1);
+
+        Object oldInterpolation = g.getRenderingHint(RenderingHints.KEY_INTERPOLATION);
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        int x = (int)Math.floor(originX) + x0 * DOWNSAMPLE;
+        int y = (int)Math.floor(originY) + y0 * DOWNSAMPLE;
+        int w = (x1 - x0 + 1) * DOWNSAMPLE;
+        int h = (y1 - y0 + 1) * DOWNSAMPLE;
+        g.drawImage(image, x, y, x + w, y + h, x0, y0, x1 + 1, y1 + 1, null);
+        if (oldInterpolation != null) {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, oldInterpolation);
+        }
+    }
+
+    private interface Band {
+        void run(int from, int to);
+    }
+
+    // Split [start, end) into bands, in parallel when the buffer is big enough to pay for it
+    private void forBands(int start, int end, Band band) {
+        int threads = Runtime.getRuntime().availableProcessors();
+        if (threads < 2 || bufferWidth * bufferHeight < PARALLEL_MIN_PIXELS) {
+            band.run(start, end);
+            return;
+        }
+        int size = (end - start + threads - 1) / threads;
+        IntStream.range(0, threads).parallel().forEach(t -> band.run(start + t * size, Math.min(end, start + (t + 1) * size)));
+    }
+
+    // Running-sum box blur along rows [from, to), columns x0..x1; pixels outside that span count as 0
+    private void blurRows(float[] src, float[] dst, int from, int to, int x0, int x1) {
+        int w = bufferWidth;
+        float scale = 1f / (BLUR_RADIUS * 2 + 1);
+        for (int y = from; y < to; y++) {
+            int row = y * w;
+            float sum = 0;
+            for (int x = x0; x <= x0 + BLUR_RADIUS && x <= x1; x++) sum += src[row + x];
+            for (int x = x0; x <= x1; x++) {
+                dst[row + x] = sum * scale;
+                if (x + BLUR_RADIUS + 1 <= x1) sum += src[row + x + BLUR_RADIUS + 1];
+                if (x - BLUR_RADIUS >= x0) sum -= src[row + x - BLUR_RADIUS];
+            }
+        }
+    }
+
+    // Same along columns [from, to), rows y0..y1
+    private void blurColumns(float[] src, float[] dst, int from, int to, int y0, int y1) {
+        int w = bufferWidth;
+        float scale = 1f / (BLUR_RADIUS * 2 + 1);
+        for (int x = from; x < to; x++) {
+            float sum = 0;
+            for (int y = y0; y <= y0 + BLUR_RADIUS && y <= y1; y++) sum += src[y * w + x];
+            for (int y = y0; y <= y1; y++) {
+                dst[y * w + x] = sum * scale;
+                if (y + BLUR_RADIUS + 1 <= y1) sum += src[(y + BLUR_RADIUS + 1) * w + x];
+                if (y - BLUR_RADIUS >= y0) sum -= src[(y - BLUR_RADIUS) * w + x];
+            }
+        }
+    }
+
+    // Floats to premultiplied ARGB (color never exceeds alpha, as premultiplied requires)
+    private void pack(int x0, int y0, int x1, int y1) {
+        float[] r = channels[0], g = channels[1], b = channels[2], a = channels[3];
+        for (int y = y0; y <= y1; y++) {
+            for (int i = y * bufferWidth + x0, end = y * bufferWidth + x1; i <= end; i++) {
+                float alpha = Math.min(1f, a[i]);
+                if (alpha <= 0.002f) {
+                    pixels[i] = 0;
+                    continue;
+                }
+                int alphaByte = (int)(alpha * 255);
+                pixels[i] = alphaByte << 24
+                    | channelByte(r[i], alphaByte) << 16
+                    | channelByte(g[i], alphaByte) << 8
+                    | channelByte(b[i], alphaByte);
+            }
+        }
+    }
+
+    // Running sums can leave tiny negative residue; clamp to [0, alpha]
+    private static int channelByte(float value, int alphaByte) {
+        return Math.max(0, Math.min(alphaByte, (int)(value * 255)));
+    }
+}
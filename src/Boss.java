@@ -8,6 +8,7 @@ import javax.imageio.ImageIO;
 
 public class Boss {
     private double x, y;
+    private double prevX, prevY; // Position at the start of the tick
     private double vx, vy; // Velocity
     private double ax, ay; // Acceleration
     private double rotation; // Current rotation angle
@@ -17,6 +18,9 @@ public class Boss {
     private boolean isMegaBoss; // Every 3rd boss is a mega boss
     private int size; // Dynamic size based on boss type
     private static final int BASE_SIZE = 100;
+    private static final int WING_TRAIL_COLOR = Particle.argb(200, 220, 255, 180); // Light blue/white
+    static final int PATTERN_COUNT = 15; // Regular attack patterns
+    static final int MEGA_PATTERN_COUNT = 5; // Mega boss specials (fired as PATTERN_COUNT + i)
     private static final double MAX_SPEED = 2.5; // Maximum movement speed
     private static final double ACCELERATION = 0.15; // How fast to speed up
     private static final double FRICTION = 0.92; // How fast to slow down (0.92 = 8% friction)
@@ -54,6 +58,10 @@ public class Boss {
     
     // Sound manager for effects
     private SoundManager soundManager;
+
+    // Gameplay (patterns, movement) and cosmetic (trail particles) random streams
+    private final GameRandom random;
+    private final GameRandom fxRandom;
     
     // Boss phases
     private int maxHealth;
@@ -78,9 +86,17 @@ public class Boss {
     }
     
     public Boss(double x, double y, int level, SoundManager soundManager) {
+        this(x, y, level, soundManager, new GameRandom(System.nanoTime()), new GameRandom(System.nanoTime() + 1));
+    }
+
+    public Boss(double x, double y, int level, SoundManager soundManager, GameRandom random, GameRandom fxRandom) {
         this.x = x;
         this.y = y;
+        this.prevX = x;
+        this.prevY = y;
         this.soundManager = soundManager;
+        this.random = random;
+        this.fxRandom = fxRandom;
         this.vx = 0;
         this.vy = 0;
         this.ax = 0;
@@ -104,13 +120,13 @@ public class Boss {
         this.shootTimer = 0;
         this.shootInterval = Math.max(45, 75 + level * 2); // Slightly faster but more consistent
         // Start with random pattern from available pool
-        this.patternType = (int)(Math.random() * maxPatterns);
+        this.patternType = (int)(random.nextDouble() * maxPatterns);
         // Start with current position as target
         this.targetX = x;
         this.targetY = y;
         this.moveTimer = 0;
         this.beamAttacks = new ArrayList<>();
-        this.beamAttackTimer = 180 + (int)(Math.random() * 60); // First beam after 3-4 seconds
+        this.beamAttackTimer = 180 + (int)(random.nextDouble() * 60); // First beam after 3-4 seconds
         this.beamAttackInterval = Math.max(300, 480 - level * 10); // Less frequent, more manageable
         
         // Initialize health and phases
@@ -231,11 +247,11 @@ public class Boss {
         }
     }
     
-    public void update(List<Bullet> bullets, Player player, int screenWidth, int screenHeight) {
+    public void update(BulletStore bullets, Player player, int screenWidth, int screenHeight) {
         update(bullets, player, screenWidth, screenHeight, 1.0, null);
     }
     
-    public void update(List<Bullet> bullets, Player player, int screenWidth, int screenHeight, double deltaTime) {
+    public void update(BulletStore bullets, Player player, int screenWidth, int screenHeight, double deltaTime) {
         update(bullets, player, screenWidth, screenHeight, deltaTime, null);
     }
     
@@ -250,12 +266,12 @@ public class Boss {
         }
     }
     
-    public void update(List<Bullet> bullets, Player player, int screenWidth, int screenHeight, double deltaTime, List<Particle> particles) {
+    public void update(BulletStore bullets, Player player, int screenWidth, int screenHeight, double deltaTime, ParticleEmitter emitter) {
         // Smooth movement to target position
         moveTimer += deltaTime;
         
         // Pick a new target every 120-180 frames (2-3 seconds) for longer paths
-        if (moveTimer >= 120 + Math.random() * 60) {
+        if (moveTimer >= 120 + random.nextDouble() * 60) {
             moveTimer = 0;
             
             // Calculate vector away from player
@@ -275,11 +291,11 @@ public class Boss {
             double centerX = screenWidth / 2.0;
             double centerY = screenHeight / 3.0; // Lowered from /4.0 to /3.0
             double radius = Math.min(screenWidth, screenHeight) / 2.0; // Increased from /3.0 to /2.0 for larger circles
-            double angle = Math.random() * Math.PI * 2;
+            double angle = random.nextDouble() * Math.PI * 2;
             
             // Bias the angle to point away from player
             double angleToPlayer = Math.atan2(playerY - y, playerX - x);
-            double avoidAngle = angleToPlayer + Math.PI + (Math.random() - 0.5) * Math.PI / 2; // Opposite direction ± 45°
+            double avoidAngle = angleToPlayer + Math.PI + (random.nextDouble() - 0.5) * Math.PI / 2; // Opposite direction ± 45°
             
             targetX = centerX + Math.cos(avoidAngle) * radius;
             targetY = centerY + Math.sin(avoidAngle) * radius;
@@ -346,7 +362,7 @@ public class Boss {
         rotation += angularVelocity * deltaTime;
         
         // Generate wing tip trails for all boss types (planes and helicopters)
-        if (particles != null) {
+        if (emitter != null) {
             // Get current sprite dimensions for accurate wing positioning
             BufferedImage currentSprite = getCurrentSprite();
             double wingSpan = size * 0.8; // Default fallback
@@ -381,30 +397,30 @@ public class Boss {
             int trailSizeVariation = isMegaBoss ? 6 : 3;
             
             // Spawn trail particles at wing tips (every few frames)
-            if (Math.random() < 0.3 * deltaTime) {
+            if (fxRandom.nextDouble() < 0.3 * deltaTime) {
                 // Left wing trail
-                particles.add(new Particle(
+                emitter.emit(
                     leftWingX,
                     leftWingY,
-                    -vx * 0.3 + (Math.random() - 0.5) * 0.5,
-                    -vy * 0.3 + (Math.random() - 0.5) * 0.5,
-                    new Color(200, 220, 255, 180), // Light blue/white
-                    20 + (int)(Math.random() * 15),
-                    trailSize + (int)(Math.random() * trailSizeVariation),
+                    -vx * 0.3 + (fxRandom.nextDouble() - 0.5) * 0.5,
+                    -vy * 0.3 + (fxRandom.nextDouble() - 0.5) * 0.5,
+                    WING_TRAIL_COLOR,
+                    20 + (int)(fxRandom.nextDouble() * 15),
+                    trailSize + (int)(fxRandom.nextDouble() * trailSizeVariation),
                     Particle.ParticleType.TRAIL
-                ));
+                );
                 
                 // Right wing trail
-                particles.add(new Particle(
+                emitter.emit(
                     rightWingX,
                     rightWingY,
-                    -vx * 0.3 + (Math.random() - 0.5) * 0.5,
-                    -vy * 0.3 + (Math.random() - 0.5) * 0.5,
-                    new Color(200, 220, 255, 180), // Light blue/white
-                    20 + (int)(Math.random() * 15),
-                    trailSize + (int)(Math.random() * trailSizeVariation),
+                    -vx * 0.3 + (fxRandom.nextDouble() - 0.5) * 0.5,
+                    -vy * 0.3 + (fxRandom.nextDouble() - 0.5) * 0.5,
+                    WING_TRAIL_COLOR,
+                    20 + (int)(fxRandom.nextDouble() * 15),
+                    trailSize + (int)(fxRandom.nextDouble() * trailSizeVariation),
                     Particle.ParticleType.TRAIL
-                ));
+                );
             }
         }
         
@@ -445,7 +461,7 @@ public class Boss {
             
             // When entering assault phase, immediately switch to a new pattern
             if (isAssaultPhase) {
-                patternType = (int)(Math.random() * maxPatterns);
+                patternType = (int)(random.nextDouble() * maxPatterns);
             }
         }
         
@@ -470,45 +486,36 @@ public class Boss {
         }
         
         // Update beam attacks
-        for (int i = beamAttacks.size() - 1; i >= 0; i--) {
-            BeamAttack beam = beamAttacks.get(i);
-            beam.update(deltaTime);
-            if (beam.isDone()) {
-                beamAttacks.remove(i);
-            }
+        for (int i = 0, n = beamAttacks.size(); i < n; i++) {
+            beamAttacks.get(i).update(deltaTime);
         }
+        Compaction.removeDead(beamAttacks, BeamAttack::isDone, false); // Beams are few and order-independent
     }
     
-    private void shoot(List<Bullet> bullets, Player player) {
+    private void shoot(BulletStore bullets, Player player) {
         int bulletCountBefore = bullets.size();
         
         // Mega bosses have special attack patterns
-        if (isMegaBoss && Math.random() < 0.15) {
+        if (isMegaBoss && random.nextDouble() < 0.15) {
             // 15% chance to use mega boss special attacks (reduced from 25%)
-            int specialPattern = (int)(Math.random() * 5);
-            switch (specialPattern) {
-                case 0:
-                    shootMegaBarrage(bullets, player);
-                    return;
-                case 1:
-                    shootMegaSpiral(bullets);
-                    return;
-                case 2:
-                    shootMegaCross(bullets, player);
-                    return;
-                case 3:
-                    shootMegaStar(bullets);
-                    return;
-                case 4:
-                    shootMegaHex(bullets, player);
-                    return;
-            }
+            int specialPattern = (int)(random.nextDouble() * MEGA_PATTERN_COUNT);
+            firePattern(PATTERN_COUNT + specialPattern, bullets, player);
+            return;
         }
         
         // Cycle through unlocked patterns only
         patternType = (patternType + 1) % maxPatterns;
+        firePattern(patternType % PATTERN_COUNT, bullets, player);
         
-        switch (patternType % 15) {
+        // Play boss shoot sound if bullets were actually spawned
+        if (soundManager != null && bullets.size() > bulletCountBefore) {
+            soundManager.playSound(SoundManager.Sound.BOSS_SHOOT, 0.25f);
+        }
+    }
+    
+    // Fire one attack pattern: 0-14 are the regular patterns, 15-19 the mega boss specials
+    void firePattern(int pattern, BulletStore bullets, Player player) {
+        switch (pattern) {
             case 0: // Spiral pattern
                 shootSpiral(bullets);
                 break;
@@ -554,15 +561,25 @@ public class Boss {
             case 14: // Mini nukes
                 shootNukes(bullets);
                 break;
-        }
-        
-        // Play boss shoot sound if bullets were actually spawned
-        if (soundManager != null && bullets.size() > bulletCountBefore) {
-            soundManager.playSound(SoundManager.Sound.BOSS_SHOOT, 0.25f);
+            case 15:
+                shootMegaBarrage(bullets, player);
+                break;
+            case 16:
+                shootMegaSpiral(bullets);
+                break;
+            case 17:
+                shootMegaCross(bullets, player);
+                break;
+            case 18:
+                shootMegaStar(bullets);
+                break;
+            case 19:
+                shootMegaHex(bullets, player);
+                break;
         }
     }
     
-    private void shootSpiral(List<Bullet> bullets) {
+    private void shootSpiral(BulletStore bullets) {
         int numBullets = 12 + level * 2; // Increased from 8 + level
         double angleOffset = shootTimer * 0.1;
         double speedMultiplier = Math.min(1.0, 0.4 + (level * 0.12)); // Starts at 40%, reaches 100% at level 5
@@ -570,32 +587,32 @@ public class Boss {
             double angle = (Math.PI * 2 * i / numBullets) + angleOffset;
             double spawnX = x + Math.cos(angle) * size * 1.5;
             double spawnY = y + Math.sin(angle) * size * 1.5;
-            bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * 3 * speedMultiplier, Math.sin(angle) * 3 * speedMultiplier));
+            bullets.add(spawnX, spawnY, Math.cos(angle) * 3 * speedMultiplier, Math.sin(angle) * 3 * speedMultiplier);
         }
     }
     
-    private void shootCircle(List<Bullet> bullets, int numBullets) {
+    private void shootCircle(BulletStore bullets, int numBullets) {
         double speedMultiplier = Math.min(1.3, 0.4 + (level * 0.15)); // Increased speed scaling
         for (int i = 0; i < numBullets; i++) {
             double angle = Math.PI * 2 * i / numBullets;
             double spawnX = x + Math.cos(angle) * size * 1.5;
             double spawnY = y + Math.sin(angle) * size * 1.5;
-            bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * 2.5 * speedMultiplier, Math.sin(angle) * 2.5 * speedMultiplier));
+            bullets.add(spawnX, spawnY, Math.cos(angle) * 2.5 * speedMultiplier, Math.sin(angle) * 2.5 * speedMultiplier);
         }
     }
     
-    private void shootAtPlayer(List<Bullet> bullets, Player player, int spread) {
+    private void shootAtPlayer(BulletStore bullets, Player player, int spread) {
         double speedMultiplier = Math.min(1.3, 0.4 + (level * 0.15)); // Increased speed scaling
         double angleToPlayer = Math.atan2(player.getY() - y, player.getX() - x);
         for (int i = -spread; i <= spread; i++) {
             double angle = angleToPlayer + (i * 0.2);
             double spawnX = x + Math.cos(angle) * size * 1.5;
             double spawnY = y + Math.sin(angle) * size * 1.5;
-            bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * 4 * speedMultiplier, Math.sin(angle) * 4 * speedMultiplier));
+            bullets.add(spawnX, spawnY, Math.cos(angle) * 4 * speedMultiplier, Math.sin(angle) * 4 * speedMultiplier);
         }
     }
     
-    private void shootWave(List<Bullet> bullets) {
+    private void shootWave(BulletStore bullets) {
         double speedMultiplier = Math.min(1.3, 0.4 + (level * 0.15)); // Increased speed scaling
         int numBullets = 16 + level; // Slower increase (was level * 2)
         for (int i = 0; i < numBullets; i++) {
@@ -603,44 +620,44 @@ public class Boss {
             double speed = (2 + Math.sin(i * 0.5) * 1.5) * speedMultiplier;
             double spawnX = x + Math.cos(angle) * size * 1.5;
             double spawnY = y + Math.sin(angle) * size * 1.5;
-            bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * speed, Math.sin(angle) * speed));
+            bullets.add(spawnX, spawnY, Math.cos(angle) * speed, Math.sin(angle) * speed);
         }
     }
     
-    private void shootRandom(List<Bullet> bullets, int numBullets) {
+    private void shootRandom(BulletStore bullets, int numBullets) {
         double speedMultiplier = Math.min(1.3, 0.4 + (level * 0.15)); // Increased speed scaling
         for (int i = 0; i < numBullets; i++) {
-            double angle = Math.random() * Math.PI * 2;
-            double speed = (2 + Math.random() * 2) * speedMultiplier;
+            double angle = random.nextDouble() * Math.PI * 2;
+            double speed = (2 + random.nextDouble() * 2) * speedMultiplier;
             double spawnX = x + Math.cos(angle) * size * 1.5;
             double spawnY = y + Math.sin(angle) * size * 1.5;
-            bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * speed, Math.sin(angle) * speed));
+            bullets.add(spawnX, spawnY, Math.cos(angle) * speed, Math.sin(angle) * speed);
         }
     }
     
-    private void shootFast(List<Bullet> bullets, Player player) {
+    private void shootFast(BulletStore bullets, Player player) {
         double speedMultiplier = Math.min(1.3, 0.4 + (level * 0.15)); // Increased speed scaling
         double angleToPlayer = Math.atan2(player.getY() - y, player.getX() - x);
         for (int i = 0; i < 5 + level / 2; i++) { // Slower increase (was level)
-            double angle = angleToPlayer + (Math.random() - 0.5) * 0.5;
+            double angle = angleToPlayer + (random.nextDouble() - 0.5) * 0.5;
             double spawnX = x + Math.cos(angle) * size * 1.5;
             double spawnY = y + Math.sin(angle) * size * 1.5;
-            bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * 6 * speedMultiplier, Math.sin(angle) * 6 * speedMultiplier, Bullet.BulletType.FAST));
+            bullets.add(spawnX, spawnY, Math.cos(angle) * 6 * speedMultiplier, Math.sin(angle) * 6 * speedMultiplier, Bullet.BulletType.FAST);
         }
     }
     
-    private void shootLarge(List<Bullet> bullets) {
+    private void shootLarge(BulletStore bullets) {
         double speedMultiplier = Math.min(1.3, 0.4 + (level * 0.15)); // Increased speed scaling
         int numBullets = 5 + level / 2; // Slower increase
         for (int i = 0; i < numBullets; i++) {
             double angle = Math.PI * 2 * i / numBullets;
             double spawnX = x + Math.cos(angle) * size * 1.5;
             double spawnY = y + Math.sin(angle) * size * 1.5;
-            bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * 1.5 * speedMultiplier, Math.sin(angle) * 1.5 * speedMultiplier, Bullet.BulletType.LARGE));
+            bullets.add(spawnX, spawnY, Math.cos(angle) * 1.5 * speedMultiplier, Math.sin(angle) * 1.5 * speedMultiplier, Bullet.BulletType.LARGE);
         }
     }
     
-    private void shootMixed(List<Bullet> bullets, Player player) {
+    private void shootMixed(BulletStore bullets, Player player) {
         // Combination attack with different bullet types
         double speedMultiplier = Math.min(1.3, 0.4 + (level * 0.15)); // Increased speed scaling
         double angleToPlayer = Math.atan2(player.getY() - y, player.getX() - x);
@@ -650,7 +667,7 @@ public class Boss {
             double angle = angleToPlayer + (i - 1) * 0.3;
             double spawnX = x + Math.cos(angle) * size * 1.5;
             double spawnY = y + Math.sin(angle) * size * 1.5;
-            bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * 2.5 * speedMultiplier, Math.sin(angle) * 2.5 * speedMultiplier, Bullet.BulletType.HOMING));
+            bullets.add(spawnX, spawnY, Math.cos(angle) * 2.5 * speedMultiplier, Math.sin(angle) * 2.5 * speedMultiplier, Bullet.BulletType.HOMING);
         }
         
         // Circle of bouncing bullets
@@ -659,67 +676,67 @@ public class Boss {
                 double angle = Math.PI * 2 * i / 8; // Updated divisor
                 double spawnX = x + Math.cos(angle) * size * 1.5;
                 double spawnY = y + Math.sin(angle) * size * 1.5;
-                bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * 3 * speedMultiplier, Math.sin(angle) * 3 * speedMultiplier, Bullet.BulletType.BOUNCING));
+                bullets.add(spawnX, spawnY, Math.cos(angle) * 3 * speedMultiplier, Math.sin(angle) * 3 * speedMultiplier, Bullet.BulletType.BOUNCING);
             }
         }
     }
     
-    private void shootSpiralBullets(List<Bullet> bullets) {
+    private void shootSpiralBullets(BulletStore bullets) {
         double speedMultiplier = Math.min(1.3, 0.4 + (level * 0.15)); // Increased speed scaling
         int numBullets = 5 + level / 2; // Slower increase
         for (int i = 0; i < numBullets; i++) {
             double angle = Math.PI * 2 * i / numBullets;
             double spawnX = x + Math.cos(angle) * size * 1.5;
             double spawnY = y + Math.sin(angle) * size * 1.5;
-            bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * 2 * speedMultiplier, Math.sin(angle) * 2 * speedMultiplier, Bullet.BulletType.SPIRAL));
+            bullets.add(spawnX, spawnY, Math.cos(angle) * 2 * speedMultiplier, Math.sin(angle) * 2 * speedMultiplier, Bullet.BulletType.SPIRAL);
         }
     }
     
-    private void shootSplittingBullets(List<Bullet> bullets) {
+    private void shootSplittingBullets(BulletStore bullets) {
         double speedMultiplier = Math.min(1.3, 0.4 + (level * 0.15)); // Increased speed scaling
         int numBullets = 4 + level / 2; // Slower increase
         for (int i = 0; i < numBullets; i++) {
             double angle = Math.PI * 2 * i / numBullets;
             double spawnX = x + Math.cos(angle) * size * 1.5;
             double spawnY = y + Math.sin(angle) * size * 1.5;
-            bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * 2.5 * speedMultiplier, Math.sin(angle) * 2.5 * speedMultiplier, Bullet.BulletType.SPLITTING));
+            bullets.add(spawnX, spawnY, Math.cos(angle) * 2.5 * speedMultiplier, Math.sin(angle) * 2.5 * speedMultiplier, Bullet.BulletType.SPLITTING);
         }
     }
     
-    private void shootAcceleratingBullets(List<Bullet> bullets, Player player) {
+    private void shootAcceleratingBullets(BulletStore bullets, Player player) {
         double speedMultiplier = Math.min(1.3, 0.4 + (level * 0.15)); // Increased speed scaling
         double angleToPlayer = Math.atan2(player.getY() - y, player.getX() - x);
         for (int i = -2; i <= 2; i++) { // Increased from -1 to 1 (now 5 bullets instead of 3)
             double angle = angleToPlayer + i * 0.3;
             double spawnX = x + Math.cos(angle) * size * 1.5;
             double spawnY = y + Math.sin(angle) * size * 1.5;
-            bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * 1.5 * speedMultiplier, Math.sin(angle) * 1.5 * speedMultiplier, Bullet.BulletType.ACCELERATING));
+            bullets.add(spawnX, spawnY, Math.cos(angle) * 1.5 * speedMultiplier, Math.sin(angle) * 1.5 * speedMultiplier, Bullet.BulletType.ACCELERATING);
         }
     }
     
-    private void shootWaveBullets(List<Bullet> bullets) {
+    private void shootWaveBullets(BulletStore bullets) {
         double speedMultiplier = Math.min(1.3, 0.4 + (level * 0.15)); // Increased speed scaling
         int numBullets = 8 + level / 2; // Slower increase
         for (int i = 0; i < numBullets; i++) {
             double angle = Math.PI / 4 + (Math.PI / 2 * i / numBullets);
             double spawnX = x + Math.cos(angle) * size * 1.5;
             double spawnY = y + Math.sin(angle) * size * 1.5;
-            bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * 2.5 * speedMultiplier, Math.sin(angle) * 2.5 * speedMultiplier, Bullet.BulletType.WAVE));
+            bullets.add(spawnX, spawnY, Math.cos(angle) * 2.5 * speedMultiplier, Math.sin(angle) * 2.5 * speedMultiplier, Bullet.BulletType.WAVE);
         }
     }
     
-    private void shootBombs(List<Bullet> bullets) {
+    private void shootBombs(BulletStore bullets) {
         double speedMultiplier = Math.min(1.3, 0.4 + (level * 0.15)); // Increased speed scaling
         int numBullets = 3 + level / 2; // Increased from 2 + level / 3
         for (int i = 0; i < numBullets; i++) {
             double angle = Math.PI * 2 * i / numBullets;
             double spawnX = x + Math.cos(angle) * size * 1.5;
             double spawnY = y + Math.sin(angle) * size * 1.5;
-            bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * 2.0 * speedMultiplier, Math.sin(angle) * 2.0 * speedMultiplier, Bullet.BulletType.BOMB));
+            bullets.add(spawnX, spawnY, Math.cos(angle) * 2.0 * speedMultiplier, Math.sin(angle) * 2.0 * speedMultiplier, Bullet.BulletType.BOMB);
         }
     }
     
-    private void shootGrenades(List<Bullet> bullets, Player player) {
+    private void shootGrenades(BulletStore bullets, Player player) {
         double speedMultiplier = Math.min(1.3, 0.4 + (level * 0.15)); // Increased speed scaling
         double angleToPlayer = Math.atan2(player.getY() - y, player.getX() - x);
         int numBullets = 2 + (level >= 5 ? 1 : 0); // Increased from 1 + (level >= 5 ? 1 : 0)
@@ -727,11 +744,11 @@ public class Boss {
             double angle = angleToPlayer + (i - numBullets/2.0) * 0.3;
             double spawnX = x + Math.cos(angle) * size * 1.5;
             double spawnY = y + Math.sin(angle) * size * 1.5;
-            bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * 2.5 * speedMultiplier, Math.sin(angle) * 2.5 * speedMultiplier, Bullet.BulletType.GRENADE));
+            bullets.add(spawnX, spawnY, Math.cos(angle) * 2.5 * speedMultiplier, Math.sin(angle) * 2.5 * speedMultiplier, Bullet.BulletType.GRENADE);
         }
     }
     
-    private void shootNukes(List<Bullet> bullets) {
+    private void shootNukes(BulletStore bullets) {
         double speedMultiplier = Math.min(1.3, 0.4 + (level * 0.15)); // Increased speed scaling
         // 1-3 nukes since they're very powerful
         int numBullets = 1 + (level >= 4 ? 1 : 0) + (level >= 7 ? 1 : 0); // Increased from 1 + (level >= 5 ? 1 : 0)
@@ -739,13 +756,13 @@ public class Boss {
             double angle = Math.PI * 2 * i / numBullets;
             double spawnX = x + Math.cos(angle) * size * 1.5;
             double spawnY = y + Math.sin(angle) * size * 1.5;
-            bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * 1.5 * speedMultiplier, Math.sin(angle) * 1.5 * speedMultiplier, Bullet.BulletType.NUKE));
+            bullets.add(spawnX, spawnY, Math.cos(angle) * 1.5 * speedMultiplier, Math.sin(angle) * 1.5 * speedMultiplier, Bullet.BulletType.NUKE);
         }
     }
     
     // ========== MEGA BOSS SPECIAL ATTACKS ==========
     
-    private void shootMegaBarrage(List<Bullet> bullets, Player player) {
+    private void shootMegaBarrage(BulletStore bullets, Player player) {
         // Massive dense bullet storm aimed at player
         double speedMultiplier = Math.min(1.3, 0.4 + (level * 0.15)); // Increased speed scaling
         double angleToPlayer = Math.atan2(player.getY() - y, player.getX() - x);
@@ -755,13 +772,13 @@ public class Boss {
         for (int i = 0; i < numBullets; i++) {
             double spread = Math.PI / 3; // 60 degree cone
             double angle = angleToPlayer + (i / (double)numBullets - 0.5) * spread;
-            double speed = (2.5 + Math.random() * 2) * speedMultiplier;
+            double speed = (2.5 + random.nextDouble() * 2) * speedMultiplier;
             double spawnX = x + Math.cos(angle) * size * 1.5;
             double spawnY = y + Math.sin(angle) * size * 1.5;
             
             // Mix of bullet types for chaos
             Bullet.BulletType type;
-            double rand = Math.random();
+            double rand = random.nextDouble();
             if (rand < 0.3) {
                 type = Bullet.BulletType.FAST;
             } else if (rand < 0.5) {
@@ -772,11 +789,11 @@ public class Boss {
                 type = Bullet.BulletType.NORMAL;
             }
             
-            bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * speed, Math.sin(angle) * speed, type));
+            bullets.add(spawnX, spawnY, Math.cos(angle) * speed, Math.sin(angle) * speed, type);
         }
     }
     
-    private void shootMegaSpiral(List<Bullet> bullets) {
+    private void shootMegaSpiral(BulletStore bullets) {
         // Layered spiral with multiple speeds and types
         double speedMultiplier = Math.min(1.3, 0.4 + (level * 0.15)); // Increased speed scaling
         double angleOffset = shootTimer * 0.15;
@@ -795,12 +812,12 @@ public class Boss {
                 double speed = speeds[layer] * speedMultiplier;
                 double spawnX = x + Math.cos(angle) * size * 1.5;
                 double spawnY = y + Math.sin(angle) * size * 1.5;
-                bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * speed, Math.sin(angle) * speed, types[layer]));
+                bullets.add(spawnX, spawnY, Math.cos(angle) * speed, Math.sin(angle) * speed, types[layer]);
             }
         }
     }
     
-    private void shootMegaCross(List<Bullet> bullets, Player player) {
+    private void shootMegaCross(BulletStore bullets, Player player) {
         // Cross pattern with rotating arms + homing center
         double speedMultiplier = Math.min(1.3, 0.4 + (level * 0.15)); // Increased speed scaling
         double angleToPlayer = Math.atan2(player.getY() - y, player.getX() - x);
@@ -818,20 +835,20 @@ public class Boss {
                 double spawnY = y + Math.sin(angle) * size * 1.5;
                 
                 Bullet.BulletType type = (i % 3 == 0) ? Bullet.BulletType.LARGE : Bullet.BulletType.NORMAL;
-                bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * speed, Math.sin(angle) * speed, type));
+                bullets.add(spawnX, spawnY, Math.cos(angle) * speed, Math.sin(angle) * speed, type);
             }
         }
         
         // Center cluster of homing bullets
         for (int i = 0; i < 3 + level / 3; i++) {
-            double angle = angleToPlayer + (Math.random() - 0.5) * 0.8;
+            double angle = angleToPlayer + (random.nextDouble() - 0.5) * 0.8;
             double spawnX = x + Math.cos(angle) * size * 1.5;
             double spawnY = y + Math.sin(angle) * size * 1.5;
-            bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * 2.5 * speedMultiplier, Math.sin(angle) * 2.5 * speedMultiplier, Bullet.BulletType.HOMING));
+            bullets.add(spawnX, spawnY, Math.cos(angle) * 2.5 * speedMultiplier, Math.sin(angle) * 2.5 * speedMultiplier, Bullet.BulletType.HOMING);
         }
     }
     
-    private void shootMegaStar(List<Bullet> bullets) {
+    private void shootMegaStar(BulletStore bullets) {
         // Star burst with splitting bullets
         double speedMultiplier = Math.min(1.3, 0.4 + (level * 0.15)); // Increased speed scaling
         int numPoints = 6 + level / 3; // 6-9 points
@@ -849,7 +866,7 @@ public class Boss {
                 
                 // Outer bullets split, inner bullets are large
                 Bullet.BulletType type = (i <= 1 || i >= 3) ? Bullet.BulletType.SPLITTING : Bullet.BulletType.LARGE;
-                bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * speed, Math.sin(angle) * speed, type));
+                bullets.add(spawnX, spawnY, Math.cos(angle) * speed, Math.sin(angle) * speed, type);
             }
         }
         
@@ -858,11 +875,11 @@ public class Boss {
             double angle = Math.PI * 2 * i / (4 + level / 3);
             double spawnX = x + Math.cos(angle) * size * 1.5;
             double spawnY = y + Math.sin(angle) * size * 1.5;
-            bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * 1.5 * speedMultiplier, Math.sin(angle) * 1.5 * speedMultiplier, Bullet.BulletType.BOMB));
+            bullets.add(spawnX, spawnY, Math.cos(angle) * 1.5 * speedMultiplier, Math.sin(angle) * 1.5 * speedMultiplier, Bullet.BulletType.BOMB);
         }
     }
     
-    private void shootMegaHex(List<Bullet> bullets, Player player) {
+    private void shootMegaHex(BulletStore bullets, Player player) {
         // Hexagonal formation with wave bullets + grenades
         double speedMultiplier = Math.min(1.0, 0.4 + (level * 0.12));
         double angleToPlayer = Math.atan2(player.getY() - y, player.getX() - x);
@@ -877,7 +894,7 @@ public class Boss {
                 double speed = (2.5 + Math.sin(i * 0.5)) * speedMultiplier;
                 double spawnX = x + Math.cos(angle) * size * 1.5;
                 double spawnY = y + Math.sin(angle) * size * 1.5;
-                bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * speed, Math.sin(angle) * speed, Bullet.BulletType.WAVE));
+                bullets.add(spawnX, spawnY, Math.cos(angle) * speed, Math.sin(angle) * speed, Bullet.BulletType.WAVE);
             }
         }
         
@@ -886,7 +903,7 @@ public class Boss {
             double angle = angleToPlayer + (i - 1) * 0.4;
             double spawnX = x + Math.cos(angle) * size * 1.5;
             double spawnY = y + Math.sin(angle) * size * 1.5;
-            bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * 3 * speedMultiplier, Math.sin(angle) * 3 * speedMultiplier, Bullet.BulletType.GRENADE));
+            bullets.add(spawnX, spawnY, Math.cos(angle) * 3 * speedMultiplier, Math.sin(angle) * 3 * speedMultiplier, Bullet.BulletType.GRENADE);
         }
         
         // Ring of accelerating bullets
@@ -894,7 +911,7 @@ public class Boss {
             double angle = Math.PI * 2 * i / (10 + level);
             double spawnX = x + Math.cos(angle) * size * 1.5;
             double spawnY = y + Math.sin(angle) * size * 1.5;
-            bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * 1.8 * speedMultiplier, Math.sin(angle) * 1.8 * speedMultiplier, Bullet.BulletType.ACCELERATING));
+            bullets.add(spawnX, spawnY, Math.cos(angle) * 1.8 * speedMultiplier, Math.sin(angle) * 1.8 * speedMultiplier, Bullet.BulletType.ACCELERATING);
         }
     }
     
@@ -902,9 +919,9 @@ public class Boss {
     
     private void spawnBeamAttack(int screenWidth, int screenHeight) {
         // Mega bosses have more intense beam patterns
-        if (isMegaBoss && Math.random() < 0.35) {
+        if (isMegaBoss && random.nextDouble() < 0.35) {
             // 35% chance for mega boss special beam patterns (reduced from 50%)
-            int specialBeam = (int)(Math.random() * 3);
+            int specialBeam = (int)(random.nextDouble() * 3);
             switch (specialBeam) {
                 case 0: // Cross pattern beams
                     spawnCrossBeams(screenWidth, screenHeight);
@@ -919,13 +936,13 @@ public class Boss {
         }
         
         // Randomly choose between vertical and horizontal beams
-        boolean isVertical = Math.random() < 0.5;
+        boolean isVertical = random.nextDouble() < 0.5;
         
         if (isVertical) {
             // Spawn 1-3 vertical beams depending on level
             int numBeams = 1 + (level >= 5 ? 1 : 0) + (level >= 8 ? 1 : 0);
             for (int i = 0; i < numBeams; i++) {
-                double position = screenWidth * (0.2 + Math.random() * 0.6);
+                double position = screenWidth * (0.2 + random.nextDouble() * 0.6);
                 double width = 40 + level * 5; // Wider beams at higher levels
                 beamAttacks.add(new BeamAttack(position, width, BeamAttack.BeamType.VERTICAL));
             }
@@ -933,7 +950,7 @@ public class Boss {
             // Spawn 1-3 horizontal beams depending on level
             int numBeams = 1 + (level >= 5 ? 1 : 0) + (level >= 8 ? 1 : 0);
             for (int i = 0; i < numBeams; i++) {
-                double position = screenHeight * (0.3 + Math.random() * 0.5);
+                double position = screenHeight * (0.3 + random.nextDouble() * 0.5);
                 double width = 40 + level * 5; // Wider beams at higher levels
                 beamAttacks.add(new BeamAttack(position, width, BeamAttack.BeamType.HORIZONTAL));
             }
@@ -943,8 +960,8 @@ public class Boss {
     private void spawnCrossBeams(int screenWidth, int screenHeight) {
         // One vertical and one horizontal beam forming a cross
         double width = 50 + level * 6;
-        double verticalX = screenWidth * (0.3 + Math.random() * 0.4);
-        double horizontalY = screenHeight * (0.35 + Math.random() * 0.3);
+        double verticalX = screenWidth * (0.3 + random.nextDouble() * 0.4);
+        double horizontalY = screenHeight * (0.35 + random.nextDouble() * 0.3);
         
         beamAttacks.add(new BeamAttack(verticalX, width, BeamAttack.BeamType.VERTICAL));
         beamAttacks.add(new BeamAttack(horizontalY, width, BeamAttack.BeamType.HORIZONTAL));
@@ -1204,9 +1221,61 @@ public class Boss {
         this.x = x; 
         this.y = y; 
     }
+    // Position at the start of the current simulation tick (for render interpolation)
+    public void savePreviousPosition() {
+        prevX = x;
+        prevY = y;
+    }
+
+    // Offset from the simulated position to the interpolated one (alpha 0 = previous tick, 1 = current)
+    public double getRenderOffsetX(double alpha) { return (alpha - 1.0) * (x - prevX); }
+    public double getRenderOffsetY(double alpha) { return (alpha - 1.0) * (y - prevY); }
+
+    // Copy all state except beams and random streams (render copies in FrameSnapshot)
+    public void copyFrom(Boss other) {
+        x = other.x;
+        y = other.y;
+        prevX = other.prevX;
+        prevY = other.prevY;
+        vx = other.vx;
+        vy = other.vy;
+        ax = other.ax;
+        ay = other.ay;
+        rotation = other.rotation;
+        targetRotation = other.targetRotation;
+        angularVelocity = other.angularVelocity;
+        level = other.level;
+        isMegaBoss = other.isMegaBoss;
+        size = other.size;
+        shootTimer = other.shootTimer;
+        shootInterval = other.shootInterval;
+        patternType = other.patternType;
+        maxPatterns = other.maxPatterns;
+        targetX = other.targetX;
+        targetY = other.targetY;
+        moveTimer = other.moveTimer;
+        beamAttackTimer = other.beamAttackTimer;
+        beamAttackInterval = other.beamAttackInterval;
+        bladeRotation = other.bladeRotation;
+        maxHealth = other.maxHealth;
+        currentHealth = other.currentHealth;
+        currentPhase = other.currentPhase;
+        phaseTransitioning = other.phaseTransitioning;
+        phaseTransitionTimer = other.phaseTransitionTimer;
+        isAssaultPhase = other.isAssaultPhase;
+        attackPhaseTimer = other.attackPhaseTimer;
+        assaultPhaseDuration = other.assaultPhaseDuration;
+        recoveryPhaseDuration = other.recoveryPhaseDuration;
+        assaultSpeedMultiplier = other.assaultSpeedMultiplier;
+        recoverySpeedMultiplier = other.recoverySpeedMultiplier;
+        phaseFlashTimer = other.phaseFlashTimer;
+        justChangedPhase = other.justChangedPhase;
+    }
+    
     public int getSize() { return size; }
     public double getHitboxRadius() { return size * 0.6; } // 60% of sprite size for fitting hitbox
     public boolean isMegaBoss() { return isMegaBoss; }
+    public int getLevel() { return level; }
     public String getVehicleName() { return getVehicleName(level); }
     
     // Attack phase getters
@@ -0,0 +1,134 @@
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+// Every bullet sprite pre-rendered at its on-screen size and ANGLES quantized
+// rotations, with its shadow baked into the same cell, packed into one image.
+// Bullet.draw then needs a single untransformed sub-rect drawImage per bullet:
+// no Graphics2D copy, no transform, no per-bullet AlphaComposite.
+// Built lazily on the render thread once the sprites are loaded, and rebuilt
+// only when the shadow setting changes.
+final class BulletAtlas {
+    static final int ANGLES = 64; // 5.6 degrees per step
+    private static final int ATLAS_WIDTH = 1152; // 16 of the largest cells per row
+
+    private static BufferedImage atlas;
+    private static boolean builtWithShadows;
+    private static final int[] cellSize = new int[Bullet.SPRITE_COUNT];
+    private static final int[] cellsPerRow = new int[Bullet.SPRITE_COUNT];
+    private static final int[] originY = new int[Bullet.SPRITE_COUNT]; // Top of each sprite's block
+    private static final double ANGLE_STEP = Math.PI * 2 / ANGLES;
+
+    private BulletAtlas() {
+    }
+
+    static boolean isBuilt(boolean withShadows) {
+        return atlas != null && builtWithShadows == withShadows;
+    }
+
+    // Rotation step for a direction of travel (radians)
+    static int angleIndex(double angle) {
+        return (int) Math.round(angle / ANGLE_STEP) & (ANGLES - 1);
+    }
+
+    // Side of a sprite's cell: rotated bounding box plus the shadow offset on
+    // every side, and a pixel for rounding
+    static int cellSize(int spriteSize, double shadowDistance) {
+        return (int) Math.ceil(spriteSize * Math.sqrt(2)) + (int) Math.ceil(shadowDistance) * 2 + 2;
+    }
+
+    // Blit one bullet centered on (x, y); the caller sets any flicker composite
+    static void draw(Graphics2D g, int spriteIndex, int angleIndex, double x, double y) {
+        int cell = cellSize[spriteIndex];
+        if (cell == 0) return;
+        int sx = (angleIndex % cellsPerRow[spriteIndex]) * cell;
+        int sy = originY[spriteIndex] + (angleIndex / cellsPerRow[spriteIndex]) * cell;
+        int dx = (int) Math.floor(x) - cell / 2;
+        int dy = (int) Math.floor(y) - cell / 2;
+        g.drawImage(atlas, dx, dy, dx + cell, dy + cell, sx, sy, sx + cell, sy + cell, null);
+    }
+
+    static void build(BufferedImage[] sprites, BufferedImage[] shadows, int[] spriteSizes,
+                      boolean withShadows, double sunAngle, double shadowDistance, double shadowScale) {
+        // Lay out one block of ANGLES cells per sprite, rows of whole cells
+        int height = 0;
+        for (int s = 0; s < Bullet.SPRITE_COUNT; s++) {
+            if (sprites[s] == null) {
+                cellSize[s] = 0;
+                continue;
+            }
+            int cell = cellSize(spriteSizes[s], shadowDistance);
+            cellSize[s] = cell;
+            cellsPerRow[s] = ATLAS_WIDTH / cell;
+            originY[s] = height;
+            height += (ANGLES + cellsPerRow[s] - 1) / cellsPerRow[s] * cell;
+        }
+
+        BufferedImage image = createImage(ATLAS_WIDTH, Math.max(1, height));
+        Graphics2D g = image.createGraphics();
+        Color shadowColor = new Color(0, 0, 0);
+        AlphaComposite spriteShadowAlpha = AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.5f);
+        AlphaComposite ovalShadowAlpha = AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.4f);
+
+        for (int s = 0; s < Bullet.SPRITE_COUNT; s++) {
+            int cell = cellSize[s];
+            if (cell == 0) continue;
+            BufferedImage sprite = sprites[s];
+            int spriteSize = spriteSizes[s];
+            double scale = (double) spriteSize / Math.max(sprite.getWidth(), sprite.getHeight());
+            int drawWidth = (int)(sprite.getWidth() * scale);
+            int drawHeight = (int)(sprite.getHeight() * scale);
+
+            for (int a = 0; a < ANGLES; a++) {
+                Graphics2D cg = (Graphics2D) g.create();
+                cg.translate((a % cellsPerRow[s]) * cell + cell / 2, originY[s] + (a / cellsPerRow[s]) * cell + cell / 2);
+                cg.clipRect(-cell / 2, -cell / 2, cell, cell);
+                double objectRotation = a * ANGLE_STEP + Math.PI / 2;
+                cg.rotate(objectRotation);
+
+                if (withShadows) {
+                    // Offset in the rotated frame so the shadow always falls toward the sun angle
+                    double relativeAngle = sunAngle - objectRotation;
+                    double shadowOffsetX = Math.cos(relativeAngle) * shadowDistance;
+                    double shadowOffsetY = Math.sin(relativeAngle) * shadowDistance;
+                    BufferedImage shadow = shadows[s];
+                    if (shadow != null) {
+                        double shadowFit = (double) spriteSize / Math.max(shadow.getWidth(), shadow.getHeight());
+                        int shadowWidth = (int)(shadow.getWidth() * shadowFit);
+                        int shadowHeight = (int)(shadow.getHeight() * shadowFit);
+                        cg.setComposite(spriteShadowAlpha);
+                        cg.drawImage(shadow, (int)(-shadowWidth/2 + shadowOffsetX), (int)(-shadowHeight/2 + shadowOffsetY),
+                            shadowWidth, shadowHeight, null);
+                    } else {
+                        // Oval shadow, taller than wide
+                        int shadowSize = (int)(spriteSize * shadowScale);
+                        int shadowWidth = (int)(shadowSize * 0.7);
+                        int shadowHeight = (int)(shadowSize * 1.3);
+                        cg.setComposite(ovalShadowAlpha);
+                        cg.setColor(shadowColor);
+                        cg.fillOval((int)(-shadowWidth/2 + shadowOffsetX), (int)(-shadowHeight/2 + shadowOffsetY),
+                            shadowWidth, shadowHeight);
+                    }
+                    cg.setComposite(AlphaComposite.SrcOver);
+                }
+
+                cg.drawImage(sprite, -drawWidth/2, -drawHeight/2, drawWidth, drawHeight, null);
+                cg.dispose();
+            }
+        }
+        g.dispose();
+
+        atlas = image;
+        builtWithShadows = withShadows;
+    }
+
+    // A compatible (managed) image can be cached in video memory by Java2D and,
+    // unlike a VolatileImage, never loses its contents
+    private static BufferedImage createImage(int width, int height) {
+        if (!GraphicsEnvironment.isHeadless()) {
+            GraphicsConfiguration config = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice().getDefaultConfiguration();
+            return config.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+        }
+        return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+    }
+}
@@ -0,0 +1,106 @@
+import java.util.Arrays;
+
+// Fixed-size uniform grid for bullet broadphase.
+// Covers the playfield plus the off-screen margin bullets are allowed to
+// live in. Rebuilt every frame with a counting sort into flat int arrays:
+// one pass counts bullets per cell, a prefix sum turns counts into start
+// offsets, a second pass scatters bullet indices. No allocation once the
+// arrays have grown to the peak bullet count.
+public class BulletGrid {
+    public static final int CELL_SIZE = 50;
+    private static final double INV_CELL_SIZE = 1.0 / CELL_SIZE;
+    private static final int MARGIN = 100; // Matches BulletStore.isOffScreen margin
+
+    private final int cols;
+    private final int rows;
+
+    private final int[] cellStart; // cells + 1 entries; cell c owns [cellStart[c], cellStart[c + 1])
+    private final int[] cellCount; // Per-cell count, reused as the scatter cursor
+    private int[] cellBullets = new int[BulletStore.INITIAL_CAPACITY]; // Bullet indices sorted by cell
+    private int[] bulletCell = new int[BulletStore.INITIAL_CAPACITY];  // Cell of each bullet (-1 = not in grid)
+
+    // Result of the last neighborhood query: up to 3 row ranges into cellBullets
+    private final int[] rangeStart = new int[3];
+    private final int[] rangeEnd = new int[3];
+
+    public BulletGrid(int width, int height) {
+        cols = (width + MARGIN * 2) / CELL_SIZE + 1;
+        rows = (height + MARGIN * 2) / CELL_SIZE + 1;
+        cellStart = new int[cols * rows + 1];
+        cellCount = new int[cols * rows];
+    }
+
+    private int cellX(double x) {
+        int cx = (int)((x + MARGIN) * INV_CELL_SIZE);
+        return cx < 0 ? 0 : (cx >= cols ? cols - 1 : cx);
+    }
+
+    private int cellY(double y) {
+        int cy = (int)((y + MARGIN) * INV_CELL_SIZE);
+        return cy < 0 ? 0 : (cy >= rows ? rows - 1 : cy);
+    }
+
+    // Rebuild from all active bullets (warning-phase bullets can't collide)
+    public void rebuild(BulletStore bullets) {
+        int n = bullets.size();
+        if (bulletCell.length < n) {
+            int capacity = Math.max(n, bulletCell.length * 2);
+            bulletCell = Arrays.copyOf(bulletCell, capacity);
+            cellBullets = Arrays.copyOf(cellBullets, capacity);
+        }
+
+        // Pass 1: count bullets per cell
+        Arrays.fill(cellCount, 0);
+        for (int i = 0; i < n; i++) {
+            if (bullets.isActive(i)) {
+                int cell = cellY(bullets.getY(i)) * cols + cellX(bullets.getX(i));
+                bulletCell[i] = cell;
+                cellCount[cell]++;
+            } else {
+                bulletCell[i] = -1;
+            }
+        }
+
+        // Prefix sum: counts -> start offsets (cellCount becomes the write cursor)
+        int offset = 0;
+        for (int c = 0; c < cellCount.length; c++) {
+            cellStart[c] = offset;
+            offset += cellCount[c];
+            cellCount[c] = cellStart[c];
+        }
+        cellStart[cellCount.length] = offset;
+
+        // Pass 2: scatter bullet indices into their cell's slice
+        for (int i = 0; i < n; i++) {
+            int cell = bulletCell[i];
+            if (cell >= 0) {
+                cellBullets[cellCount[cell]++] = i;
+            }
+        }
+    }
+
+    // Find the 3x3 cells around (x, y). Cells in a row are contiguous, so the
+    // neighborhood is at most 3 index ranges; returns how many.
+    public int queryNeighborhood(double x, double y) {
+        int cx = cellX(x);
+        int cy = cellY(y);
+        int colFrom = cx > 0 ? cx - 1 : 0;
+        int colTo = cx < cols - 1 ? cx + 1 : cx;
+        int rowFrom = cy > 0 ? cy - 1 : 0;
+        int rowTo = cy < rows - 1 ? cy + 1 : cy;
+
+        int ranges = 0;
+        for (int row = rowFrom; row <= rowTo; row++) {
+            rangeStart[ranges] = cellStart[row * cols + colFrom];
+            rangeEnd[ranges] = cellStart[row * cols + colTo + 1];
+            ranges++;
+        }
+        return ranges;
+    }
+
+    public int getRangeStart(int range) { return rangeStart[range]; }
+    public int getRangeEnd(int range) { return rangeEnd[range]; }
+
+    // Bullet index at position k of a range
+    public int getBullet(int k) { return cellBullets[k]; }
+}
@@ -0,0 +1,481 @@
+import java.awt.Color;
+import java.util.Arrays;
+
+// Structure-of-arrays storage for all live bullets.
+// Each bullet is an index into parallel primitive arrays so the per-frame
+// update, collision and draw loops walk contiguous memory instead of chasing
+// one heap object per bullet.
+public class BulletStore {
+    static final int INITIAL_CAPACITY = 512;
+
+    // Flag bits
+    private static final byte FLAG_GRAZED = 1; // Player already grazed this bullet
+    private static final byte FLAG_SPLIT = 2;  // Splitting bullet already split
+    private static final byte FLAG_DEAD = 4;   // Marked for removal
+
+    // Cached enum values (avoid values() clone per lookup)
+    private static final Bullet.BulletType[] TYPES = Bullet.BulletType.values();
+
+    // Cached colors for performance
+    private static final Color TRAIL_YELLOW = new Color(255, 220, 0, 180);
+    private static final Color TRAIL_PURPLE = new Color(200, 50, 255, 180);
+
+    // Cached math constants
+    private static final double TWO_PI = Math.PI * 2;
+    private static final double HALF_PI = Math.PI / 2;
+
+    private int count;
+
+    // Slot reuse stats for the current level (reset by Simulation.startLevel).
+    // A hit is any add that fit in the existing capacity, so hits count spawns
+    // that did not grow the store; a miss had to grow the arrays. Steady-state
+    // combat should only ever hit.
+    private long poolHits;
+    private long poolMisses;
+
+    private int nextSpriteVariant; // Cycles 0-2, avoids Math.random() per spawn
+
+    // Hot data (touched every frame)
+    private double[] x;
+    private double[] y;
+    private double[] vx;
+    private double[] vy;
+    private double[] age; // Frames since activation
+    private int[] warningTime; // Frames before bullet activates
+    private byte[] type; // Bullet.BulletType ordinal
+    private byte[] flags;
+
+    // Type-specific data
+    private double[] spiralAngle; // For spiral bullets
+    private double[] explosionTimer; // Time until explosion for bombs
+    private double[] cachedSpeed; // Cached speed (avoid repeated sqrt)
+    private int[] speedCacheAge;
+    private byte[] spriteVariant; // Which variant (0-2) for bombs/grenades
+    private byte[] bounceCount; // Number of times bounced
+
+    // Render interpolation only (positions at the start of the tick)
+    private double[] prevX;
+    private double[] prevY;
+
+    // Gameplay (fragment speeds) and cosmetic (explosion particles) random streams
+    private final GameRandom random;
+    private final GameRandom fxRandom;
+
+    public BulletStore(GameRandom random, GameRandom fxRandom) {
+        this(INITIAL_CAPACITY, random, fxRandom);
+    }
+
+    public BulletStore(int capacity, GameRandom random, GameRandom fxRandom) {
+        this.random = random;
+        this.fxRandom = fxRandom;
+        x = new double[capacity];
+        y = new double[capacity];
+        vx = new double[capacity];
+        vy = new double[capacity];
+        age = new double[capacity];
+        warningTime = new int[capacity];
+        type = new byte[capacity];
+        flags = new byte[capacity];
+        spiralAngle = new double[capacity];
+        explosionTimer = new double[capacity];
+        cachedSpeed = new double[capacity];
+        speedCacheAge = new int[capacity];
+        spriteVariant = new byte[capacity];
+        bounceCount = new byte[capacity];
+        prevX = new double[capacity];
+        prevY = new double[capacity];
+    }
+
+    private void grow() {
+        int capacity = x.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        vx = Arrays.copyOf(vx, capacity);
+        vy = Arrays.copyOf(vy, capacity);
+        age = Arrays.copyOf(age, capacity);
+        warningTime = Arrays.copyOf(warningTime, capacity);
+        type = Arrays.copyOf(type, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+        spiralAngle = Arrays.copyOf(spiralAngle, capacity);
+        explosionTimer = Arrays.copyOf(explosionTimer, capacity);
+        cachedSpeed = Arrays.copyOf(cachedSpeed, capacity);
+        speedCacheAge = Arrays.copyOf(speedCacheAge, capacity);
+        spriteVariant = Arrays.copyOf(spriteVariant, capacity);
+        bounceCount = Arrays.copyOf(bounceCount, capacity);
+        prevX = Arrays.copyOf(prevX, capacity);
+        prevY = Arrays.copyOf(prevY, capacity);
+    }
+
+    // Copy every bullet from another store (render copies in FrameSnapshot).
+    // Grows to the source's size; otherwise reuses the existing arrays.
+    public void copyFrom(BulletStore other) {
+        int n = other.count;
+        while (x.length < n) {
+            grow();
+        }
+        System.arraycopy(other.x, 0, x, 0, n);
+        System.arraycopy(other.y, 0, y, 0, n);
+        System.arraycopy(other.vx, 0, vx, 0, n);
+        System.arraycopy(other.vy, 0, vy, 0, n);
+        System.arraycopy(other.age, 0, age, 0, n);
+        System.arraycopy(other.warningTime, 0, warningTime, 0, n);
+        System.arraycopy(other.type, 0, type, 0, n);
+        System.arraycopy(other.flags, 0, flags, 0, n);
+        System.arraycopy(other.spiralAngle, 0, spiralAngle, 0, n);
+        System.arraycopy(other.explosionTimer, 0, explosionTimer, 0, n);
+        System.arraycopy(other.cachedSpeed, 0, cachedSpeed, 0, n);
+        System.arraycopy(other.speedCacheAge, 0, speedCacheAge, 0, n);
+        System.arraycopy(other.spriteVariant, 0, spriteVariant, 0, n);
+        System.arraycopy(other.bounceCount, 0, bounceCount, 0, n);
+        System.arraycopy(other.prevX, 0, prevX, 0, n);
+        System.arraycopy(other.prevY, 0, prevY, 0, n);
+        count = n;
+    }
+
+    public int size() { return count; }
+    public int capacity() { return x.length; }
+    public boolean isEmpty() { return count == 0; }
+    public void clear() { count = 0; }
+
+    public int add(double x, double y, double vx, double vy) {
+        return add(x, y, vx, vy, Bullet.BulletType.NORMAL);
+    }
+
+    // Append a bullet and return its index
+    public int add(double x, double y, double vx, double vy, Bullet.BulletType bulletType) {
+        if (count == this.x.length) {
+            grow();
+            poolMisses++;
+        } else {
+            poolHits++;
+        }
+        int i = count++;
+        this.x[i] = x;
+        this.y[i] = y;
+        this.prevX[i] = x;
+        this.prevY[i] = y;
+        this.vx[i] = vx;
+        this.vy[i] = vy;
+        this.type[i] = (byte) bulletType.ordinal();
+        this.warningTime[i] = Bullet.WARNING_DURATION;
+        this.age[i] = 0;
+        this.flags[i] = 0;
+        this.spiralAngle[i] = 0;
+        this.explosionTimer[i] = Bullet.EXPLOSION_TIME;
+        this.cachedSpeed[i] = 0;
+        this.speedCacheAge[i] = 0;
+        this.spriteVariant[i] = (byte) nextSpriteVariant; // Variant 0-2
+        nextSpriteVariant = nextSpriteVariant == 2 ? 0 : nextSpriteVariant + 1;
+        this.bounceCount[i] = 0;
+        return i;
+    }
+
+    public long getPoolHits() { return poolHits; }
+    public long getPoolMisses() { return poolMisses; }
+
+    public void resetPoolStats() {
+        poolHits = 0;
+        poolMisses = 0;
+    }
+
+    // Remove one bullet in O(1) by moving the last bullet into its slot.
+    // Does not keep draw order; use kill() + removeDead(true) for that.
+    public void remove(int i) {
+        count--;
+        if (i != count) {
+            copy(count, i);
+        }
+    }
+
+    // Mark a bullet for removal without disturbing other indices
+    public void kill(int i) { flags[i] |= FLAG_DEAD; }
+    public boolean isDead(int i) { return (flags[i] & FLAG_DEAD) != 0; }
+
+    // Drop every bullet marked by kill(), keeping draw order
+    public void removeDead() {
+        removeDead(true);
+    }
+
+    // Drop every bullet marked by kill(); returns the number removed.
+    // stableOrder compacts in one forward pass, otherwise holes are filled from the end.
+    public int removeDead(boolean stableOrder) {
+        int original = count;
+        if (stableOrder) {
+            int write = 0;
+            for (int read = 0; read < count; read++) {
+                if ((flags[read] & FLAG_DEAD) != 0) continue;
+                if (write != read) {
+                    copy(read, write);
+                }
+                write++;
+            }
+            count = write;
+        } else {
+            int i = 0;
+            while (i < count) {
+                if ((flags[i] & FLAG_DEAD) != 0) {
+                    remove(i); // Recheck slot i, it now holds the former last bullet
+                } else {
+                    i++;
+                }
+            }
+        }
+        return original - count;
+    }
+
+    private void copy(int from, int to) {
+        x[to] = x[from];
+        y[to] = y[from];
+        vx[to] = vx[from];
+        vy[to] = vy[from];
+        age[to] = age[from];
+        warningTime[to] = warningTime[from];
+        type[to] = type[from];
+        flags[to] = flags[from];
+        spiralAngle[to] = spiralAngle[from];
+        explosionTimer[to] = explosionTimer[from];
+        cachedSpeed[to] = cachedSpeed[from];
+        speedCacheAge[to] = speedCacheAge[from];
+        spriteVariant[to] = spriteVariant[from];
+        bounceCount[to] = bounceCount[from];
+        prevX[to] = prevX[from];
+        prevY[to] = prevY[from];
+    }
+
+    public void update(int i, Player player, int screenWidth, int screenHeight, double deltaTime) {
+        if (warningTime[i] > 0) {
+            warningTime[i] -= deltaTime;
+            return;
+        }
+
+        age[i] += deltaTime;
+        double bx = x[i];
+        double by = y[i];
+        double bvx = vx[i];
+        double bvy = vy[i];
+
+        // Type-specific behavior
+        switch (TYPES[type[i]]) {
+            case FAST:
+                // Already faster from initial velocity
+                break;
+            case HOMING:
+                if (player != null) {
+                    // Slightly adjust direction towards player
+                    double angleToPlayer = Math.atan2(player.getY() - by, player.getX() - bx);
+                    double currentAngle = Math.atan2(bvy, bvx);
+                    double angleDiff = angleToPlayer - currentAngle;
+                    // Normalize angle (optimized)
+                    if (angleDiff > Math.PI) angleDiff -= TWO_PI;
+                    else if (angleDiff < -Math.PI) angleDiff += TWO_PI;
+                    // Turn slightly towards player (scaled by delta time)
+                    currentAngle += angleDiff * 0.02 * deltaTime;
+                    // Cache and reuse speed calculation
+                    if (speedCacheAge[i] > 10 || cachedSpeed[i] == 0) {
+                        cachedSpeed[i] = Math.sqrt(bvx * bvx + bvy * bvy);
+                        speedCacheAge[i] = 0;
+                    } else {
+                        speedCacheAge[i]++;
+                    }
+                    bvx = Math.cos(currentAngle) * cachedSpeed[i];
+                    bvy = Math.sin(currentAngle) * cachedSpeed[i];
+                }
+                break;
+            case BOUNCING:
+                // Bounce off walls (only once)
+                if (bounceCount[i] < Bullet.MAX_BOUNCES) {
+                    if (bx < 10 || bx > screenWidth - 10) {
+                        bvx *= -1;
+                        bounceCount[i]++;
+                    }
+                    if (by < 10 || by > screenHeight - 10) {
+                        bvy *= -1;
+                        bounceCount[i]++;
+                    }
+                }
+                break;
+            case SPIRAL:
+                // Rotate velocity vector to create spiral motion
+                spiralAngle[i] += 0.08;
+                // Cache speed and angle calculations
+                if (speedCacheAge[i] > 10 || cachedSpeed[i] == 0) {
+                    cachedSpeed[i] = Math.sqrt(bvx * bvx + bvy * bvy);
+                    speedCacheAge[i] = 0;
+                } else {
+                    speedCacheAge[i]++;
+                }
+                double baseAngle = Math.atan2(bvy, bvx);
+                double spiralOffset = Math.sin(spiralAngle[i]) * 0.5;
+                double newAngle = baseAngle + spiralOffset;
+                bvx = Math.cos(newAngle) * cachedSpeed[i];
+                bvy = Math.sin(newAngle) * cachedSpeed[i];
+                break;
+            case ACCELERATING:
+                // Speed up over time
+                double accelFactor = Math.min(1 + (age[i] * 0.01), 1.05);
+                bvx *= accelFactor;
+                bvy *= accelFactor;
+                break;
+            case WAVE:
+                // Move in sine wave pattern
+                double perpAngle = Math.atan2(bvy, bvx) + HALF_PI;
+                double waveOffset = Math.sin(age[i] * 0.2) * 2 * deltaTime;
+                bx += Math.cos(perpAngle) * waveOffset;
+                by += Math.sin(perpAngle) * waveOffset;
+                break;
+            case BOMB:
+            case GRENADE:
+            case NUKE:
+                // Slow down over time (1% per frame)
+                double slow = Math.pow(0.99, deltaTime);
+                bvx *= slow;
+                bvy *= slow;
+
+                // Count down to explosion
+                explosionTimer[i] -= deltaTime;
+                break;
+            case FRAGMENT:
+                // Fragments just fly straight
+                break;
+            default:
+                break;
+        }
+
+        // Move bullet (scaled by delta time)
+        x[i] = bx + bvx * deltaTime;
+        y[i] = by + bvy * deltaTime;
+        vx[i] = bvx;
+        vy[i] = bvy;
+    }
+
+    public void applySlow(int i, double factor) {
+        vx[i] *= factor;
+        vy[i] *= factor;
+    }
+
+    public boolean shouldSpawnTrail(int i) {
+        // Fast and accelerating bullets spawn trails when active
+        Bullet.BulletType t = TYPES[type[i]];
+        return warningTime[i] <= 0 && (t == Bullet.BulletType.FAST || t == Bullet.BulletType.ACCELERATING);
+    }
+
+    public Color getTrailColor(int i) {
+        // Return appropriate trail color based on bullet type
+        Bullet.BulletType t = TYPES[type[i]];
+        if (t == Bullet.BulletType.FAST) {
+            return TRAIL_YELLOW;
+        } else if (t == Bullet.BulletType.ACCELERATING) {
+            return TRAIL_PURPLE;
+        }
+        return Color.WHITE;
+    }
+
+    public boolean isExplosive(int i) {
+        Bullet.BulletType t = TYPES[type[i]];
+        return t == Bullet.BulletType.BOMB || t == Bullet.BulletType.GRENADE || t == Bullet.BulletType.NUKE;
+    }
+
+    public boolean shouldExplode(int i) {
+        return isExplosive(i) && explosionTimer[i] <= 0;
+    }
+
+    // Spawn the explosion effect through the shared emitter
+    public void spawnExplosionParticles(int i, ParticleEmitter emitter) {
+        Bullet.BulletType t = TYPES[type[i]];
+        if (t == Bullet.BulletType.NUKE) {
+            emitter.burst(EmitterDefinition.NUKE_EXPLOSION, x[i], y[i]);
+            emitter.burst(EmitterDefinition.NUKE_RINGS, x[i], y[i]);
+        } else if (t == Bullet.BulletType.GRENADE) {
+            emitter.burst(EmitterDefinition.GRENADE_EXPLOSION, x[i], y[i]);
+            emitter.burst(EmitterDefinition.GRENADE_RINGS, x[i], y[i]);
+        } else {
+            emitter.burst(EmitterDefinition.BOMB_EXPLOSION, x[i], y[i]);
+            emitter.burst(EmitterDefinition.BOMB_RINGS, x[i], y[i]);
+        }
+    }
+
+    // Spawn explosion fragments in all directions (appended after the current bullets)
+    public void spawnFragments(int i) {
+        Bullet.BulletType t = TYPES[type[i]];
+        int fragmentCount = (t == Bullet.BulletType.NUKE) ? 16 : 8;
+        double ox = x[i];
+        double oy = y[i];
+
+        for (int j = 0; j < fragmentCount; j++) {
+            double angle = (TWO_PI * j) / fragmentCount;
+            double speed = 2.0 + random.nextDouble() * 1.5;
+            int fragment = add(ox, oy, Math.cos(angle) * speed, Math.sin(angle) * speed, Bullet.BulletType.FRAGMENT);
+            spriteVariant[fragment] = (byte)(j % 2); // Alternate between Fragment Proj 1 & 2
+        }
+    }
+
+    public boolean isOffScreen(int i, int width, int height) {
+        // Check if bullet is completely off screen with generous margin
+        int margin = 100;
+        // Homing bullets expire after lifetime
+        if (type[i] == Bullet.BulletType.HOMING.ordinal() && age[i] > Bullet.HOMING_LIFETIME) {
+            return true;
+        }
+        double bx = x[i];
+        double by = y[i];
+        return bx < -margin || bx > width + margin || by < -margin || by > height + margin;
+    }
+
+    public boolean collidesWith(int i, Player player) {
+        if (warningTime[i] > 0) return false; // Can't hit during warning
+        double dx = x[i] - player.getX();
+        double dy = y[i] - player.getY();
+        double distanceSquared = dx * dx + dy * dy;
+        // Smaller hitbox (30% of sprite size) - use squared distance to avoid sqrt
+        double threshold = (Bullet.hitSize(TYPES[type[i]]) * 0.5) + (player.getSize() * 0.3);
+        return distanceSquared < threshold * threshold;
+    }
+
+    public boolean shouldSplit(int i) {
+        return type[i] == Bullet.BulletType.SPLITTING.ordinal() && (flags[i] & FLAG_SPLIT) == 0 && age[i] > 60;
+    }
+
+    public void markAsSplit(int i) { flags[i] |= FLAG_SPLIT; }
+
+    public boolean hasGrazed(int i) { return (flags[i] & FLAG_GRAZED) != 0; }
+
+    public void setGrazed(int i, boolean grazed) {
+        if (grazed) {
+            flags[i] |= FLAG_GRAZED;
+        } else {
+            flags[i] &= ~FLAG_GRAZED;
+        }
+    }
+
+    public boolean isActive(int i) { return warningTime[i] <= 0; }
+
+    public void multiplySpeed(int i, double factor) {
+        vx[i] *= factor;
+        vy[i] *= factor;
+    }
+
+    // Apply force to bullet (used by active items like SHOCKWAVE, MAGNET)
+    public void applyForce(int i, double fx, double fy) {
+        vx[i] += fx;
+        vy[i] += fy;
+    }
+
+    // Snapshot positions at the start of a simulation tick
+    public void savePreviousPositions() {
+        System.arraycopy(x, 0, prevX, 0, count);
+        System.arraycopy(y, 0, prevY, 0, count);
+    }
+
+    // Position interpolated between the previous and current tick (alpha in [0, 1])
+    public double getRenderX(int i, double alpha) { return prevX[i] + (x[i] - prevX[i]) * alpha; }
+    public double getRenderY(int i, double alpha) { return prevY[i] + (y[i] - prevY[i]) * alpha; }
+
+    public double getX(int i) { return x[i]; }
+    public double getY(int i) { return y[i]; }
+    public double getVX(int i) { return vx[i]; }
+    public double getVY(int i) { return vy[i]; }
+    public Bullet.BulletType getType(int i) { return TYPES[type[i]]; }
+    public int getWarningTime(int i) { return warningTime[i]; }
+    public double getExplosionTimer(int i) { return explosionTimer[i]; }
+    public int getSpriteVariant(int i) { return spriteVariant[i]; }
+}
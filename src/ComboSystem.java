@@ -155,4 +155,18 @@ public class ComboSystem {
     public int getTotalGrazeValue() {
         return totalGrazeValue;
     }
+    
+    // Copy all state from another combo system (render copies in FrameSnapshot)
+    public void copyFrom(ComboSystem other) {
+        combo = other.combo;
+        comboTimer = other.comboTimer;
+        maxCombo = other.maxCombo;
+        comboMultiplier = other.comboMultiplier;
+        comboTimeout = other.comboTimeout;
+        closeCallCount = other.closeCallCount;
+        perfectDodgeCount = other.perfectDodgeCount;
+        totalGrazeValue = other.totalGrazeValue;
+        currentAnnouncement = other.currentAnnouncement;
+        announcementTimer = other.announcementTimer;
+    }
 }
@@ -0,0 +1,54 @@
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+// Deferred removal for the per-frame entity lists (particles, damage numbers, beams).
+// Entries are dropped in a single pass after the update loop instead of one
+// ArrayList.remove() shift per dead entry.
+public final class Compaction {
+    private Compaction() {
+    }
+
+    // Remove every entry matching isDead; returns the number removed.
+    // stableOrder keeps survivors in draw order (one forward copy pass),
+    // otherwise each hole is filled with the last entry (O(1) per removal).
+    public static <T> int removeDead(List<T> list, Predicate<? super T> isDead, boolean stableOrder,
+                                     Consumer<? super T> onRemoved) {
+        int size = list.size();
+        if (stableOrder) {
+            int write = 0;
+            for (int read = 0; read < size; read++) {
+                T item = list.get(read);
+                if (isDead.test(item)) {
+                    if (onRemoved != null) onRemoved.accept(item);
+                } else {
+                    if (write != read) list.set(write, item);
+                    write++;
+                }
+            }
+            if (write < size) {
+                list.subList(write, size).clear(); // Truncate tail in one go
+            }
+            return size - write;
+        }
+
+        int original = size;
+        int i = 0;
+        while (i < size) {
+            T item = list.get(i);
+            if (isDead.test(item)) {
+                if (onRemoved != null) onRemoved.accept(item);
+                size--;
+                list.set(i, list.get(size)); // Move last into the hole, recheck it
+                list.remove(size);
+            } else {
+                i++;
+            }
+        }
+        return original - size;
+    }
+
+    public static <T> int removeDead(List<T> list, Predicate<? super T> isDead, boolean stableOrder) {
+        return removeDead(list, isDead, stableOrder, null);
+    }
+}
@@ -32,11 +32,30 @@ public class DamageNumber {
     
     public void draw(Graphics2D g) {
         float alpha = 1.0f - ((float)lifetime / maxLifetime);
-        Color drawColor = new Color(color.getRed(), color.getGreen(), color.getBlue(), (int)(alpha * 255));
-        
-        g.setColor(drawColor);
-        g.setFont(new Font("Arial", Font.BOLD, fontSize));
-        FontMetrics fm = g.getFontMetrics();
-        g.drawString(text, (int)(x - fm.stringWidth(text) / 2), (int)y);
+        // Faded color from the shared packed-ARGB cache, shared font
+        int argb = color.getRGB() & 0xFFFFFF | (int)(alpha * 255) << 24;
+        Font font = TextCache.font("Arial", Font.BOLD, fontSize);
+        g.setColor(Particle.color(argb));
+        g.setFont(font);
+        g.drawString(text, (int)(x - TextCache.metrics(font).stringWidth(text) / 2), (int)y);
+    }
+    
+    // Whether any of the text can fall inside the given rectangle. Uses one
+    // font size per character as the width, so no font metrics are needed.
+    public boolean isVisible(double left, double top, double right, double bottom) {
+        double halfWidth = text.length() * fontSize * 0.5;
+        return x + halfWidth >= left && x - halfWidth <= right && y >= top && y - fontSize <= bottom;
+    }
+    
+    // Copy all state from another damage number (render copies in FrameSnapshot)
+    public void copyFrom(DamageNumber other) {
+        text = other.text;
+        x = other.x;
+        y = other.y;
+        vy = other.vy;
+        lifetime = other.lifetime;
+        maxLifetime = other.maxLifetime;
+        color = other.color;
+        fontSize = other.fontSize;
     }
 }
@@ -0,0 +1,50 @@
+// Dynamic resolution: lowers the internal render scale in small steps while
+// frames (update + render) run over budget, and raises it back toward the
+// render scale chosen in settings once there is headroom again. Adjusts more
+// slowly than the particle governor, since a resolution change is visible.
+public class DynamicResolution {
+    static final long DEFAULT_BUDGET_NANOS = 14_000_000L;
+    static final double MIN_SCALE = 0.5;
+    private static final double RESTORE_RATIO = 0.7; // Scale back up once frames fall below 70% of budget
+    private static final double SMOOTHING = 0.1; // Weight of the newest frame in the running average
+    private static final int ADJUST_INTERVAL = 30; // Frames between scale changes
+    private static final double STEP = 0.05;
+
+    private final long budgetNanos;
+    private double scale = 1.0;
+    private double averageNanos;
+    private int framesSinceAdjust;
+
+    public DynamicResolution() {
+        this(DEFAULT_BUDGET_NANOS);
+    }
+
+    public DynamicResolution(long budgetNanos) {
+        this.budgetNanos = budgetNanos;
+    }
+
+    // Start over at the given scale (no frame history)
+    public void reset(double maxScale) {
+        scale = maxScale;
+        averageNanos = 0;
+        framesSinceAdjust = 0;
+    }
+
+    // Report the update + render cost of one frame; maxScale is the user's setting
+    public void recordFrame(long frameNanos, double maxScale) {
+        averageNanos = averageNanos == 0 ? frameNanos : averageNanos + (frameNanos - averageNanos) * SMOOTHING;
+        scale = Math.min(scale, maxScale);
+        if (++framesSinceAdjust < ADJUST_INTERVAL) return;
+        framesSinceAdjust = 0;
+
+        if (averageNanos > budgetNanos) {
+            scale = Math.max(Math.min(MIN_SCALE, maxScale), scale - STEP);
+        } else if (averageNanos < budgetNanos * RESTORE_RATIO) {
+            scale = Math.min(maxScale, scale + STEP);
+        }
+    }
+
+    public double getScale() { return scale; }
+    public double getAverageFrameMillis() { return averageNanos / 1_000_000.0; }
+    public long getBudgetNanos() { return budgetNanos; }
+}
@@ -0,0 +1,225 @@
+// A particle burst as data: how many particles, which way they fly, how fast,
+// how long they live, how big they are and which colors they use. Every effect
+// is a constant below; ParticleEmitter.burst spawns them in one allocation-free
+// loop. Tune effects here rather than at the call sites.
+public final class EmitterDefinition {
+    private static final double TWO_PI = Math.PI * 2;
+
+    private static final int FIRE_ORANGE = Particle.rgb(255, 100, 0);
+    private static final int FIRE_YELLOW = Particle.rgb(255, 200, 0);
+    private static final int FIRE_RED = Particle.rgb(255, 50, 0);
+    private static final int BOSS_FIRE = Particle.rgb(255, 150, 0);
+    private static final int BOSS_FIRE_BRIGHT = Particle.rgb(255, 200, 50);
+
+    // --- Grazes and dodges ---
+    // Graze tiers spray back along the bullet's path (burst direction = bullet angle + PI)
+    public static final EmitterDefinition GRAZE = define("graze", Particle.ParticleType.TRAIL, 6)
+        .spread(1.2).speed(2, 5).lifetime(20).size(4).jitter(10, 10).palette(Particle.argb(100, 200, 255, 200));
+    public static final EmitterDefinition CLOSE_CALL = define("closeCall", Particle.ParticleType.TRAIL, 10)
+        .spread(1.2).speed(2, 5).lifetime(20).size(4).jitter(10, 10).palette(Particle.argb(150, 255, 150, 220));
+    public static final EmitterDefinition PERFECT_DODGE = define("perfectDodge", Particle.ParticleType.TRAIL, 15)
+        .spread(1.2).speed(2, 7).lifetime(20).size(6).jitter(10, 10).palette(Particle.argb(255, 215, 0, 255));
+    public static final EmitterDefinition PERFECT_DODGE_STAR = define("perfectDodgeStar", Particle.ParticleType.SPARK, 8)
+        .even().speed(4, 4).lifetime(25).size(3).palette(Particle.argb(255, 255, 200, 200));
+    public static final EmitterDefinition LUCKY_DODGE = define("luckyDodge", Particle.ParticleType.DODGE, 8)
+        .even().speed(2, 2).lifetime(20).size(5).palette(Particle.rgb(163, 190, 140));
+
+    // --- Player ---
+    public static final EmitterDefinition SHIELD_BREAK = define("shieldBreak", Particle.ParticleType.SPARK, 15)
+        .speed(2, 6).lifetime(25).size(6).palette(Particle.rgb(136, 192, 208));
+    public static final EmitterDefinition PLAYER_DEATH = define("playerDeath", Particle.ParticleType.SPARK, 20)
+        .speed(1, 4).lifetime(30).size(6).palette(Particle.rgb(191, 97, 106));
+    public static final EmitterDefinition RESPAWN_FLASH = define("respawnFlash", Particle.ParticleType.SPARK, 60)
+        .speed(3, 10).lifetime(35).size(12).palette(Particle.argb(100, 200, 255, 220));
+    public static final EmitterDefinition RESPAWN_RINGS = define("respawnRings", Particle.ParticleType.EXPLOSION, 4)
+        .lifetime(40).size(35).steps(12, 20)
+        .sequence(Particle.argb(136, 192, 208, 220), Particle.argb(136, 192, 208, 175),
+                  Particle.argb(136, 192, 208, 130), Particle.argb(136, 192, 208, 85));
+    public static final EmitterDefinition RESURRECTION = define("resurrection", Particle.ParticleType.SPARK, 40)
+        .speed(1, 5).lifetime(60).size(8).palette(Particle.argb(255, 215, 0, 200));
+    public static final EmitterDefinition PLAYER_EXPLOSION = define("playerExplosion", Particle.ParticleType.SPARK, 50)
+        .speed(2, 8).lifetime(40).size(10).palette(FIRE_ORANGE, FIRE_YELLOW);
+    public static final EmitterDefinition PLAYER_EXPLOSION_RINGS = define("playerExplosionRings", Particle.ParticleType.EXPLOSION, 4)
+        .lifetime(30).size(30).steps(10, 15)
+        .sequence(Particle.argb(255, 150, 50, 220), Particle.argb(255, 120, 50, 170),
+                  Particle.argb(255, 90, 50, 120), Particle.argb(255, 60, 50, 70));
+
+    // --- Boss ---
+    public static final EmitterDefinition BOSS_ARRIVAL = define("bossArrival", Particle.ParticleType.EXPLOSION, 20)
+        .speed(1, 4).lifetime(30, 60).size(10, 20).palette(Particle.argb(255, 200, 100, 200));
+    public static final EmitterDefinition VULNERABILITY_OPEN = define("vulnerabilityOpen", Particle.ParticleType.SPARK, 25)
+        .radius(40, 70).speed(0.5, 2).lifetime(40).size(4).palette(Particle.rgb(235, 203, 139));
+    // Boss damage: counts are multiplied by the boss hit count
+    public static final EmitterDefinition BOSS_IMPACT_FLASH = define("bossImpactFlash", Particle.ParticleType.SPARK, 30)
+        .speed(2, 8).lifetime(20).size(8).palette(Particle.rgb(255, 255, 255), Particle.rgb(255, 255, 150));
+    public static final EmitterDefinition BOSS_DAMAGE_SMOKE = define("bossDamageSmoke", Particle.ParticleType.SMOKE, 8)
+        .speed(0.3, 1.5).lifetime(50, 70).size(12, 20).jitter(30, 20)
+        .palette(Particle.argb(50, 50, 50, 120), Particle.argb(60, 60, 60, 120), Particle.argb(70, 70, 70, 120),
+                 Particle.argb(80, 80, 80, 120), Particle.argb(90, 90, 90, 120));
+    public static final EmitterDefinition BOSS_DAMAGE_FIRE = define("bossDamageFire", Particle.ParticleType.SPARK, 20)
+        .speed(1, 5).lifetime(30).size(5).palette(BOSS_FIRE, BOSS_FIRE_BRIGHT);
+    public static final EmitterDefinition BOSS_DAMAGE_DEBRIS = define("bossDamageDebris", Particle.ParticleType.SPARK, 25)
+        .speed(2, 7).lifetime(25).size(4).palette(Particle.argb(160, 160, 170, 200));
+    public static final EmitterDefinition BOSS_DAMAGE_SPARKS = define("bossDamageSparks", Particle.ParticleType.SPARK, 30)
+        .speed(3, 9).lifetime(20).size(3).palette(Particle.argb(255, 220, 100, 220));
+    // Ring sizes grow by 10px per boss hit (burst sizeBonus)
+    public static final EmitterDefinition BOSS_IMPACT_RINGS = define("bossImpactRings", Particle.ParticleType.EXPLOSION, 5)
+        .lifetime(40).size(40).steps(10, 25)
+        .sequence(Particle.argb(255, 150, 50, 220), Particle.argb(255, 130, 50, 180), Particle.argb(255, 110, 50, 140),
+                  Particle.argb(255, 90, 50, 100), Particle.argb(255, 70, 50, 60));
+    public static final EmitterDefinition BOSS_DEATH_BURST = define("bossDeathBurst", Particle.ParticleType.SPARK, 15)
+        .speed(1, 5).lifetime(30).size(4).palette(BOSS_FIRE, BOSS_FIRE_BRIGHT);
+    public static final EmitterDefinition BOSS_FINAL_EXPLOSION = define("bossFinalExplosion", Particle.ParticleType.SPARK, 80)
+        .speed(2, 8).lifetime(60).size(8)
+        .palette(Particle.rgb(255, 100, 0), Particle.rgb(255, 130, 0), Particle.rgb(255, 160, 0),
+                 Particle.rgb(255, 190, 0), Particle.rgb(255, 220, 0), Particle.rgb(255, 250, 0));
+    // Player missile hitting the boss for the kill
+    public static final EmitterDefinition BOSS_KILL_EXPLOSION = define("bossKillExplosion", Particle.ParticleType.SPARK, 100)
+        .speed(3, 11).lifetime(50, 80).size(6).palette(FIRE_ORANGE, FIRE_YELLOW, FIRE_RED).weights(0.4, 0.3, 0.3);
+    public static final EmitterDefinition BOSS_KILL_RINGS = define("bossKillRings", Particle.ParticleType.EXPLOSION, 5)
+        .lifetime(40).size(40).steps(15, 25)
+        .sequence(Particle.rgb(255, 150, 0), Particle.rgb(255, 130, 0), Particle.rgb(255, 110, 0),
+                  Particle.rgb(255, 90, 0), Particle.rgb(255, 70, 0));
+
+    // --- Explosive bullets (BOMB, GRENADE, NUKE) ---
+    public static final EmitterDefinition BOMB_EXPLOSION = bulletFire("bombExplosion", 15);
+    public static final EmitterDefinition GRENADE_EXPLOSION = bulletFire("grenadeExplosion", 25);
+    public static final EmitterDefinition NUKE_EXPLOSION = bulletFire("nukeExplosion", 40);
+    public static final EmitterDefinition BOMB_RINGS = bulletRings("bombRings", 2, 30);
+    public static final EmitterDefinition GRENADE_RINGS = bulletRings("grenadeRings", 3, 40);
+    public static final EmitterDefinition NUKE_RINGS = bulletRings("nukeRings", 4, 60);
+
+    // --- Active items ---
+    public static final EmitterDefinition SHOCKWAVE = define("shockwave", Particle.ParticleType.SPARK, 30)
+        .speed(5, 10).lifetime(30).size(8).palette(Particle.rgb(163, 190, 140));
+    public static final EmitterDefinition BOMB_CLEAR = define("bombClear", Particle.ParticleType.SPARK, 3)
+        .speed(1, 3).lifetime(15).size(4).palette(Particle.argb(255, 200, 100, 200));
+    public static final EmitterDefinition BOMB_BLAST = define("bombBlast", Particle.ParticleType.SPARK, 50)
+        .speed(3, 11).lifetime(40).size(8).palette(FIRE_ORANGE, FIRE_YELLOW);
+    public static final EmitterDefinition BOMB_BLAST_RINGS = define("bombBlastRings", Particle.ParticleType.EXPLOSION, 3)
+        .lifetime(30).size(50).steps(10, 40)
+        .sequence(Particle.argb(255, 200, 100, 200), Particle.argb(255, 200, 100, 150), Particle.argb(255, 200, 100, 100));
+    public static final EmitterDefinition LASER_HIT = define("laserHit", Particle.ParticleType.SPARK, 5)
+        .speed(1, 4).lifetime(15).size(4).palette(Particle.rgb(235, 203, 139));
+
+    final String name; // For debugging only
+    final Particle.ParticleType type;
+    final int count;
+    double spread = TWO_PI; // Width of the random direction cone (radians)
+    boolean even; // Evenly spaced directions instead of random
+    double minSpeed, maxSpeed;
+    double minRadius, maxRadius; // Spawn distance from the center, along the direction
+    double jitterX, jitterY; // Random spawn offset box (full width/height)
+    int minLifetime = 1, maxLifetime = 1;
+    double minSize = 1, maxSize = 1;
+    int lifetimeStep; // Added per particle index (ring series)
+    double sizeStep;
+    int[] palette = {0xFFFFFFFF};
+    double[] cumulativeWeights; // null = uniform palette pick
+    boolean sequence; // Particle j takes palette[j] instead of a random pick
+
+    private EmitterDefinition(String name, Particle.ParticleType type, int count) {
+        this.name = name;
+        this.type = type;
+        this.count = count;
+    }
+
+    private static EmitterDefinition define(String name, Particle.ParticleType type, int count) {
+        return new EmitterDefinition(name, type, count);
+    }
+
+    private static EmitterDefinition bulletFire(String name, int count) {
+        return define(name, Particle.ParticleType.SPARK, count)
+            .speed(1, 5).lifetime(30).size(5).palette(FIRE_ORANGE, FIRE_YELLOW, FIRE_RED).weights(0.4, 0.3, 0.3);
+    }
+
+    private static EmitterDefinition bulletRings(String name, int rings, int baseSize) {
+        int[] colors = new int[rings];
+        for (int j = 0; j < rings; j++) {
+            colors[j] = Particle.argb(255, 150 - j * 30, 0, 200 - j * 50);
+        }
+        return define(name, Particle.ParticleType.EXPLOSION, rings).lifetime(35).size(baseSize).steps(10, 20).sequence(colors);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    // --- Definition setters (setup of the constants above only) ---
+
+    private EmitterDefinition spread(double radians) {
+        spread = radians;
+        return this;
+    }
+
+    private EmitterDefinition even() {
+        even = true;
+        return this;
+    }
+
+    private EmitterDefinition speed(double min, double max) {
+        minSpeed = min;
+        maxSpeed = max;
+        return this;
+    }
+
+    private EmitterDefinition radius(double min, double max) {
+        minRadius = min;
+        maxRadius = max;
+        return this;
+    }
+
+    private EmitterDefinition jitter(double x, double y) {
+        jitterX = x;
+        jitterY = y;
+        return this;
+    }
+
+    private EmitterDefinition lifetime(int ticks) {
+        return lifetime(ticks, ticks);
+    }
+
+    private EmitterDefinition lifetime(int min, int max) {
+        minLifetime = min;
+        maxLifetime = max;
+        return this;
+    }
+
+    private EmitterDefinition size(double size) {
+        return size(size, size);
+    }
+
+    private EmitterDefinition size(double min, double max) {
+        minSize = min;
+        maxSize = max;
+        return this;
+    }
+
+    private EmitterDefinition steps(int lifetimePerParticle, double sizePerParticle) {
+        lifetimeStep = lifetimePerParticle;
+        sizeStep = sizePerParticle;
+        return this;
+    }
+
+    private EmitterDefinition palette(int... argb) {
+        palette = argb;
+        return this;
+    }
+
+    private EmitterDefinition sequence(int... argb) {
+        palette = argb;
+        sequence = true;
+        return this;
+    }
+
+    private EmitterDefinition weights(double... weights) {
+        cumulativeWeights = new double[weights.length];
+        double total = 0;
+        for (int k = 0; k < weights.length; k++) {
+            total += weights[k];
+            cumulativeWeights[k] = total;
+        }
+        return this;
+    }
+}
@@ -0,0 +1,112 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+// Everything Renderer.drawGame needs for one gameplay frame, copied out of the
+// Simulation after an update. Game keeps three of these in a TripleBuffer so
+// the renderer always reads a complete frame that the update step is not
+// touching. All entity copies are reused between frames (no per-frame allocation
+// once the buffers have grown to the peak entity counts).
+public class FrameSnapshot {
+    // Entities (render copies, owned by this snapshot)
+    Player player; // null while waiting to respawn
+    Boss boss;
+    final BulletStore bullets = new BulletStore(null, null); // Never spawns, so no random streams
+    final ParticleSystem particles = new ParticleSystem(); // Arrays grow to the peak count, then are reused
+    final List<BeamAttack> beamAttacks = new ArrayList<>();
+    final List<DamageNumber> damageNumbers = new ArrayList<>();
+    final List<Achievement> pendingAchievements = new ArrayList<>();
+    final ComboSystem comboSystem = new ComboSystem();
+
+    // HUD and effect state
+    int level;
+    boolean bossVulnerable;
+    int vulnerabilityTimer;
+    int dodgeCombo;
+    boolean showCombo;
+    boolean bossDeathAnimation;
+    double bossDeathScale;
+    double bossDeathRotation;
+    double gameTime;
+    boolean shieldActive;
+    boolean playerInvincible;
+    int bossHitCount;
+    double cameraX, cameraY;
+    double screenShakeX, screenShakeY;
+    boolean introPanActive;
+    int bossFlashTimer;
+    int screenFlashTimer;
+    boolean bossIntroActive;
+    String bossIntroText;
+    int bossIntroTimer;
+    int achievementNotificationTimer;
+    boolean resurrectionAnimation;
+    int resurrectionTimer;
+    double resurrectionScale;
+    double resurrectionGlow;
+
+    // Live bullet store's pool stats (the copy above never adds, so its own are always 0)
+    int bulletCapacity;
+    long bulletPoolHits;
+    long bulletPoolMisses;
+
+    private Player playerCopy;
+    private Boss bossCopy;
+
+    // Spare copies dropped when a list shrinks, reused when it grows again
+    private final List<BeamAttack> spareBeams = new ArrayList<>();
+    private final List<DamageNumber> spareDamageNumbers = new ArrayList<>();
+
+    void copyPlayer(Player source) {
+        if (source == null) {
+            player = null;
+            return;
+        }
+        if (playerCopy == null) {
+            playerCopy = new Player(0, 0);
+        }
+        playerCopy.copyFrom(source);
+        player = playerCopy;
+    }
+
+    void copyBoss(Boss source) {
+        if (source == null) {
+            boss = null;
+            return;
+        }
+        if (bossCopy == null) {
+            bossCopy = new Boss(0, 0, source.getLevel());
+        }
+        bossCopy.copyFrom(source);
+        boss = bossCopy;
+    }
+
+    void copyBeamAttacks(List<BeamAttack> source) {
+        resize(beamAttacks, spareBeams, source.size(), () -> new BeamAttack(0, 0, BeamAttack.BeamType.VERTICAL));
+        for (int i = 0, n = source.size(); i < n; i++) {
+            beamAttacks.get(i).copyFrom(source.get(i));
+        }
+    }
+
+    void copyDamageNumbers(List<DamageNumber> source) {
+        resize(damageNumbers, spareDamageNumbers, source.size(), () -> new DamageNumber("", 0, 0, null, 0));
+        for (int i = 0, n = source.size(); i < n; i++) {
+            damageNumbers.get(i).copyFrom(source.get(i));
+        }
+    }
+
+    void copyPendingAchievements(List<Achievement> source) {
+        pendingAchievements.clear(); // Achievements are shared definitions, copy references only
+        pendingAchievements.addAll(source);
+    }
+
+    // Grow or shrink a copy list to n entries, parking removed copies in spare
+    private static <T> void resize(List<T> list, List<T> spare, int n, Supplier<T> factory) {
+        while (list.size() > n) {
+            spare.add(list.remove(list.size() - 1));
+        }
+        while (list.size() < n) {
+            list.add(spare.isEmpty() ? factory.get() : spare.remove(spare.size() - 1));
+        }
+    }
+}
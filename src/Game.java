@@ -1,17 +1,21 @@
 import java.awt.*;
 import java.awt.event.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferStrategy;
 import java.awt.image.BufferedImage;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import javax.swing.*;
+import java.awt.image.VolatileImage;
 
-public class Game extends JPanel implements Runnable {
+// Active rendering: the game thread draws into a BufferStrategy and presents
+// each frame itself, so there is no repaint()/EDT round-trip and the
+// simulation is never read while it is being updated.
+public class Game extends Canvas implements Runnable {
     // Game constants
     public static final int WIDTH;
     public static final int HEIGHT;
-    private static final int FPS = 60;
+    // Fixed simulation rate; rendering is decoupled and interpolates between ticks
+    private static final int TICK_RATE = Simulation.TICKS_PER_SECOND;
+    private static final int MAX_TICKS_PER_FRAME = 5; // Catch-up cap, drops backlog instead of spiraling
+    static final double GRADIENT_STEP = 0.02; // gradientTime advance per tick; also drives parallax scrolling
     
     static {
         // Get screen dimensions
@@ -37,50 +41,15 @@ public class Game extends JPanel implements Runnable {
     // Core systems
     private GameData gameData;
     private ShopManager shopManager;
-    private Renderer renderer;
+    private volatile Renderer renderer; // Created by the loading thread
     private AchievementManager achievementManager;
     private PassiveUpgradeManager passiveUpgradeManager;
-    private ComboSystem comboSystem;
     
-    // Game objects
-    private Player player;
-    private Boss currentBoss;
-    private List<Bullet> bullets;
-    private List<Bullet> bulletPool; // Pool for recycling bullets
-    private List<Particle> particles;
-    private List<Particle> particlePool; // Pool for recycling particles
-    private List<BeamAttack> beamAttacks;
-    
-    // Particle limits for performance
-    private static final int MAX_PARTICLES = 300; // Reduced for better performance
-    
-    // Cached colors for performance
-    private static final Color IMPACT_WHITE = new Color(255, 255, 255);
-    private static final Color IMPACT_YELLOW = new Color(255, 255, 150);
-    private static final Color IMPACT_RING = new Color(255, 255, 200);
-    private static final Color FIRE_ORANGE = new Color(255, 100, 0);
-    private static final Color FIRE_YELLOW = new Color(255, 200, 0);
-    private static final Color FIRE_RED = new Color(255, 50, 0);
-    private static final Color SMOKE_GRAY = new Color(80, 80, 80, 150);
-    private static final Color BOSS_FIRE = new Color(255, 150, 0);
-    private static final Color BOSS_FIRE_BRIGHT = new Color(255, 200, 50);
-    private static final Color VULNERABILITY_GOLD = new Color(235, 203, 139);
-    private static final Color WARNING_RED = new Color(191, 97, 106);
-    private static final Color PLAYER_DEATH_RED = new Color(191, 97, 106);
-    private static final Color DODGE_GREEN = new Color(163, 190, 140);
-    
-    // Cached math constants
-    private static final double TWO_PI = Math.PI * 2;
-    
-    // Spatial grid for bullet collision optimization
-    private static final int GRID_CELL_SIZE = 50;
-    private static final int GRID_WIDTH_MULTIPLIER = 10000; // For hash calculation
-    private static final double INV_GRID_CELL_SIZE = 1.0 / GRID_CELL_SIZE; // Pre-computed inverse
-    private Map<Integer, List<Bullet>> bulletGrid;
-    private List<Bullet> nearbyBulletsCache = new ArrayList<>(); // Reusable list for performance
-    
-    // Player trail effect
-    private int trailSpawnTimer;
+    // Gameplay (player, boss, bullets, scoring) for the level being played
+    private Simulation simulation;
+    // Published by the run loop after each batch of ticks, consumed by render()
+    private final TripleBuffer<FrameSnapshot> frames = new TripleBuffer<>(FrameSnapshot::new);
+    private final GameRandom fxRandom = new GameRandom(System.nanoTime()); // Menu/music picks, not gameplay
     
     // Input
     private boolean[] keys;
@@ -111,70 +80,13 @@ public class Game extends JPanel implements Runnable {
     private float stateTransitionProgress; // 0.0 = old state, 1.0 = new state
     private static final float TRANSITION_SPEED = 0.08f; // Speed of state transitions
     
-    // Visual effects
-    private double screenShakeX;
-    private double screenShakeY;
+    // Visual effects (menu feedback; gameplay shake lives in Simulation)
     private double screenShakeIntensity;
     
-    // Combo system
-    private int dodgeCombo;
-    private int comboTimer;
-    private static final int COMBO_TIMEOUT = 180; // 3 seconds
-    
-    // Boss intro cinematics
-    private boolean bossIntroActive;
-    private int bossIntroTimer;
-    private static final int BOSS_INTRO_DURATION = 120; // 2 seconds
-    private String bossIntroText;
-    
     // Pause menu
     private boolean isPaused;
     private int selectedPauseItem;
     
-    // Achievement notification
-    private List<Achievement> pendingAchievements;
-    private int achievementNotificationTimer;
-    private static final int ACHIEVEMENT_NOTIFICATION_DURATION = 180; // 3 seconds
-    
-    // Boss damage numbers
-    private List<DamageNumber> damageNumbers;
-    
-    // Perfect boss tracking (no damage taken)
-    private boolean tookDamageThisBoss;
-    private int consecutivePerfectBosses;
-    private int totalGrazesThisRun;
-    
-    // Boss mechanics
-    private boolean bossVulnerable;
-    private int vulnerabilityTimer;
-    private int invulnerabilityTimer; // Prevents boss from going vulnerable at level start
-    private int bossHitCount; // Number of times boss has been hit (max 3)
-    private int bossFlashTimer; // Flash effect when boss takes damage
-    private static final int BOSS_MAX_HITS = 3;
-    private static final int VULNERABILITY_DURATION = 1200; // 20 second window
-    private static final int INVULNERABILITY_DURATION = 180; // 3 seconds at start
-    private boolean bossDeathAnimation;
-    private int deathAnimationTimer;
-    private static final int DEATH_ANIMATION_DURATION = 180; // 3 seconds
-    private double bossDeathScale;
-    private boolean waitingForRespawn; // Waiting after non-fatal boss hit
-    private int respawnDelayTimer; // Timer before respawning player
-    private static final int RESPAWN_DELAY = 90; // 1.5 seconds delay
-    private double bossDeathRotation;
-    
-    // Polish effects
-    private static final double GRAZE_DISTANCE = 25; // Distance for graze detection
-    private static final double CLOSE_CALL_DISTANCE = 15; // Very close graze
-    private static final double PERFECT_DODGE_DISTANCE = 8; // Frame-perfect dodge
-    private int grazeScore = 0; // Accumulate graze score
-    private int hitPauseTimer = 0; // Brief pause on impact
-    private int screenFlashTimer = 0; // Screen flash on player hit
-    
-    // Perfect Dodge system
-    private int perfectDodgeIFrames = 0; // Brief invincibility after perfect dodge
-    private static final int PERFECT_DODGE_IFRAMES = 8; // 8 frames of invincibility
-    private int perfectDodgeFlashTimer = 0; // Visual flash effect
-    
     // Risk Contract system
     private boolean riskContractActive = false;
     private int riskContractType = 0; // 0 = none, 1 = 2x bullets, 2 = faster bullets, 3 = no shield
@@ -190,10 +102,6 @@ public class Game extends JPanel implements Runnable {
     private static final double[] RISK_CONTRACT_MULTIPLIERS = {1.0, 2.0, 1.75, 1.5};
     
     // Game feel effects
-    private int hitFreezeFrames = 0; // Freeze frames on boss damage
-    private double slowMotionFactor = 1.0; // Slow-motion multiplier (1.0 = normal)
-    private int slowMotionTimer = 0; // Timer for slow-motion effect
-    private double comboPulseScale = 1.0; // Scale pulse on combo increase
     private double cameraBreathOffset = 0; // Subtle camera breathing
     private double cameraBreathTime = 0; // Time for camera breathing sine wave
     
@@ -201,36 +109,6 @@ public class Game extends JPanel implements Runnable {
     private double displayedScore = 0; // Animated score display
     private double displayedMoney = 0; // Animated money display
     
-    // Extra Life / Resurrection system
-    public boolean resurrectionAnimation = false;
-    public int resurrectionTimer = 0;
-    public static final int RESURRECTION_DURATION = 120; // 2 seconds
-    public double resurrectionScale = 0.0;
-    public double resurrectionGlow = 0.0;
-    
-    // Afterimage trail for player
-    private double[] afterimageX = new double[5];
-    private double[] afterimageY = new double[5];
-    private double[] afterimageAlpha = new double[5];
-    private int afterimageTimer = 0;
-    
-    // Active item effects
-    private boolean playerInvincible; // For INVINCIBILITY item and DASH i-frames
-    private boolean shieldActive; // For SHIELD item
-    private int respawnInvincibilityTimer; // Shorter invincibility after respawn
-    private double dashSpeedMultiplier; // For DASH item
-    
-    // Camera tracking with smooth interpolation
-    private double cameraX = 0;
-    private double cameraY = 0;
-    private static final double CAMERA_SMOOTHING = 0.02; // Slower and smoother (was 0.05)
-    private static final double CAMERA_DEADZONE = 80; // Distance from center before camera moves
-    private static final double CAMERA_MAX_OFFSET = 100; // Max pixels camera can move from center
-    private boolean introPanActive = false;
-    private int introPanTimer = 0;
-    private static final int INTRO_PAN_DURATION = 240; // 4 seconds total (2s boss entrance, 2s pan back)
-    private double bossEntranceY = -200; // Boss starts above screen
-    
     // Settings
     private int selectedSettingsItem;
     private int selectedSettingsCategory = 0; // 0=Graphics, 1=Audio, 2=Debug
@@ -245,6 +123,10 @@ public class Game extends JPanel implements Runnable {
     public static boolean enableHitboxes = false; // Debug: show hitboxes for all objects
     public static int gradientQuality = 1; // 0=Low (1 layer), 1=Medium (2 layers), 2=High (3 layers)
     public static int backgroundMode = 1; // 0=Gradient, 1=Parallax Images, 2=Static Image
+    public static final double[] RENDER_SCALES = {1.0, 0.85, 0.75, 0.5};
+    public static int renderScaleMode = 0; // Index into RENDER_SCALES
+    public static boolean enableDynamicResolution = false;
+    public static boolean smoothUpscale = true; // Bilinear (true) or nearest-neighbor (false) when presenting
     
     // Sound Manager
     private SoundManager soundManager;
@@ -254,12 +136,16 @@ public class Game extends JPanel implements Runnable {
     private static final int ESCAPE_TIMEOUT = 120; // 2 seconds to press escape again
     
     // Timer and FPS tracking
-    private long gameStartTime; // Time when current game started (in milliseconds)
-    private double gameTimeSeconds; // Current game time in seconds
     private int currentFPS;
     private long lastFPSTime;
     private int frameCount;
-    private double bossKillTime; // Time when boss was killed
+    private double renderAlpha = 1.0; // Progress towards the next tick, for interpolation
+    
+    // Internal render resolution: below 100% the scene is drawn into sceneBuffer
+    // and stretched onto the window once per frame
+    private final DynamicResolution dynamicResolution = new DynamicResolution();
+    private VolatileImage sceneBuffer;
+    private AffineTransform frameTransform = new AffineTransform(); // Base transform of the frame being drawn
     
     // Loading progress
     private volatile int loadingProgress = 0;
@@ -271,7 +157,7 @@ public class Game extends JPanel implements Runnable {
         setPreferredSize(new Dimension(WIDTH, HEIGHT));
         setBackground(Color.BLACK);
         setFocusable(true);
-        setDoubleBuffered(true); // Enable double buffering for smoother rendering
+        setIgnoreRepaint(true); // Frames are presented by the game loop, not by AWT paint events
         
         // Create blank cursor for hiding during gameplay
         blankCursor = Toolkit.getDefaultToolkit().createCustomCursor(
@@ -282,20 +168,13 @@ public class Game extends JPanel implements Runnable {
         
         // Initialize systems
         keys = new boolean[256];
-        bullets = new ArrayList<>();
-        bulletPool = new ArrayList<>();
-        particles = new ArrayList<>();
-        particlePool = new ArrayList<>();
-        beamAttacks = new ArrayList<>();
-        bulletGrid = new HashMap<>();
         gameData = new GameData();
         shopManager = new ShopManager(gameData);
         achievementManager = new AchievementManager();
         passiveUpgradeManager = new PassiveUpgradeManager();
-        comboSystem = new ComboSystem();
-        pendingAchievements = new ArrayList<>();
-        damageNumbers = new ArrayList<>();
         soundManager = SoundManager.getInstance();
+        simulation = new Simulation(WIDTH, HEIGHT, gameData, achievementManager, passiveUpgradeManager, soundManager);
+        simulation.setInput(keys);
         
         // Initial state - start with loading screen
         gameState = GameState.LOADING;
@@ -316,22 +195,9 @@ public class Game extends JPanel implements Runnable {
         previousState = GameState.MENU;
         stateTransitionProgress = 1.0f;
         unlockedItemName = "";
-        screenShakeX = 0;
-        screenShakeY = 0;
-        trailSpawnTimer = 0;
         screenShakeIntensity = 0;
-        dodgeCombo = 0;
-        comboTimer = 0;
-        bossVulnerable = false;
-        vulnerabilityTimer = 0;
         isPaused = false;
         selectedPauseItem = 0;
-        bossIntroActive = false;
-        bossIntroTimer = 0;
-        achievementNotificationTimer = 0;
-        tookDamageThisBoss = false;
-        consecutivePerfectBosses = 0;
-        totalGrazesThisRun = 0;
         
         // Sync sound settings with soundManager
         soundManager.setMasterVolume(gameData.getMasterVolume());
@@ -341,19 +207,10 @@ public class Game extends JPanel implements Runnable {
         soundManager.setSoundEnabled(gameData.isSoundEnabled());
         
         // Initialize game feel effects
-        hitFreezeFrames = 0;
-        slowMotionFactor = 1.0;
-        slowMotionTimer = 0;
-        comboPulseScale = 1.0;
         cameraBreathOffset = 0;
         cameraBreathTime = 0;
         displayedScore = 0;
         displayedMoney = 0;
-        for (int i = 0; i < afterimageX.length; i++) {
-            afterimageX[i] = 0;
-            afterimageY[i] = 0;
-            afterimageAlpha[i] = 0;
-        }
         
         // Setup input
         setFocusTraversalKeysEnabled(false); // Prevent TAB from being consumed
@@ -575,12 +432,12 @@ public class Game extends JPanel implements Runnable {
                     // Pause menu navigation
                     if (key == KeyEvent.VK_UP || key == KeyEvent.VK_W) {
                         selectedPauseItem = Math.max(0, selectedPauseItem - 1);
-                        screenShakeIntensity = 1;
+                        simulation.setScreenShake(1);
                     } else if (key == KeyEvent.VK_DOWN || key == KeyEvent.VK_S) {
                         selectedPauseItem = Math.min(2, selectedPauseItem + 1);
-                        screenShakeIntensity = 1;
+                        simulation.setScreenShake(1);
                     } else if (key == KeyEvent.VK_SPACE || key == KeyEvent.VK_ENTER) {
-                        screenShakeIntensity = 3;
+                        simulation.setScreenShake(3);
                         switch (selectedPauseItem) {
                             case 0: isPaused = false; break; // Resume
                             case 1: startGame(); isPaused = false; break; // Restart
@@ -588,7 +445,7 @@ public class Game extends JPanel implements Runnable {
                         }
                     } else if (key == KeyEvent.VK_ESCAPE) {
                         isPaused = false;
-                        screenShakeIntensity = 2;
+                        simulation.setScreenShake(2);
                     }
                 } else {
                     // Regular gameplay controls
@@ -596,35 +453,23 @@ public class Game extends JPanel implements Runnable {
                         soundManager.playSound(SoundManager.Sound.PAUSE);
                         isPaused = true;
                         selectedPauseItem = 0;
-                        screenShakeIntensity = 3;
+                        simulation.setScreenShake(3);
                     } else if (key == KeyEvent.VK_R) {
                         // Restart current level
                         startGame();
-                    } else if (key == KeyEvent.VK_SPACE && introPanActive) {
+                    } else if (key == KeyEvent.VK_SPACE && simulation.isIntroPanActive()) {
                         // Skip intro animation
-                        introPanActive = false;
-                        cameraX = 0;
-                        cameraY = 0;
-                        screenShakeIntensity = 8;
-                    } else if (key == KeyEvent.VK_SPACE && bossIntroActive) {
+                        simulation.skipIntroPan();
+                    } else if (key == KeyEvent.VK_SPACE && simulation.isBossIntroActive()) {
                         // Skip boss intro cinematic
-                        bossIntroActive = false;
-                        screenShakeIntensity = 5;
-                    } else if (key == KeyEvent.VK_SPACE && !eKeyPressed && !introPanActive && !bossIntroActive) {
+                        simulation.skipBossIntro();
+                    } else if (key == KeyEvent.VK_SPACE && !eKeyPressed) {
                         // Activate equipped item (only once per key press, and not during intro)
                         eKeyPressed = true;
-                        ActiveItem item = gameData.getEquippedItem();
-                        if (item != null && item.canActivate()) {
-                            item.activate();
-                            screenShakeIntensity = 3;
-                        }
-                    } else if (key == KeyEvent.VK_T && currentBoss != null) {
+                        simulation.activateEquippedItem();
+                    } else if (key == KeyEvent.VK_T && simulation.getBoss() != null) {
                         // Debug: Instantly defeat boss and win level
-                        bossVulnerable = true; // Force vulnerability
-                        while (currentBoss.getCurrentHealth() > 0) {
-                            currentBoss.takeDamage();
-                        }
-                        screenShakeIntensity = 15;
+                        simulation.debugDefeatBoss();
                         System.out.println("DEBUG: Boss defeated via T key");
                     }
                 }
@@ -1020,132 +865,31 @@ public class Game extends JPanel implements Runnable {
                 break;
         }
     }
-    
-    // Handle player death - check for extra life first
-    private void handlePlayerDeath() {
-        // Check if player has extra lives
-        if (gameData.useExtraLife()) {
-            // Trigger resurrection animation
-            resurrectionAnimation = true;
-            resurrectionTimer = RESURRECTION_DURATION;
-            resurrectionScale = 0.0;
-            resurrectionGlow = 1.0;
-            
-            // Clear bullets and beam attacks to give player a chance
-            bullets.clear();
-            beamAttacks.clear();
-            
-            // Create resurrection particles
-            if (enableParticles) {
-                for (int i = 0; i < 40; i++) {
-                    double angle = Math.random() * TWO_PI;
-                    double speed = 1 + Math.random() * 4;
-                    addParticle(
-                        player.getX(), player.getY(),
-                        Math.cos(angle) * speed, Math.sin(angle) * speed,
-                        new Color(255, 215, 0, 200), // Gold particles
-                        60, 8,
-                        Particle.ParticleType.SPARK
-                    );
-                }
-            }
-            
-            // Play resurrection sound
-            soundManager.playSound(SoundManager.Sound.ACHIEVEMENT_UNLOCK);
-            soundManager.playSound(SoundManager.Sound.UI_POPUP_OPEN);
-            
-            // Grant temporary invincibility
-            playerInvincible = true;
-            respawnInvincibilityTimer = 180; // 3 seconds of invincibility
-            
-            // Screen effects
-            screenShakeIntensity = 15;
-            slowMotionFactor = 0.2;
-            slowMotionTimer = 30;
-            
-            // Don't end the game - continue playing
-            return;
-        }
-        
-        // No extra lives - normal game over
-        soundManager.playSound(SoundManager.Sound.PLAYER_DEATH);
-        soundManager.playSound(SoundManager.Sound.GAME_OVER, 0.6f);
-        soundManager.stopMusic();
-        screenShakeIntensity = 10;
-        tookDamageThisBoss = true;
-        gameState = GameState.GAME_OVER;
-    }
 
     private void startGame() {
         gameState = GameState.PLAYING;
-        player = new Player(WIDTH / 2, HEIGHT - 200, gameData.getActiveSpeedLevel());
-        bullets.clear();
-        particles.clear();
-        damageNumbers.clear();
-        beamAttacks.clear();
-        currentBoss = new Boss(WIDTH / 2, 100, gameData.getCurrentLevel(), soundManager); // Normal position, will move during intro
-        gameData.setSurvivalTime(0);
-        dodgeCombo = 0;
-        comboTimer = 0;
-        bossVulnerable = false;
-        vulnerabilityTimer = 0;
-        
+        simulation.startLevel(riskContractType, riskContractMultiplier);
+        simulation.writeSnapshot(frames.getBack()); // First frame is ready before the first tick
+        frames.publish();
+
         // Start ambient background sound
         soundManager.startAmbientSound();
-        
+
         // Start boss fight music
         int[] themes = {1, 5, 6, 7, 8};
-        int theme = themes[(int)(Math.random() * themes.length)];
+        int theme = themes[fxRandom.nextInt(themes.length)];
         soundManager.playMusic("SFX/Music Tracks/Boss Fight Theme (" + theme + ").mp3");
-        
-        invulnerabilityTimer = INVULNERABILITY_DURATION; // 5 seconds of immunity
-        bossHitCount = 0;
-        respawnInvincibilityTimer = 0; // No respawn invincibility at start
-        waitingForRespawn = false;
-        respawnDelayTimer = 0;
+
         isPaused = false;
         selectedPauseItem = 0;
-        tookDamageThisBoss = false;
-        totalGrazesThisRun = 0;
-        comboSystem.resetCombo();
-        
-        // Start boss intro cinematic
-        bossIntroActive = true;
-        bossIntroTimer = 0;
-        bossIntroText = "LEVEL " + gameData.getCurrentLevel() + " - " + currentBoss.getVehicleName();
-        if (currentBoss.isMegaBoss()) {
-            bossIntroText += " [MEGA BOSS]";
-        }
-        
-        // Start intro sequence with boss entrance
-        introPanActive = true;
-        introPanTimer = 0;
-        bossEntranceY = -200; // Boss will start above screen
-        cameraX = 0;
-        cameraY = 0;
-        
-        screenShakeIntensity = 0;
-        bossDeathAnimation = false;
-        deathAnimationTimer = 0;
-        bossDeathScale = 1.0;
-        bossDeathRotation = 0;
         escapeTimer = 0;
-        
-        // Initialize timer and FPS tracking
-        gameStartTime = System.currentTimeMillis();
-        gameTimeSeconds = 0;
+
+        // Initialize FPS tracking
         currentFPS = 0;
         frameCount = 0;
         lastFPSTime = System.currentTimeMillis();
-        bossKillTime = 0;
-        
-        // Start active item cooldown at start of level
-        ActiveItem equippedItem = gameData.getEquippedItem();
-        if (equippedItem != null) {
-            equippedItem.startLevelCooldown();
-        }
     }
-    
+
     public void start() {
         if (gameThread == null) {
             running = true;
@@ -1156,43 +900,45 @@ public class Game extends JPanel implements Runnable {
     
     @Override
     public void run() {
-        long lastTime = System.nanoTime();
-        double nsPerTick = 1000000000.0 / FPS;
-        double delta = 0;
+        final long nsPerTick = 1_000_000_000L / TICK_RATE;
+        long previous = System.nanoTime();
+        long accumulator = 0;
+        long frameWork = 0; // Update + render time since the last frame, for the particle governor
         
         while (running) {
             long now = System.nanoTime();
-            delta += (now - lastTime) / nsPerTick;
-            lastTime = now;
+            accumulator += now - previous;
+            previous = now;
             
-            if (delta >= 1) {
-                double deltaTime = delta; // Actual delta time for frame-independent updates
-                update(deltaTime);
-                gradientTime += 0.02 * deltaTime; // Animate gradient with delta time
-                
-                // Update escape timer
-                if (escapeTimer > 0) {
-                    escapeTimer -= deltaTime;
-                    if (escapeTimer < 0) escapeTimer = 0;
-                }
-                
-                // Update game timer (only during gameplay)
-                if (gameState == GameState.PLAYING && player != null) {
-                    gameTimeSeconds = (System.currentTimeMillis() - gameStartTime) / 1000.0;
-                }
-                
-                // Calculate FPS
-                frameCount++;
-                long currentTime = System.currentTimeMillis();
-                if (currentTime - lastFPSTime >= 1000) {
-                    currentFPS = frameCount;
-                    frameCount = 0;
-                    lastFPSTime = currentTime;
-                }
-                
-                repaint();
-                delta--;
+            // Advance the simulation in whole fixed ticks
+            int ticks = 0;
+            while (accumulator >= nsPerTick && ticks < MAX_TICKS_PER_FRAME) {
+                tick();
+                accumulator -= nsPerTick;
+                ticks++;
+            }
+            if (accumulator >= nsPerTick) {
+                accumulator %= nsPerTick; // Too far behind: slow down rather than spiral
             }
+            if (ticks > 0 && gameState == GameState.PLAYING) {
+                // One copy per batch of ticks; only the newest state is ever drawn
+                simulation.writeSnapshot(frames.getBack());
+                frames.publish();
+            }
+            frameWork += System.nanoTime() - now;
+            
+            // Render every pass, interpolated between ticks
+            renderAlpha = (double)accumulator / nsPerTick;
+            long renderStart = System.nanoTime();
+            render();
+            frameWork += System.nanoTime() - renderStart;
+            if (gameState == GameState.PLAYING && !isPaused) {
+                simulation.getParticleGovernor().recordFrame(frameWork);
+            }
+            if (enableDynamicResolution) {
+                dynamicResolution.recordFrame(frameWork, RENDER_SCALES[renderScaleMode]);
+            }
+            frameWork = 0;
             
             try {
                 Thread.sleep(1);
@@ -1202,6 +948,17 @@ public class Game extends JPanel implements Runnable {
         }
     }
     
+    // One fixed simulation step (deltaTime is always 1.0 tick)
+    private void tick() {
+        update(1.0);
+        gradientTime += GRADIENT_STEP; // Animate gradient
+        
+        // Update escape timer
+        if (escapeTimer > 0) {
+            escapeTimer--;
+        }
+    }
+    
     private void update(double deltaTime) {
         // Update cursor visibility based on game state
         boolean shouldHideCursor = (gameState == GameState.PLAYING && !isPaused);
@@ -1212,38 +969,6 @@ public class Game extends JPanel implements Runnable {
             setCursor(defaultCursor);
         }
         
-        // Handle hit freeze frames (pause game briefly on boss damage)
-        if (hitFreezeFrames > 0) {
-            hitFreezeFrames--;
-            return; // Skip update during freeze
-        }
-        
-        // Apply slow-motion effect to delta time
-        double effectiveDelta = deltaTime;
-        if (slowMotionTimer > 0) {
-            slowMotionTimer--;
-            effectiveDelta = deltaTime * slowMotionFactor;
-            if (slowMotionTimer <= 0) {
-                slowMotionFactor = 1.0; // Reset
-            }
-        }
-        
-        // Use effectiveDelta for all gameplay updates during slow-motion
-        final double dt = effectiveDelta;
-        
-        // Update perfect dodge i-frames
-        if (perfectDodgeIFrames > 0) {
-            perfectDodgeIFrames--;
-        }
-        if (perfectDodgeFlashTimer > 0) {
-            perfectDodgeFlashTimer--;
-        }
-        
-        // Update combo pulse animation (decay back to 1.0)
-        if (comboPulseScale > 1.0) {
-            comboPulseScale = Math.max(1.0, comboPulseScale - 0.05);
-        }
-        
         // Update camera breathing effect
         cameraBreathTime += 0.02;
         cameraBreathOffset = Math.sin(cameraBreathTime) * 2.0;
@@ -1306,1337 +1031,114 @@ public class Game extends JPanel implements Runnable {
         
         if (gameState != GameState.PLAYING) return;
         
-        // Update afterimage trail for player
-        if (player != null) {
-            afterimageTimer++;
-            if (afterimageTimer >= 3) { // Every 3 frames
-                afterimageTimer = 0;
-                // Shift old positions
-                for (int i = afterimageX.length - 1; i > 0; i--) {
-                    afterimageX[i] = afterimageX[i-1];
-                    afterimageY[i] = afterimageY[i-1];
-                    afterimageAlpha[i] = afterimageAlpha[i-1] * 0.7; // Fade out
-                }
-                // Add new position
-                double speed = Math.sqrt(player.getVX() * player.getVX() + player.getVY() * player.getVY());
-                afterimageX[0] = player.getX();
-                afterimageY[0] = player.getY();
-                afterimageAlpha[0] = Math.min(1.0, speed / 4.0); // Only visible when moving fast
-            }
-        }
-        
-        // Reset active item effect states each frame
-        playerInvincible = false;
-        dashSpeedMultiplier = 1.0;
-        // Shield persists until used
-        
-        // Update resurrection animation
-        if (resurrectionAnimation) {
-            resurrectionTimer--;
-            // Animate scale from 0 to 1
-            double progress = 1.0 - (resurrectionTimer / (double)RESURRECTION_DURATION);
-            resurrectionScale = Math.min(1.0, progress * 2.0); // Scale up in first half
-            resurrectionGlow = Math.max(0.0, 1.0 - progress); // Glow fades out
-            
-            if (resurrectionTimer <= 0) {
-                resurrectionAnimation = false;
-            }
-        }
-        
-        // Handle respawn invincibility timer
-        if (respawnInvincibilityTimer > 0) {
-            respawnInvincibilityTimer -= deltaTime;
-            if (respawnInvincibilityTimer <= 0) {
-                // Timer expired - remove shield and invincibility
-                shieldActive = false;
-                playerInvincible = false;
-            } else {
-                // Still invincible from respawn
-                playerInvincible = true;
-            }
-        }
-        
-        // Track survival and score (scaled by delta time) - only when player is alive
-        if (player != null) {
-            gameData.incrementSurvivalTime();
-            
-            // Apply score multiplier from active item
-            ActiveItem item = gameData.getEquippedItem();
-            int scoreGain = (int)deltaTime;
-            if (item != null && item.getType() == ActiveItem.ItemType.LUCKY_CHARM) {
-                scoreGain = (int)(scoreGain * 1.5); // 50% bonus
-            }
-            gameData.addScore(scoreGain);
-        }
-        
-        // Update active item
-        ActiveItem equippedItem = gameData.getEquippedItem();
-        if (equippedItem != null) {
-            equippedItem.update();
-            
-            // Handle active item effects
-            if (equippedItem.isActive()) {
-                handleActiveItemEffects(equippedItem, deltaTime);
-            } else {
-                // Item just ended - clear shield if it was active
-                if (equippedItem.getType() == ActiveItem.ItemType.SHIELD) {
-                    shieldActive = false;
-                }
-            }
-        }
-        
-        // Update screen shake
-        if (screenShakeIntensity > 0) {
-            // Play shake sound for strong impacts (intensity >= 5)
-            if (screenShakeIntensity >= 5 && screenShakeIntensity < 5.5) {
-                soundManager.playSound(SoundManager.Sound.SCREEN_SHAKE, 0.3f);
-            }
-            screenShakeX = (Math.random() - 0.5) * screenShakeIntensity;
-            screenShakeY = (Math.random() - 0.5) * screenShakeIntensity;
-            screenShakeIntensity *= 0.9;
-            if (screenShakeIntensity < 0.1) screenShakeIntensity = 0;
-        } else {
-            screenShakeX = 0;
-            screenShakeY = 0;
-        }
-        
-        // Update flash timers
-        if (bossFlashTimer > 0) {
-            bossFlashTimer--;
-        }
-        if (screenFlashTimer > 0) {
-            screenFlashTimer--;
-        }
-        
-        // Update combo timer
-        if (comboTimer > 0) {
-            comboTimer -= deltaTime;
-            if (comboTimer <= 0) {
-                dodgeCombo = 0;
-            }
-        }
-        
-        // Update boss vulnerability
-        if (bossVulnerable) {
-            vulnerabilityTimer -= deltaTime;
-            if (vulnerabilityTimer <= 0) {
-                bossVulnerable = false;
-            }
-        }
-        
-        // Update player with delta time (only if alive)
-        if (player != null) {
-            // Only allow player control when intro pan is complete
-            if (!introPanActive) {
-                player.update(keys, WIDTH, HEIGHT, dt); // Use effective delta for slow-motion
-            }
-            
-            // Handle intro sequence
-            if (introPanActive) {
-                introPanTimer += dt;
-                
-                double halfDuration = INTRO_PAN_DURATION / 2.0;
-                if (introPanTimer < halfDuration) {
-                    // Boss entrance animation - fly down from above
-                    double progress = introPanTimer / halfDuration;
-                    double easeProgress = 1 - Math.pow(1 - progress, 3); // Ease out cubic
-                    
-                    // Boss flies down smoothly from -200 to 100
-                    bossEntranceY = -200 + (300 * easeProgress);
-                    if (currentBoss != null) {
-                        // Directly set boss Y position during entrance
-                        currentBoss.setPosition(currentBoss.getX(), bossEntranceY);
-                        // Keep animations running (helicopter blades)
-                        currentBoss.updateAnimations(deltaTime);
-                        
-                        // Add screen shake during descent
-                        if (progress > 0.2) {
-                            screenShakeIntensity = Math.max(screenShakeIntensity, 8 + easeProgress * 4);
-                        }
-                        
-                        // Add jet trail particles during descent
-                        if (progress > 0.1 && Math.random() < 0.4) {
-                            double angle = -Math.PI / 2 + (Math.random() - 0.5) * 0.5; // Point upward (thrusters push down)
-                            double speed = 1 + Math.random() * 2;
-                            particles.add(new Particle(
-                                currentBoss.getX() + (Math.random() - 0.5) * 30,
-                                currentBoss.getY() + currentBoss.getSize() / 2,
-                                Math.cos(angle) * speed,
-                                Math.sin(angle) * speed,
-                                new Color(255, 150, 0, 200),
-                                60 + (int)(Math.random() * 30),
-                                8.0 + Math.random() * 8.0,
-                                Particle.ParticleType.TRAIL
-                            ));
-                        }
-                    }
-                    
-                    // Camera follows boss down slightly
-                    double targetY = bossEntranceY * 0.3;
-                    cameraY = targetY;
-                    
-                } else if (introPanTimer < INTRO_PAN_DURATION) {
-                    // Pan back to player (second half)
-                    double progress = (introPanTimer - halfDuration) / halfDuration;
-                    double easeProgress = progress * progress * (3 - 2 * progress); // Smooth ease
-                    
-                    // Boss settles into final position (100)
-                    if (currentBoss != null) {
-                        if (bossEntranceY < 100) {
-                            bossEntranceY += (100 - bossEntranceY) * 0.1;
-                        } else {
-                            bossEntranceY = 100;
-                        }
-                        currentBoss.setPosition(currentBoss.getX(), bossEntranceY);
-                        // Keep animations running
-                        currentBoss.updateAnimations(deltaTime);
-                        
-                        // Screen shake decreases as boss settles
-                        screenShakeIntensity = Math.max(screenShakeIntensity, 6 * (1 - easeProgress));
-                    }
-                    
-                    // Camera pans back to center
-                    double startY = 30.0; // Camera's max Y during boss viewing
-                    cameraY = startY * (1 - easeProgress);
-                    
-                    // Add engine glow particles as boss settles
-                    if (currentBoss != null && Math.random() < 0.15) {
-                        particles.add(new Particle(
-                            currentBoss.getX() + (Math.random() - 0.5) * 40,
-                            currentBoss.getY() + currentBoss.getSize() / 2,
-                            (Math.random() - 0.5) * 0.5,
-                            1 + Math.random() * 1.5,
-                            new Color(100, 150, 255, 180),
-                            40 + (int)(Math.random() * 20),
-                            6.0 + Math.random() * 6.0,
-                            Particle.ParticleType.SPARK
-                        ));
-                    }
-                    
-                } else {
-                    // Entrance complete - add final burst of particles
-                    if (introPanTimer - deltaTime < INTRO_PAN_DURATION) {
-                        // Just finished - add dramatic particle burst
-                        screenShakeIntensity = 15; // Massive shake at the end
-                        if (currentBoss != null) {
-                            for (int i = 0; i < 20; i++) {
-                                double angle = Math.random() * Math.PI * 2;
-                                double speed = 1 + Math.random() * 3;
-                                particles.add(new Particle(
-                                    currentBoss.getX(),
-                                    currentBoss.getY(),
-                                    Math.cos(angle) * speed,
-                                    Math.sin(angle) * speed,
-                                    new Color(255, 200, 100, 200),
-                                    30 + (int)(Math.random() * 30),
-                                    10.0 + Math.random() * 10.0,
-                                    Particle.ParticleType.EXPLOSION
-                                ));
-                            }
-                        }
-                    }
-                    
-                    introPanActive = false;
-                    cameraX = 0;
-                    cameraY = 0;
-                }
-            } else {
-                // Normal camera follow with slow smooth interpolation (only when intro is done)
-                double targetCameraX = 0;
-                double targetCameraY = 0;
-                
-                // Calculate offset from screen center
-                double offsetX = player.getX() - WIDTH / 2;
-                double offsetY = player.getY() - HEIGHT / 2;
-                
-                // Only move camera if player is outside deadzone
-                if (Math.abs(offsetX) > CAMERA_DEADZONE) {
-                    targetCameraX = offsetX - Math.signum(offsetX) * CAMERA_DEADZONE;
-                }
-                if (Math.abs(offsetY) > CAMERA_DEADZONE) {
-                    targetCameraY = offsetY - Math.signum(offsetY) * CAMERA_DEADZONE;
-                }
-                
-                // Smoothly interpolate camera position (slower than before)
-                cameraX += (targetCameraX - cameraX) * CAMERA_SMOOTHING;
-                cameraY += (targetCameraY - cameraY) * CAMERA_SMOOTHING;
-                
-                // Clamp camera to max offset from center
-                cameraX = Math.max(-CAMERA_MAX_OFFSET, Math.min(CAMERA_MAX_OFFSET, cameraX));
-                cameraY = Math.max(-CAMERA_MAX_OFFSET, Math.min(CAMERA_MAX_OFFSET, cameraY));
-            }
-            
-            // Update boss intro cinematic
-            if (bossIntroActive) {
-                bossIntroTimer += deltaTime;
-                if (bossIntroTimer >= BOSS_INTRO_DURATION) {
-                    bossIntroActive = false;
-                }
-            }
-            
-            // If paused, skip all gameplay updates
-            if (isPaused) {
-                return;
-            }
-            
-            // Update combo system
-            comboSystem.update(deltaTime, passiveUpgradeManager.getMultiplier(PassiveUpgrade.UpgradeType.COMBO_DURATION));
-            
-            // Update damage numbers
-            for (int i = damageNumbers.size() - 1; i >= 0; i--) {
-                damageNumbers.get(i).update(deltaTime);
-                if (damageNumbers.get(i).isDone()) {
-                    damageNumbers.remove(i);
-                }
-            }
-            
-            // Update achievement notifications
-            if (achievementNotificationTimer > 0) {
-                achievementNotificationTimer -= deltaTime;
-            }
-            if (achievementNotificationTimer <= 0 && !pendingAchievements.isEmpty()) {
-                // Remove displayed achievement
-                pendingAchievements.remove(0);
-                if (!pendingAchievements.isEmpty()) {
-                    achievementNotificationTimer = ACHIEVEMENT_NOTIFICATION_DURATION;
-                }
-            }
-            
-            // Spawn fire trail behind player
-            if (Game.enableParticles) {
-                trailSpawnTimer++;
-                if (trailSpawnTimer >= 2) { // Every 2 frames
-                    trailSpawnTimer = 0;
-                    // Create rocket/fire trail particles
-                    // Calculate angle based on velocity (or default upward if stationary)
-                    double vx = player.getVX();
-                    double vy = player.getVY();
-                    double angle = (vx == 0 && vy == 0) ? -Math.PI / 2 : Math.atan2(vy, vx);
-                    
-                    // Spawn particles at the back of the rocket (opposite to movement direction)
-                    double backDistance = 20; // Distance behind rocket center
-                    double trailX = player.getX() - Math.cos(angle) * backDistance;
-                    double trailY = player.getY() - Math.sin(angle) * backDistance;
-                    
-                    for (int i = 0; i < 2; i++) {
-                        // Add spread perpendicular to movement direction
-                        double perpAngle = angle + Math.PI / 2;
-                        double spread = (Math.random() - 0.5) * 6;
-                        double finalX = trailX + Math.cos(perpAngle) * spread;
-                        double finalY = trailY + Math.sin(perpAngle) * spread;
-                        
-                        // Particle velocity opposite to rocket direction
-                        double particleVX = -Math.cos(angle) * (0.5 + Math.random() * 1.0);
-                        double particleVY = -Math.sin(angle) * (0.5 + Math.random() * 1.0);
-                        
-                        addParticle(
-                            finalX, finalY,
-                            particleVX, particleVY,
-                            new Color(255, 150 + (int)(Math.random() * 50), 0),
-                            15 + (int)(Math.random() * 10),
-                            6 + (int)(Math.random() * 6),
-                            Particle.ParticleType.SPARK
-                        );
-                    }
-                }
-            }
-        }
-        
-        // Update particles using iterator for efficient removal
-        for (java.util.Iterator<Particle> it = particles.iterator(); it.hasNext();) {
-            Particle p = it.next();
-            p.update(deltaTime);
-            if (!p.isAlive()) {
-                it.remove();
-                returnParticleToPool(p);
-            }
-        }
-        
-        // Check if player hit boss (only vulnerable during special window)
-        if (currentBoss != null && player != null && player.collidesWith(currentBoss) && !bossDeathAnimation) {
-            if (bossVulnerable) {
-                soundManager.playSound(SoundManager.Sound.BOSS_HIT);
-                
-                // Deal damage to boss using new health system
-                currentBoss.takeDamage();
-                int remainingHealth = currentBoss.getCurrentHealth();
-                
-                // Show damage number
-                damageNumbers.add(new DamageNumber("HIT! HP: " + remainingHealth, 
-                    currentBoss.getX(), currentBoss.getY() - 60, 
-                    new Color(255, 100, 100), 36));
-                
-                // Increment hit counter (for old visual effects)
-                bossHitCount++;
-                
-                // Progressive damage effects - more smoke and fire with each hit
-                int particleMultiplier = bossHitCount; // 1x, 2x, 3x particles
-                
-                // Create impact particles at collision point (between player and boss)
-                if (enableParticles) {
-                    double impactX = (player.getX() + currentBoss.getX()) / 2;
-                    double impactY = (player.getY() + currentBoss.getY()) / 2;
-                    
-                    // Bright white/yellow impact flash (scales with hit count)
-                    for (int i = 0; i < 30 * particleMultiplier; i++) {
-                        double angle = Math.random() * TWO_PI;
-                        double speed = 2 + Math.random() * 6;
-                        Color impactColor = Math.random() < 0.5 ? IMPACT_WHITE : IMPACT_YELLOW;
-                        addParticle(
-                            impactX, impactY,
-                            Math.cos(angle) * speed, Math.sin(angle) * speed,
-                            impactColor, 20, 8,
-                            Particle.ParticleType.SPARK
-                        );
-                    }
-                    
-                    // Smoke particles (more with each hit) - use SMOKE type for softer look
-                    for (int i = 0; i < 8 * particleMultiplier; i++) {
-                        double angle = Math.random() * TWO_PI;
-                        double speed = 0.3 + Math.random() * 1.2;
-                        int gray = 50 + (int)(Math.random() * 40); // Vary darkness
-                        addParticle(
-                            currentBoss.getX() + (Math.random() - 0.5) * 30, 
-                            currentBoss.getY() + (Math.random() - 0.5) * 20,
-                            Math.cos(angle) * speed, Math.sin(angle) * speed,
-                            new Color(gray, gray, gray, 120), 50 + (int)(Math.random() * 20), 12 + Math.random() * 8,
-                            Particle.ParticleType.SMOKE
-                        );
-                    }
-                    
-                    // Fire particles (more with each hit)
-                    for (int i = 0; i < 20 * particleMultiplier; i++) {
-                        double angle = Math.random() * TWO_PI;
-                        double speed = 1 + Math.random() * 4;
-                        Color fireColor = Math.random() < 0.5 ? BOSS_FIRE : BOSS_FIRE_BRIGHT;
-                        addParticle(
-                            currentBoss.getX(), currentBoss.getY(),
-                            Math.cos(angle) * speed, Math.sin(angle) * speed,
-                            fireColor, 30, 5,
-                            Particle.ParticleType.SPARK
-                        );
-                    }
-                    
-                    // Metal debris particles (visual damage on plane)
-                    for (int i = 0; i < 25 * particleMultiplier; i++) {
-                        double angle = Math.random() * TWO_PI;
-                        double speed = 2 + Math.random() * 5;
-                        Color debrisColor = new Color(160, 160, 170, 200);
-                        addParticle(
-                            currentBoss.getX(), currentBoss.getY(),
-                            Math.cos(angle) * speed, Math.sin(angle) * speed,
-                            debrisColor, 25, 4,
-                            Particle.ParticleType.SPARK
-                        );
-                    }
-                    
-                    // Sparks from plane damage
-                    for (int i = 0; i < 30 * particleMultiplier; i++) {
-                        double angle = Math.random() * TWO_PI;
-                        double speed = 3 + Math.random() * 6;
-                        Color sparkColor = new Color(255, 220, 100, 220);
-                        addParticle(
-                            currentBoss.getX(), currentBoss.getY(),
-                            Math.cos(angle) * speed, Math.sin(angle) * speed,
-                            sparkColor, 20, 3,
-                            Particle.ParticleType.SPARK
-                        );
-                    }
-                    
-                    // Large explosion rings at impact (scales with hits)
-                    for (int i = 0; i < 5; i++) {
-                        addParticle(
-                            impactX, impactY, 0, 0,
-                            new Color(255, 150 - i * 20, 50, 220 - i * 40), 
-                            40 + i * 10, 
-                            40 + i * 25 + (particleMultiplier * 10),
-                            Particle.ParticleType.EXPLOSION
-                        );
-                    }
-                }
-                
-                // Hit-pause: freeze frames on boss damage (more frames for more hits)
-                hitFreezeFrames = 3 + bossHitCount * 2;
-                
-                // Reset vulnerability
-                bossVulnerable = false;
-                invulnerabilityTimer = 90; // 1.5 seconds before next vulnerability window
-                
-                screenShakeIntensity = 20 + (bossHitCount * 8); // More shake with each hit
-                bossFlashTimer = 12; // Longer boss flash effect
-                
-                // Check if boss is defeated using new health system
-                if (currentBoss.isDead()) {
-                    // Roguelike: Track boss defeat for stats
-                    gameData.onBossDefeated();
-                    
-                    // Track perfect boss kill for achievements
-                    if (!tookDamageThisBoss) {
-                        consecutivePerfectBosses++;
-                        achievementManager.incrementProgress(Achievement.AchievementType.PERFECT_BOSS, 1);
-                        achievementManager.incrementProgress(Achievement.AchievementType.NO_DAMAGE, 1);
-                    } else {
-                        consecutivePerfectBosses = 0;
-                    }
-                    
-                    // Update achievements
-                    achievementManager.incrementProgress(Achievement.AchievementType.BOSS_KILLS, 1);
-                    achievementManager.updateProgress(Achievement.AchievementType.REACH_LEVEL, gameData.getCurrentLevel());
-                    achievementManager.updateProgress(Achievement.AchievementType.GRAZE_COUNT, totalGrazesThisRun);
-                    achievementManager.updateProgress(Achievement.AchievementType.HIGH_COMBO, comboSystem.getMaxCombo());
-                    
-                    // Check for newly unlocked achievements
-                    List<Achievement> newlyUnlocked = achievementManager.getRecentlyUnlocked();
-                    if (!newlyUnlocked.isEmpty()) {
-                        pendingAchievements.addAll(newlyUnlocked);
-                        achievementNotificationTimer = ACHIEVEMENT_NOTIFICATION_DURATION;
-                        achievementManager.clearRecentlyUnlocked();
-                    }
-                    
-                    // Award points and money with passive multipliers
-                    int winBonus = 1000 + (gameData.getCurrentLevel() * 500);
-                    // Apply combo multiplier
-                    winBonus = (int)(winBonus * comboSystem.getMultiplier());
-                    // Apply score multiplier passive
-                    winBonus = (int)(winBonus * passiveUpgradeManager.getMultiplier(PassiveUpgrade.UpgradeType.SCORE_MULTIPLIER));
-                    gameData.addScore(winBonus);
-                    
-                    int moneyReward = currentBoss.getMoneyReward();
-                    
-                    // Apply LUCKY_CHARM multiplier if equipped
-                    if (equippedItem != null && equippedItem.getType() == ActiveItem.ItemType.LUCKY_CHARM) {
-                        moneyReward = (int)(moneyReward * 1.5); // 50% bonus
-                    }
-                    
-                    // Apply money gain passive multiplier
-                    moneyReward = (int)(moneyReward * passiveUpgradeManager.getMultiplier(PassiveUpgrade.UpgradeType.MONEY_GAIN));
-                    
-                    gameData.addRunMoney(moneyReward);
-                    gameData.addTotalMoney(moneyReward);
-                    
-                    // Update money achievement
-                    achievementManager.updateProgress(Achievement.AchievementType.MONEY_EARNED, gameData.getTotalMoney());
-                    
-                    // Save level completion time
-                    gameData.setLevelCompletionTime(gameData.getCurrentLevel(), (int)(gameTimeSeconds * 60));
-                    
-                    // Start boss death animation
-                    soundManager.playSound(SoundManager.Sound.BOSS_DEATH);
-                    bossDeathAnimation = true;
-                    deathAnimationTimer = DEATH_ANIMATION_DURATION;
-                    bossDeathScale = 1.0;
-                    bossDeathRotation = 0;
-                    bossKillTime = gameTimeSeconds;
-                    
-                    // Make player disappear (missile hit)
-                    player = null;
-                    
-                    // Massive final explosion
-                    screenShakeIntensity = 25;
-                
-                // Create massive fiery explosion particles
-                int explosionParticleCount = bullets.size() > 200 ? 50 : 100; // Reduce at high bullet density
-                for (int i = 0; i < explosionParticleCount; i++) {
-                    double angle = Math.random() * TWO_PI;
-                    double speed = 3 + Math.random() * 8;
-                    Color fireColor;
-                    double rand = Math.random();
-                    if (rand < 0.4) {
-                        fireColor = FIRE_ORANGE;
-                    } else if (rand < 0.7) {
-                        fireColor = FIRE_YELLOW;
-                    } else {
-                        fireColor = FIRE_RED;
-                    }
-                    addParticle(
-                        currentBoss.getX(), currentBoss.getY(),
-                        Math.cos(angle) * speed, Math.sin(angle) * speed,
-                        fireColor, 50 + (int)(Math.random() * 30), 6,
-                        Particle.ParticleType.SPARK
-                    );
-                }
-                
-                // Multiple explosion rings
-                for (int i = 0; i < 5; i++) {
-                    addParticle(
-                        currentBoss.getX(), currentBoss.getY(), 0, 0,
-                        new Color(255, 150 - i * 20, 0), 40 + i * 15, 40 + i * 25,
-                        Particle.ParticleType.EXPLOSION
-                    );
-                }
-                } else {
-                    // Non-fatal hit - delay respawn and show explosion
-                    double hitX = (player.getX() + currentBoss.getX()) / 2;
-                    double hitY = (player.getY() + currentBoss.getY()) / 2;
-                    player = null; // Remove player temporarily
-                    waitingForRespawn = true;
-                    respawnDelayTimer = RESPAWN_DELAY;
-                    
-                    // Huge screen shake for explosion
-                    screenShakeIntensity = 20;
-                    
-                    // Create explosion at hit location
-                    if (enableParticles) {
-                        // Large explosion particles
-                        for (int i = 0; i < 50; i++) {
-                            double angle = Math.random() * TWO_PI;
-                            double speed = 2 + Math.random() * 6;
-                            Color expColor = Math.random() < 0.5 ? FIRE_ORANGE : FIRE_YELLOW;
-                            addParticle(
-                                hitX, hitY,
-                                Math.cos(angle) * speed, Math.sin(angle) * speed,
-                                expColor, 40, 10,
-                                Particle.ParticleType.SPARK
-                            );
-                        }
-                        
-                        // Explosion rings
-                        for (int i = 0; i < 4; i++) {
-                            addParticle(
-                                hitX, hitY, 0, 0,
-                                new Color(255, 150 - i * 30, 50, 220 - i * 50), 
-                                30 + i * 10, 
-                                30 + i * 15,
-                                Particle.ParticleType.EXPLOSION
-                            );
-                        }
-                    }
-                    
-                    // Reset vulnerability
-                    bossVulnerable = false;
-                    invulnerabilityTimer = 90; // 1.5 seconds before next vulnerability window
-                    
-                    screenShakeIntensity = 20 + (bossHitCount * 8); // More shake with each hit
-                }
-                
-                return;
-            } else {
-                // Hit boss when not vulnerable - player dies
-                handlePlayerDeath();
-                return;
-            }
-        }
-        
-        // Update boss death animation
-        if (bossDeathAnimation) {
-            deathAnimationTimer -= deltaTime;
-            
-            // Calculate animation progress (0 to 1)
-            double progress = 1.0 - (deathAnimationTimer / (double)DEATH_ANIMATION_DURATION);
-            
-            // Boss shrinks and falls (scale decreases)
-            bossDeathScale = 1.0 - (progress * 0.7); // Shrink to 30% size
-            
-            // Boss spins as it falls
-            bossDeathRotation += 0.05 * deltaTime;
-            
-            // Continuous explosions during death
-            if (enableParticles && Math.random() < 0.15 * deltaTime) {
-                double offsetX = (Math.random() - 0.5) * 80 * bossDeathScale;
-                double offsetY = (Math.random() - 0.5) * 80 * bossDeathScale;
-                for (int i = 0; i < 15; i++) {
-                    double angle = Math.random() * TWO_PI;
-                    double speed = 1 + Math.random() * 4;
-                    Color fireColor = Math.random() < 0.5 ? BOSS_FIRE : BOSS_FIRE_BRIGHT;
-                    addParticle(
-                        currentBoss.getX() + offsetX, currentBoss.getY() + offsetY,
-                        Math.cos(angle) * speed, Math.sin(angle) * speed,
-                        fireColor, 30, 4,
-                        Particle.ParticleType.SPARK
-                    );
-                }
-            }
-            
-            // Continuous screen shake that decreases over time
-            screenShakeIntensity = 15 * (1.0 - progress);
-            
-            // Smoke trails
-            if (enableParticles && Math.random() < 0.3 * deltaTime) {
-                particles.add(new Particle(
-                    currentBoss.getX() + (Math.random() - 0.5) * 60,
-                    currentBoss.getY() + (Math.random() - 0.5) * 60,
-                    (Math.random() - 0.5) * 2, 2 + Math.random() * 3,
-                    new Color(80, 80, 80, 150), 40, 8,
-                    Particle.ParticleType.SPARK
-                ));
-            }
-            
-            // Final explosion and transition to win screen
-            if (deathAnimationTimer <= 0) {
-                // Final massive explosion
-                if (enableParticles) {
-                    for (int i = 0; i < 80; i++) {
-                        double angle = Math.random() * Math.PI * 2;
-                        double speed = 2 + Math.random() * 6;
-                        Color fireColor = new Color(255, (int)(100 + Math.random() * 155), 0);
-                        particles.add(new Particle(
-                            currentBoss.getX(), currentBoss.getY(),
-                            Math.cos(angle) * speed, Math.sin(angle) * speed,
-                            fireColor, 60, 8,
-                            Particle.ParticleType.SPARK
-                        ));
-                    }
-                }
-                
-                screenShakeIntensity = 20;
-                
-                // Check if this is a mega boss (every 3rd level)
-                int currentLevel = gameData.getCurrentLevel();
-                if (currentLevel % 3 == 0 && !gameData.getDefeatedBosses()[currentLevel - 1]) {
-                    // Unlock item before transitioning
-                    gameData.unlockNextItem();
-                    // Get the newly unlocked item for display
-                    java.util.List<ActiveItem.ItemType> unlockedItems = gameData.getUnlockedItems();
-                    if (!unlockedItems.isEmpty()) {
-                        ActiveItem newItem = new ActiveItem(unlockedItems.get(unlockedItems.size() - 1));
-                        unlockedItemName = newItem.getName();
-                    }
-                    // Equip first item if this is the first unlock
-                    if (unlockedItems.size() == 1) {
-                        gameData.equipItem(0);
-                    }
-                    // Trigger animation
-                    soundManager.playSound(SoundManager.Sound.ITEM_PICKUP);
-                    itemUnlockAnimation = true;
-                    itemUnlockTimer = ITEM_UNLOCK_DURATION;
-                    
-                    // Check if this is the SECOND mega boss (level 6)
-                    // Level 6 is the second mega boss (6 % 3 == 0)
-                    if (currentLevel == 6 && !gameData.areContractsUnlocked()) {
-                        // Unlock risk contracts permanently!
-                        gameData.unlockContracts();
-                        // We'll show the contract animation AFTER the item animation finishes
-                    }
-                }
-                
-                soundManager.playSound(SoundManager.Sound.LEVEL_COMPLETE);
-                soundManager.stopMusic();
-                gameState = GameState.WIN;
-                bossDeathAnimation = false;
-                return;
-            }
-        }
-        
-        // Boss becomes vulnerable periodically (less frequent at early levels)
-        if (invulnerabilityTimer > 0) {
-            invulnerabilityTimer -= deltaTime; // Countdown immunity timer
-        }
-        
-        double vulnerabilityChance = 0.01 * deltaTime;
-        if (gameData.getCurrentLevel() <= 3) {
-            vulnerabilityChance *= 0.5; // Half as likely at levels 1-3
-        }
-        if (!bossVulnerable && currentBoss != null && invulnerabilityTimer <= 0 && Math.random() < vulnerabilityChance) {
-            soundManager.playSound(SoundManager.Sound.VULNERABILITY_WINDOW);
-            
-            bossVulnerable = true;
-            // Base duration + 60 frames (1 second) per upgrade level
-            vulnerabilityTimer = VULNERABILITY_DURATION + (gameData.getActiveAttackWindowLevel() * 60);
-            // Visual indicator - sparkles around boss
-            if (enableParticles) {
-                // Larger burst of sparkles when vulnerability opens
-                for (int i = 0; i < 25; i++) {
-                    double angle = Math.random() * TWO_PI;
-                    double radius = 40 + Math.random() * 30;
-                    double speed = 0.5 + Math.random() * 1.5;
-                    addParticle(
-                        currentBoss.getX() + Math.cos(angle) * radius,
-                        currentBoss.getY() + Math.sin(angle) * radius,
-                        Math.cos(angle) * speed, Math.sin(angle) * speed,
-                        VULNERABILITY_GOLD, 40, 4,
-                        Particle.ParticleType.SPARK
-                    );
-                }
-            }
-        }
-        
-        // Warning sparkles 1 second before vulnerability window closes
-        if (bossVulnerable && vulnerabilityTimer > 0 && vulnerabilityTimer < 60 && currentBoss != null) {
-            // Intermittent warning sparkles
-            if (enableParticles && Math.random() < 0.3 * deltaTime) {
-                double angle = Math.random() * TWO_PI;
-                double radius = 50 + Math.random() * 20;
-                addParticle(
-                    currentBoss.getX() + Math.cos(angle) * radius,
-                    currentBoss.getY() + Math.sin(angle) * radius,
-                    0, -2,
-                    WARNING_RED, 20, 3,
-                    Particle.ParticleType.SPARK
-                );
-            }
-        }
-        
-        // Update boss with delta time (but not during death animation, intro, or respawn delay)
-        if (currentBoss != null && !bossDeathAnimation && !introPanActive && player != null) {
-            int bulletCountBefore = bullets.size();
-            currentBoss.update(bullets, player, WIDTH, HEIGHT, deltaTime, particles);
-            beamAttacks = currentBoss.getBeamAttacks();
-            
-            // Apply risk contract effects to newly spawned bullets
-            if (riskContractType > 0 && bullets.size() > bulletCountBefore) {
-                List<Bullet> newBullets = new java.util.ArrayList<>();
-                for (int i = bulletCountBefore; i < bullets.size(); i++) {
-                    Bullet bullet = bullets.get(i);
-                    
-                    // Speed Demon: 50% faster bullets
-                    if (riskContractType == 2) {
-                        double speedMult = 1.5;
-                        bullet.multiplySpeed(speedMult);
-                    }
-                    
-                    // Bullet Storm: duplicate bullets with slight offset
-                    if (riskContractType == 1) {
-                        Bullet duplicate = getBulletFromPool();
-                        duplicate.reset(
-                            bullet.getX() + (Math.random() - 0.5) * 10,
-                            bullet.getY() + (Math.random() - 0.5) * 10,
-                            bullet.getVX() * (0.9 + Math.random() * 0.2),
-                            bullet.getVY() * (0.9 + Math.random() * 0.2),
-                            bullet.getType()
-                        );
-                        newBullets.add(duplicate);
-                    }
-                }
-                bullets.addAll(newBullets);
-            }
-            
-            // Add continuous flame and smoke particles from damaged boss
-            if (bossHitCount > 0 && enableParticles) {
-                // More frequent particles with each hit
-                double spawnChance = 0.2 * bossHitCount; // 20% per hit level
-                
-                if (Math.random() < spawnChance) {
-                    // Flame particles
-                    double angle = Math.PI / 2 + (Math.random() - 0.5) * 0.8; // Downward
-                    double speed = 0.5 + Math.random() * 1.5;
-                    Color flameColor = Math.random() < 0.6 ? FIRE_ORANGE : FIRE_RED;
-                    addParticle(
-                        currentBoss.getX() + (Math.random() - 0.5) * 40,
-                        currentBoss.getY() + (Math.random() - 0.5) * 30,
-                        Math.cos(angle) * speed,
-                        Math.sin(angle) * speed,
-                        flameColor, 35 + (int)(Math.random() * 20), 6 + Math.random() * 4,
-                        Particle.ParticleType.TRAIL
-                    );
-                }
-                
-                if (Math.random() < spawnChance * 0.7) {
-                    // Smoke particles (darker, slower) - use SMOKE type for softer look
-                    double angle = Math.PI / 2 + (Math.random() - 0.5) * 0.6;
-                    double speed = 0.2 + Math.random() * 0.8;
-                    int gray = 40 + (int)(Math.random() * 30);
-                    addParticle(
-                        currentBoss.getX() + (Math.random() - 0.5) * 35,
-                        currentBoss.getY() + (Math.random() - 0.5) * 25,
-                        Math.cos(angle) * speed,
-                        Math.sin(angle) * speed,
-                        new Color(gray, gray, gray, 140), 60 + (int)(Math.random() * 40), 10 + Math.random() * 6,
-                        Particle.ParticleType.SMOKE
-                    );
-                }
-            }
-        }
-        
-        // Handle respawn delay after non-fatal boss hit
-        if (waitingForRespawn) {
-            respawnDelayTimer -= deltaTime;
-            
-            if (respawnDelayTimer <= 0) {
-                // Respawn player at bottom with shield
-                soundManager.playSound(SoundManager.Sound.PLAYER_RESPAWN);
-                player = new Player(WIDTH / 2, HEIGHT - 200, gameData.getActiveSpeedLevel());
-                shieldActive = true;
-                playerInvincible = true;
-                respawnInvincibilityTimer = 180; // 3 seconds of invincibility after respawn
-                waitingForRespawn = false;
-                
-                // Add respawn flash effect
-                if (enableParticles) {
-                    // Bright spawn flash at new player position
-                    for (int i = 0; i < 60; i++) {
-                        double angle = Math.random() * TWO_PI;
-                        double speed = 3 + Math.random() * 7;
-                        Color spawnColor = new Color(100, 200, 255, 220);
-                        addParticle(
-                            WIDTH / 2, HEIGHT - 200,
-                            Math.cos(angle) * speed, Math.sin(angle) * speed,
-                            spawnColor, 35, 12,
-                            Particle.ParticleType.SPARK
-                        );
-                    }
-                    // Shield activation rings
-                    for (int i = 0; i < 4; i++) {
-                        addParticle(
-                            WIDTH / 2, HEIGHT - 200, 0, 0,
-                            new Color(136, 192, 208, 220 - i * 45), 40 + i * 12, 35 + i * 20,
-                            Particle.ParticleType.EXPLOSION
-                        );
-                    }
-                }
-            }
-        }
+        // Step gameplay simulation
+        simulation.setInput(keys);
+        simulation.setPaused(isPaused);
+        simulation.setParticlesEnabled(enableParticles);
+        simulation.update(deltaTime);
         
-        // Check beam attack collisions (only if player exists)
-        for (BeamAttack beam : beamAttacks) {
-            // Update beam lifecycle
-            beam.update(dt);
-            
-            // Play beam lifecycle sounds
-            if (beam.shouldPlayWarning()) {
-                soundManager.playSound(SoundManager.Sound.BEAM_WARNING, 0.5f);
-            }
-            if (beam.shouldPlayFire()) {
-                soundManager.playSound(SoundManager.Sound.EXPL_MEDIUM_1, 0.6f);
-            }
-            
-            if (player != null && beam.collidesWith(player)) {
-                // Hit by beam - game over
-                
-                // Create death particles
-                for (int j = 0; j < 20; j++) {
-                    double angle = Math.random() * TWO_PI;
-                    double speed = 1 + Math.random() * 3;
-                    addParticle(
-                        player.getX(), player.getY(),
-                        Math.cos(angle) * speed, Math.sin(angle) * speed,
-                        PLAYER_DEATH_RED, 30, 6,
-                        Particle.ParticleType.SPARK
-                    );
-                }
-                handlePlayerDeath();
-                return;
+        if (simulation.isGameOver()) {
+            gameState = GameState.GAME_OVER;
+        } else if (simulation.isLevelComplete()) {
+            // Mega boss unlocked an item - show unlock animation on the win screen
+            if (simulation.getUnlockedItemName() != null) {
+                unlockedItemName = simulation.getUnlockedItemName();
+                itemUnlockAnimation = true;
+                itemUnlockTimer = ITEM_UNLOCK_DURATION;
             }
+            gameState = GameState.WIN;
         }
+    }
         
-        // Update bullets
-        for (int i = bullets.size() - 1; i >= 0; i--) {
-            Bullet bullet = bullets.get(i);
-            
-            // Apply bullet slow upgrade (reduced to 0.1% per level)
-            if (gameData.getActiveBulletSlowLevel() > 0) {
-                bullet.applySlow(0.999 - (gameData.getActiveBulletSlowLevel() * 0.0001));
-            }
-            
-            // Apply time slow from active item
-            if (equippedItem != null && equippedItem.isActive() && 
-                equippedItem.getType() == ActiveItem.ItemType.TIME_SLOW) {
-                bullet.applySlow(0.5); // 50% speed
-            }
-            
-            bullet.update(player, WIDTH, HEIGHT, deltaTime);
-            
-            // Spawn trail particles for fast-moving bullets
-            if (enableParticles && bullet.shouldSpawnTrail() && Math.random() < 0.10 * deltaTime) {
-                addParticle(
-                    bullet.getX(), bullet.getY(),
-                    -bullet.getVX() * 0.2, -bullet.getVY() * 0.2,
-                    bullet.getTrailColor(), 15, 3,
-                    Particle.ParticleType.TRAIL
-                );
-            }
-            
-            // Check if explosive bullets should explode
-            if (bullet.shouldExplode()) {
-                // Play appropriate explosion sound based on bullet type
-                Bullet.BulletType bulletType = bullet.getType();
-                if (bulletType == Bullet.BulletType.BOMB || bulletType == Bullet.BulletType.GRENADE || bulletType == Bullet.BulletType.NUKE) {
-                    soundManager.playSound(SoundManager.Sound.GRENADE_EXPLODE, 0.6f);
-                } else {
-                    SoundManager.Sound[] explosionSounds = {
-                        SoundManager.Sound.EXPL_SHORT_1, SoundManager.Sound.EXPL_SHORT_2, 
-                        SoundManager.Sound.EXPL_SHORT_3, SoundManager.Sound.EXPL_SHORT_4, 
-                        SoundManager.Sound.EXPL_SHORT_5
-                    };
-                    soundManager.playSound(explosionSounds[(int)(Math.random() * explosionSounds.length)], 0.4f);
-                }
-                
-                // Create explosion particles with shockwave
-                if (enableParticles) {
-                    // Scale down particle count if too many bullets
-                    List<Particle> explosionParticles = bullet.createExplosionParticles();
-                    int particlesToAdd = bullets.size() > 200 ? explosionParticles.size() / 2 : explosionParticles.size();
-                    for (int j = 0; j < particlesToAdd && particles.size() < MAX_PARTICLES; j++) {
-                        particles.add(explosionParticles.get(j));
-                    }
-                }
-                
-                // Create fragments from explosion
-                List<Bullet> fragments = bullet.createFragments();
-                bullets.addAll(fragments);
-                bullets.remove(i);
-                returnBulletToPool(bullet);
-                continue;
-            }
-            
-            // Check if splitting bullet should split
-            if (bullet.shouldSplit()) {
-                bullet.markAsSplit();
-                double baseAngle = Math.atan2(bullet.getVY(), bullet.getVX());
-                for (int j = 0; j < 4; j++) {
-                    double angle = baseAngle + (Math.PI / 2 * j);
-                    // Use pooled bullet if available
-                    Bullet newBullet = getBulletFromPool();
-                    newBullet.reset(bullet.getX(), bullet.getY(), 
-                                   Math.cos(angle) * 3, Math.sin(angle) * 3, 
-                                   Bullet.BulletType.FAST);
-                    bullets.add(newBullet);
-                }
-            }
-            
-            // Remove off-screen bullets and return to pool
-            if (bullet.isOffScreen(WIDTH, HEIGHT)) {
-                bullets.remove(i);
-                returnBulletToPool(bullet);
-            }
+    // Draw and present one frame (called from the game loop only)
+    private void render() {
+        BufferStrategy strategy = getBufferStrategy();
+        if (strategy == null) {
+            if (!isDisplayable()) return;
+            createBufferStrategy(2); // Page flipping where available, blitting otherwise
+            return;
         }
         
-        // Rebuild spatial grid after all bullet updates for optimized collision
-        rebuildBulletGrid();
-        
-        // Check collisions using spatial grid (much faster for many bullets!)
-        if (player != null) {
-            List<Bullet> nearbyBullets = getNearbyBullets(player.getX(), player.getY());
-            for (Bullet bullet : nearbyBullets) {
-                if (bullet.isActive() && bullet.collidesWith(player)) {
-                    // Check for active item invincibility (DASH or INVINCIBILITY)
-                    if (playerInvincible) {
-                        // Invincible - bullets pass through
-                        continue;
-                    }
-                    
-                    // Check for perfect dodge i-frames
-                    if (perfectDodgeIFrames > 0) {
-                        // Perfect dodge invincibility - phase through bullet
-                        continue;
-                    }
-                    
-                    // Check for shield
-                    if (shieldActive) {
-                        // Shield blocks the hit
-                        soundManager.playSound(SoundManager.Sound.SHIELD_BREAK);
-                        shieldActive = false;
-                        bullets.remove(bullet);
-                        returnBulletToPool(bullet);
-                        
-                        // Create shield break particles
-                        if (enableParticles) {
-                            for (int j = 0; j < 15; j++) {
-                                double angle = Math.random() * TWO_PI;
-                                double speed = 2 + Math.random() * 4;
-                                addParticle(
-                                    player.getX(), player.getY(),
-                                    Math.cos(angle) * speed, Math.sin(angle) * speed,
-                                    new Color(136, 192, 208), 25, 6,
-                                    Particle.ParticleType.SPARK
-                                );
-                            }
-                        }
-                        
-                        screenShakeIntensity = 5;
-                        continue;
-                    }
-                    
-                    // Lucky Dodge chance - phase through bullets
-                    int luckyDodgeLevel = gameData.getActiveLuckyDodgeLevel();
-                    if (luckyDodgeLevel > 0) {
-                        double dodgeChance = luckyDodgeLevel * 0.05; // 5% per level
-                        if (Math.random() < dodgeChance) {
-                            soundManager.playSound(SoundManager.Sound.DODGE, 1.0f + (dodgeCombo * 0.1f));
-                            
-                            // Lucky dodge! Trigger flicker animation
-                            player.triggerFlicker();
-                            bullets.remove(bullet);
-                            returnBulletToPool(bullet);
-                            
-                            // Increment dodge combo
-                            dodgeCombo++;
-                            comboTimer = COMBO_TIMEOUT;
-                            
-                            // Add score based on combo
-                            gameData.addScore(10 * dodgeCombo);
-                            
-                            // Create dodge particles
-                            if (enableParticles) {
-                                for (int j = 0; j < 8; j++) {
-                                    double angle = TWO_PI * j / 8;
-                                    addParticle(
-                                        player.getX(), player.getY(),
-                                        Math.cos(angle) * 2, Math.sin(angle) * 2,
-                                        DODGE_GREEN, 20, 5,
-                                        Particle.ParticleType.DODGE
-                                    );
-                                }
-                            }
-                            
-                            continue;
-                        }
-                    }
-                    
-                    // No dodge - game over
-                    
-                    // Create death particles
-                    if (enableParticles) {
-                        for (int j = 0; j < 20; j++) {
-                            double angle = Math.random() * TWO_PI;
-                            double speed = 1 + Math.random() * 3;
-                            addParticle(
-                                player.getX(), player.getY(),
-                                Math.cos(angle) * speed, Math.sin(angle) * speed,
-                                PLAYER_DEATH_RED, 30, 6,
-                                Particle.ParticleType.SPARK
-                            );
-                        }
-                    }
-                    handlePlayerDeath();
-                    return;
-                }
-                
-                // Check for graze (near miss)
-                double grazeRadius = GRAZE_DISTANCE * passiveUpgradeManager.getMultiplier(PassiveUpgrade.UpgradeType.GRAZE_RADIUS);
-                double closeCallRadius = CLOSE_CALL_DISTANCE * passiveUpgradeManager.getMultiplier(PassiveUpgrade.UpgradeType.GRAZE_RADIUS);
-                double perfectDodgeRadius = PERFECT_DODGE_DISTANCE;
-                double dist = Math.sqrt(Math.pow(bullet.getX() - player.getX(), 2) + Math.pow(bullet.getY() - player.getY(), 2));
-                
-                if (!bullet.hasGrazed() && dist < grazeRadius && dist > player.getSize() / 2.0) {
-                    bullet.setGrazed(true);
-                    totalGrazesThisRun++;
-                    
-                    // Determine graze tier
-                    boolean isPerfectDodge = dist < perfectDodgeRadius;
-                    boolean isCloseCall = dist < closeCallRadius;
-                    
-                    // Calculate graze value based on tier
-                    int grazeValue = 1;
-                    int moneyBonus = 0;
-                    Color particleColor = new Color(100, 200, 255, 200);
-                    
-                    if (isPerfectDodge) {
-                        // PERFECT DODGE - highest reward
-                        soundManager.playSound(SoundManager.Sound.PERFECT_DODGE, 1.2f);
-                        grazeValue = 5;
-                        moneyBonus = (int)(25 * riskContractMultiplier);
-                        particleColor = new Color(255, 215, 0, 255); // Gold
-                        
-                        // Grant brief invincibility
-                        perfectDodgeIFrames = PERFECT_DODGE_IFRAMES;
-                        perfectDodgeFlashTimer = 20;
-                        
-                        // Intense slow-mo and effects
-                        slowMotionFactor = 0.15;
-                        slowMotionTimer = 10;
-                        screenShakeIntensity = Math.max(screenShakeIntensity, 5);
-                        comboPulseScale = 1.6;
-                        
-                        // Spawn damage number showing "PERFECT!"
-                        damageNumbers.add(new DamageNumber("PERFECT!", player.getX(), player.getY() - 30, new Color(255, 215, 0), 24));
-                        
-                    } else if (isCloseCall) {
-                        // CLOSE CALL - medium reward
-                        soundManager.playSound(SoundManager.Sound.CLOSE_CALL, 0.9f);
-                        grazeValue = 2;
-                        moneyBonus = (int)(10 * riskContractMultiplier);
-                        particleColor = new Color(150, 255, 150, 220); // Green
-                        
-                        // Moderate slow-mo
-                        slowMotionFactor = 0.25;
-                        slowMotionTimer = 6;
-                        screenShakeIntensity = Math.max(screenShakeIntensity, 3);
-                        comboPulseScale = 1.4;
-                        
+        // Redraw if the back buffer was lost/restored (e.g. display mode change)
+        do {
+            do {
+                Graphics2D g2d = (Graphics2D) strategy.getDrawGraphics();
+                try {
+                    double scale = getRenderScale();
+                    if (scale < 1.0) {
+                        drawScaledFrame(g2d, scale);
                     } else {
-                        // Normal graze - no sound to prevent spam
-                        grazeValue = 1;
-                        moneyBonus = (int)(2 * riskContractMultiplier);
-                        comboPulseScale = 1.2;
-                    }
-                    
-                    // Add combo with tier info
-                    comboSystem.addCombo(grazeValue, isCloseCall, isPerfectDodge, soundManager);
-                    
-                    // Add score with combo multiplier
-                    int grazeScore = (int)(10 * grazeValue * comboSystem.getMultiplier());
-                    gameData.addScore(grazeScore);
-                    
-                    // Add money bonus
-                    if (moneyBonus > 0) {
-                        gameData.addRunMoney(moneyBonus);
-                        if (isPerfectDodge) {
-                            soundManager.playSound(SoundManager.Sound.COIN_PICKUP, 1.2f);
-                        }
-                    }
-                    
-                    // Create enhanced graze particle effect
-                    if (enableParticles) {
-                        // More particles for higher tiers
-                        int particleCount = isPerfectDodge ? 15 : (isCloseCall ? 10 : 6);
-                        double bulletAngle = Math.atan2(bullet.getVY(), bullet.getVX());
-                        
-                        for (int j = 0; j < particleCount; j++) {
-                            double spreadAngle = bulletAngle + Math.PI + (Math.random() - 0.5) * 1.2;
-                            double speed = 2 + Math.random() * (isPerfectDodge ? 5 : 3);
-                            addParticle(
-                                player.getX() + (Math.random() - 0.5) * 10, 
-                                player.getY() + (Math.random() - 0.5) * 10,
-                                Math.cos(spreadAngle) * speed, Math.sin(spreadAngle) * speed,
-                                particleColor, 20, isPerfectDodge ? 6 : 4,
-                                Particle.ParticleType.TRAIL
-                            );
-                        }
-                        
-                        // Glow ring at graze point
-                        int ringSize = isPerfectDodge ? 30 : (isCloseCall ? 20 : 15);
-                        addParticle(
-                            (bullet.getX() + player.getX()) / 2, 
-                            (bullet.getY() + player.getY()) / 2, 
-                            0, 0,
-                            particleColor, 15, ringSize,
-                            Particle.ParticleType.EXPLOSION
-                        );
-                        
-                        // Extra starburst for perfect dodges
-                        if (isPerfectDodge) {
-                            for (int j = 0; j < 8; j++) {
-                                double angle = (j / 8.0) * TWO_PI;
-                                addParticle(
-                                    player.getX(), player.getY(),
-                                    Math.cos(angle) * 4, Math.sin(angle) * 4,
-                                    new Color(255, 255, 200, 200), 25, 3,
-                                    Particle.ParticleType.SPARK
-                                );
-                            }
-                        }
+                        drawFrame(g2d);
                     }
+                } finally {
+                    g2d.dispose();
                 }
-            }
-        }
-    }
-        
-    // Bullet pooling methods
-    private Bullet getBulletFromPool() {
-        if (bulletPool.isEmpty()) {
-            return new Bullet(0, 0, 0, 0);
-        }
-        return bulletPool.remove(bulletPool.size() - 1);
+            } while (strategy.contentsRestored());
+            strategy.show();
+        } while (strategy.contentsLost());
+        Toolkit.getDefaultToolkit().sync(); // Flush the pipeline so frames aren't queued up (Linux)
     }
     
-    private void returnBulletToPool(Bullet bullet) {
-        if (bulletPool.size() < 500) { // Cap pool size
-            bulletPool.add(bullet);
-        }
+    public double getRenderScale() {
+        return enableDynamicResolution ? dynamicResolution.getScale() : RENDER_SCALES[renderScaleMode];
     }
     
-    // Particle pooling methods
-    private Particle getParticleFromPool() {
-        if (particlePool.isEmpty()) {
-            return new Particle(0, 0, 0, 0, Color.WHITE, 1, 1, Particle.ParticleType.SPARK);
-        }
-        return particlePool.remove(particlePool.size() - 1);
-    }
-    
-    private void returnParticleToPool(Particle particle) {
-        if (particlePool.size() < 300) { // Cap pool size
-            particlePool.add(particle);
-        }
-    }
-    
-    // Add particle with pooling and limit check
-    private void addParticle(double x, double y, double vx, double vy, Color color, int lifetime, double size, Particle.ParticleType type) {
-        if (particles.size() >= MAX_PARTICLES) return; // Limit particles
-        Particle p = getParticleFromPool();
-        p.reset(x, y, vx, vy, color, lifetime, size, type);
-        particles.add(p);
-    }
-    
-    // Check for close calls with bullets (graze detection)
-    private void checkBulletGrazes(Player player) {
-        List<Bullet> nearbyBullets = getNearbyBullets(player.getX(), player.getY());
-        double playerRadius = player.getSize() / 2.0;
-        
-        for (Bullet bullet : nearbyBullets) {
-            if (bullet.hasGrazed()) continue; // Only count each graze once
-            
-            double dx = bullet.getX() - player.getX();
-            double dy = bullet.getY() - player.getY();
-            double distance = Math.sqrt(dx * dx + dy * dy);
-            double bulletRadius = 4.0; // Default bullet radius
-            double hitDistance = playerRadius + bulletRadius;
-            
-            // Check if bullet is in graze zone (close but not hitting)
-            if (distance > hitDistance && distance < hitDistance + GRAZE_DISTANCE) {
-                bullet.setGrazed(true);
-                
-                // Award graze bonus
-                int grazeBonus = 10;
-                grazeScore += grazeBonus;
-                gameData.addScore(grazeBonus);
-                
-                // Spawn graze particles
-                if (enableParticles && Math.random() < 0.3) {
-                    for (int i = 0; i < 3; i++) {
-                        double angle = Math.random() * TWO_PI;
-                        double speed = 0.5 + Math.random() * 1.5;
-                        addParticle(
-                            player.getX() + Math.cos(angle) * playerRadius,
-                            player.getY() + Math.sin(angle) * playerRadius,
-                            Math.cos(angle) * speed,
-                            Math.sin(angle) * speed,
-                            new Color(100, 200, 255, 200),
-                            20, 3,
-                            Particle.ParticleType.SPARK
-                        );
-                    }
+    // Draw the frame at a reduced internal resolution, then stretch it onto the
+    // window in one drawImage. The buffer is sized for the chosen render scale;
+    // dynamic resolution only uses a smaller top-left part of it.
+    private void drawScaledFrame(Graphics2D g2d, double scale) {
+        double maxScale = RENDER_SCALES[renderScaleMode];
+        int bufferWidth = (int)Math.ceil(WIDTH * maxScale);
+        int bufferHeight = (int)Math.ceil(HEIGHT * maxScale);
+        int sceneWidth = Math.min(bufferWidth, (int)Math.ceil(WIDTH * scale));
+        int sceneHeight = Math.min(bufferHeight, (int)Math.ceil(HEIGHT * scale));
+        
+        do {
+            if (sceneBuffer == null || sceneBuffer.getWidth() != bufferWidth || sceneBuffer.getHeight() != bufferHeight
+                    || sceneBuffer.validate(getGraphicsConfiguration()) == VolatileImage.IMAGE_INCOMPATIBLE) {
+                if (sceneBuffer != null) sceneBuffer.flush();
+                sceneBuffer = createVolatileImage(bufferWidth, bufferHeight);
+                if (sceneBuffer == null) { // Not displayable yet
+                    drawFrame(g2d);
+                    return;
                 }
             }
-        }
-    }
-    
-    // Spatial grid methods for optimized collision detection
-    private int getGridKey(double x, double y) {
-        int gridX = (int)(x * INV_GRID_CELL_SIZE);
-        int gridY = (int)(y * INV_GRID_CELL_SIZE);
-        return gridX * GRID_WIDTH_MULTIPLIER + gridY; // Simple hash
-    }
-    
-    private void rebuildBulletGrid() {
-        bulletGrid.clear();
-        for (Bullet bullet : bullets) {
-            if (bullet.isActive()) {
-                int key = getGridKey(bullet.getX(), bullet.getY());
-                bulletGrid.computeIfAbsent(key, k -> new ArrayList<>()).add(bullet);
+            Graphics2D sceneGraphics = sceneBuffer.createGraphics();
+            try {
+                sceneGraphics.clipRect(0, 0, sceneWidth, sceneHeight);
+                sceneGraphics.scale((double)sceneWidth / WIDTH, (double)sceneHeight / HEIGHT);
+                drawFrame(sceneGraphics);
+            } finally {
+                sceneGraphics.dispose();
             }
-        }
+        } while (sceneBuffer.contentsLost());
+        
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, smoothUpscale
+            ? RenderingHints.VALUE_INTERPOLATION_BILINEAR : RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        g2d.drawImage(sceneBuffer, 0, 0, getWidth(), getHeight(), 0, 0, sceneWidth, sceneHeight, null);
     }
     
-    private List<Bullet> getNearbyBullets(double x, double y) {
-        nearbyBulletsCache.clear(); // Reuse list to avoid allocation
-        // Pre-compute base grid coordinates
-        int baseX = (int)(x * INV_GRID_CELL_SIZE);
-        int baseY = (int)(y * INV_GRID_CELL_SIZE);
-        
-        // Check 3x3 grid around player - manually add to avoid addAll overhead
-        for (int dx = -1; dx <= 1; dx++) {
-            int checkX = baseX + dx;
-            for (int dy = -1; dy <= 1; dy++) {
-                int checkY = baseY + dy;
-                int key = checkX * GRID_WIDTH_MULTIPLIER + checkY;
-                List<Bullet> cellBullets = bulletGrid.get(key);
-                if (cellBullets != null) {
-                    for (Bullet b : cellBullets) {
-                        nearbyBulletsCache.add(b);
-                    }
-                }
-            }
-        }
-        return nearbyBulletsCache;
+    // AWT paint events are ignored; the game loop redraws continuously
+    @Override
+    public void paint(Graphics g) {
     }
     
-    @Override
-    protected void paintComponent(Graphics g) {
-        super.paintComponent(g);
-        Graphics2D g2d = (Graphics2D) g;
+    private void drawFrame(Graphics2D g2d) {
+        frameTransform = g2d.getTransform();
+        g2d.setColor(Color.BLACK);
+        g2d.fillRect(0, 0, WIDTH, HEIGHT);
+        
+        // Count rendered frames (ticks are fixed, so FPS only measures rendering)
+        frameCount++;
+        long currentTime = System.currentTimeMillis();
+        if (currentTime - lastFPSTime >= 1000) {
+            currentFPS = frameCount;
+            frameCount = 0;
+            lastFPSTime = currentTime;
+        }
         
         // Use faster rendering during intense gameplay, better quality for menus
-        if (gameState == GameState.PLAYING && bullets.size() > 100) {
+        if (gameState == GameState.PLAYING && frames.acquireLatest().bullets.size() > 100) {
             g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
             g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_SPEED);
         } else {
@@ -2679,7 +1181,7 @@ public class Game extends JPanel implements Runnable {
                 break;
             case STATS:
                 renderer.drawStats(g2d, WIDTH, HEIGHT, gradientTime);
-                renderer.drawStatsUpgrades(g2d, WIDTH, selectedStatItem);
+                renderer.drawStatsUpgrades(g2d, WIDTH, HEIGHT, selectedStatItem);
                 break;
             case SETTINGS:
                 renderer.drawSettings(g2d, WIDTH, HEIGHT, selectedSettingsItem, gradientTime, settingsScroll, selectedSettingsCategory, gameData);
@@ -2692,9 +1194,11 @@ public class Game extends JPanel implements Runnable {
                 break;
             case PLAYING:
                 // Apply screen shake
-                g2d.translate(screenShakeX, screenShakeY);
-                renderer.drawGame(g2d, WIDTH, HEIGHT, player, currentBoss, bullets, particles, beamAttacks, gameData.getCurrentLevel(), gradientTime, bossVulnerable, vulnerabilityTimer, dodgeCombo, comboTimer > 0, bossDeathAnimation, bossDeathScale, bossDeathRotation, gameTimeSeconds, currentFPS, shieldActive, playerInvincible, bossHitCount, cameraX, cameraY, introPanActive, bossFlashTimer, screenFlashTimer, comboSystem, damageNumbers, bossIntroActive, bossIntroText, bossIntroTimer, isPaused, selectedPauseItem, pendingAchievements, achievementNotificationTimer, resurrectionAnimation, resurrectionTimer, resurrectionScale, resurrectionGlow);
-                g2d.translate(-screenShakeX, -screenShakeY);
+                FrameSnapshot frame = frames.acquireLatest();
+                g2d.translate(frame.screenShakeX, frame.screenShakeY);
+                renderer.setInterpolationAlpha(isPaused ? 1.0 : renderAlpha);
+                renderer.drawGame(g2d, WIDTH, HEIGHT, frame, gradientTime, currentFPS, isPaused, selectedPauseItem);
+                g2d.translate(-frame.screenShakeX, -frame.screenShakeY);
                 break;
             case LOADING:
                 // Draw loading screen directly (renderer not yet created)
@@ -2704,7 +1208,7 @@ public class Game extends JPanel implements Runnable {
                 renderer.drawGameOver(g2d, WIDTH, HEIGHT, gradientTime);
                 break;
             case WIN:
-                renderer.drawWin(g2d, WIDTH, HEIGHT, gradientTime, bossKillTime);
+                renderer.drawWin(g2d, WIDTH, HEIGHT, gradientTime, simulation.getBossKillTime());
                 // Draw item unlock animation if active
                 if (itemUnlockAnimation) {
                     drawItemUnlockAnimation(g2d, WIDTH, HEIGHT);
@@ -2732,7 +1236,7 @@ public class Game extends JPanel implements Runnable {
             } else if (newState == GameState.PLAYING) {
                 // Pick random boss fight theme (1, 5, 6, 7, 8)
                 int[] themes = {1, 5, 6, 7, 8};
-                int theme = themes[(int)(Math.random() * themes.length)];
+                int theme = themes[fxRandom.nextInt(themes.length)];
                 soundManager.playMusic("SFX/Music Tracks/Boss Fight Theme (" + theme + ").mp3");
             }
             
@@ -2765,7 +1269,7 @@ public class Game extends JPanel implements Runnable {
     }
     
     private void toggleSetting(int settingIndex) {
-        // Category 0: Graphics (11 settings)
+        // Category 0: Graphics (13 settings)
         // Category 1: Audio (5 settings)
         // Category 2: Debug (1 setting)
         
@@ -2782,6 +1286,15 @@ public class Game extends JPanel implements Runnable {
                 case 7: enableMotionBlur = !enableMotionBlur; break;
                 case 8: enableChromaticAberration = !enableChromaticAberration; break;
                 case 9: enableVignette = !enableVignette; break;
+                case 10:
+                    renderScaleMode = (renderScaleMode + 1) % RENDER_SCALES.length;
+                    dynamicResolution.reset(RENDER_SCALES[renderScaleMode]);
+                    break;
+                case 11:
+                    enableDynamicResolution = !enableDynamicResolution;
+                    dynamicResolution.reset(RENDER_SCALES[renderScaleMode]);
+                    break;
+                case 12: smoothUpscale = !smoothUpscale; break;
             }
         } else if (selectedSettingsCategory == 1) {
             // Audio settings
@@ -2826,45 +1339,40 @@ public class Game extends JPanel implements Runnable {
     }
     
     private int getMaxSettingsItems() {
-        if (selectedSettingsCategory == 0) return 9; // Graphics: 10 items (0-9)
+        if (selectedSettingsCategory == 0) return 12; // Graphics: 13 items (0-12)
         if (selectedSettingsCategory == 1) return 4; // Audio: 5 items (0-4)
         if (selectedSettingsCategory == 2) return 0; // Debug: 1 item (0)
         return 0;
     }
     
     private void startAssetLoading() {
+        // Progress is picked up by the game loop's next frame
         Thread loadingThread = new Thread(() -> {
             try {
                 targetLoadingProgress = 10;
-                repaint();
                 
                 // Preload sounds
                 soundManager.preloadSounds();
                 targetLoadingProgress = 40;
-                repaint();
                 
                 // Create renderer (this loads backgrounds and overlay)
                 renderer = new Renderer(gameData, shopManager);
                 targetLoadingProgress = 90;
-                repaint();
                 
                 // Small delay to ensure everything is ready
                 Thread.sleep(200);
                 targetLoadingProgress = 100;
-                repaint();
                 
                 // Wait a moment then switch to menu
                 Thread.sleep(300);
                 loadingComplete = true;
                 gameState = GameState.MENU;
-                repaint();
                 
             } catch (Exception e) {
                 e.printStackTrace();
                 // On error, still go to menu
                 loadingComplete = true;
                 gameState = GameState.MENU;
-                repaint();
             }
         });
         loadingThread.start();
@@ -2882,7 +1390,7 @@ public class Game extends JPanel implements Runnable {
         
         // Title
         g.setColor(Color.WHITE);
-        g.setFont(new Font("Arial", Font.BOLD, 72));
+        g.setFont(TextCache.font("Arial", Font.BOLD, 72));
         String title = "MR. MISSLE";
         FontMetrics fm = g.getFontMetrics();
         int titleX = (width - fm.stringWidth(title)) / 2;
@@ -2890,7 +1398,7 @@ public class Game extends JPanel implements Runnable {
         g.drawString(title, titleX, titleY);
         
         // Loading text with animated dots
-        g.setFont(new Font("Arial", Font.PLAIN, 24));
+        g.setFont(TextCache.font("Arial", Font.PLAIN, 24));
         int dotCount = (int)((System.currentTimeMillis() / 300) % 4);
         String loadingText = "Loading" + ".".repeat(dotCount);
         fm = g.getFontMetrics();
@@ -2937,196 +1445,12 @@ public class Game extends JPanel implements Runnable {
         
         // Percentage
         g.setColor(Color.WHITE);
-        g.setFont(new Font("Arial", Font.BOLD, 18));
+        g.setFont(TextCache.font("Arial", Font.BOLD, 18));
         String percentText = smoothProgress + "%";
         fm = g.getFontMetrics();
         g.drawString(percentText, (width - fm.stringWidth(percentText)) / 2, barY + barHeight + 30);
     }
     
-    // Handle active item effects during gameplay
-    private void handleActiveItemEffects(ActiveItem item, double deltaTime) {
-        switch (item.getType()) {
-            case DASH:
-                // Apply speed boost and invincibility during dash
-                playerInvincible = true;
-                dashSpeedMultiplier = 5.0;
-                if (player != null) {
-                    player.applyDashBoost(dashSpeedMultiplier);
-                }
-                break;
-                
-            case SHOCKWAVE:
-                // Push all bullets away from player (instant effect)
-                if (player != null) {
-                    for (Bullet bullet : bullets) {
-                        double dx = bullet.getX() - player.getX();
-                        double dy = bullet.getY() - player.getY();
-                        double distance = Math.sqrt(dx * dx + dy * dy);
-                        
-                        if (distance < 300) { // Shockwave radius
-                            // Push bullet away
-                            double angle = Math.atan2(dy, dx);
-                            double pushForce = 10 * (1.0 - distance / 300);
-                            bullet.applyForce(Math.cos(angle) * pushForce, Math.sin(angle) * pushForce);
-                        }
-                    }
-                    
-                    // Create shockwave particles
-                    if (enableParticles) {
-                        for (int i = 0; i < 30; i++) {
-                            double angle = Math.random() * TWO_PI;
-                            double speed = 5 + Math.random() * 5;
-                            addParticle(
-                                player.getX(), player.getY(),
-                                Math.cos(angle) * speed, Math.sin(angle) * speed,
-                                new Color(163, 190, 140), 30, 8,
-                                Particle.ParticleType.SPARK
-                            );
-                        }
-                    }
-                    
-                    screenShakeIntensity = 8;
-                }
-                break;
-                
-            case SHIELD:
-                // Shield is active - will tank next hit (disabled by Shieldless contract)
-                if (riskContractType != 3) {
-                    soundManager.playSound(SoundManager.Sound.SHIELD_ACTIVATE);
-                    shieldActive = true;
-                } else {
-                    // Show message that shield is disabled
-                    damageNumbers.add(new DamageNumber("DISABLED!", player.getX(), player.getY() - 30, new Color(150, 150, 150), 20));
-                }
-                break;
-                
-            case BOMB:
-                // Clear all bullets (instant effect)
-                soundManager.playSound(SoundManager.Sound.BOMB_ACTIVATE);
-                soundManager.playSound(SoundManager.Sound.EXPL_LONG_1, 0.8f);
-                int clearedBullets = bullets.size();
-                
-                // Create destruction particles for each bullet before clearing
-                if (enableParticles) {
-                    for (Bullet bullet : bullets) {
-                        // Spawn particles at each bullet's position
-                        for (int j = 0; j < 3; j++) {
-                            double angle = Math.random() * TWO_PI;
-                            double speed = 1 + Math.random() * 2;
-                            addParticle(
-                                bullet.getX(), bullet.getY(),
-                                Math.cos(angle) * speed, Math.sin(angle) * speed,
-                                new Color(255, 200, 100, 200), 15, 4,
-                                Particle.ParticleType.SPARK
-                            );
-                        }
-                    }
-                }
-                
-                for (Bullet bullet : bullets) {
-                    returnBulletToPool(bullet);
-                }
-                bullets.clear();
-                
-                // Award score for cleared bullets
-                gameData.addScore(clearedBullets * 5);
-                
-                // Create massive explosion effect
-                if (enableParticles && player != null) {
-                    for (int i = 0; i < 50; i++) {
-                        double angle = Math.random() * TWO_PI;
-                        double speed = 3 + Math.random() * 8;
-                        Color fireColor = Math.random() < 0.5 ? FIRE_ORANGE : FIRE_YELLOW;
-                        addParticle(
-                            player.getX(), player.getY(),
-                            Math.cos(angle) * speed, Math.sin(angle) * speed,
-                            fireColor, 40, 8,
-                            Particle.ParticleType.SPARK
-                        );
-                    }
-                    // Add expanding shockwave rings
-                    for (int i = 0; i < 3; i++) {
-                        addParticle(
-                            player.getX(), player.getY(), 0, 0,
-                            new Color(255, 200, 100, 200 - i * 50), 30 + i * 10, 50 + i * 40,
-                            Particle.ParticleType.EXPLOSION
-                        );
-                    }
-                }
-                
-                hitFreezeFrames = 5; // Brief freeze on bomb
-                screenShakeIntensity = 15;
-                break;
-                
-            case MAGNET:
-                // Pull nearby bullets toward player for scoring
-                if (player != null) {
-                    for (Bullet bullet : bullets) {
-                        double dx = player.getX() - bullet.getX();
-                        double dy = player.getY() - bullet.getY();
-                        double distance = Math.sqrt(dx * dx + dy * dy);
-                        
-                        if (distance < 400) { // Magnet radius
-                            double angle = Math.atan2(dy, dx);
-                            double pullForce = 0.5 * (1.0 - distance / 400);
-                            bullet.applyForce(Math.cos(angle) * pullForce, Math.sin(angle) * pullForce);
-                        }
-                    }
-                }
-                break;
-                
-            case TIME_SLOW:
-                // Bullets move at 50% speed (applied in bullet update loop)
-                // This effect is checked in the bullet collision section
-                break;
-                
-            case LASER_BEAM:
-                // Fire a damaging laser beam upward
-                // Damage bullets in path
-                if (player != null) {
-                    double laserX = player.getX();
-                    double laserWidth = 40;
-                    
-                    for (int i = bullets.size() - 1; i >= 0; i--) {
-                        Bullet bullet = bullets.get(i);
-                        double bulletX = bullet.getX();
-                        double bulletY = bullet.getY();
-                        
-                        // Check if bullet is in laser path
-                        if (Math.abs(bulletX - laserX) < laserWidth / 2 && bulletY < player.getY()) {
-                            bullets.remove(i);
-                            returnBulletToPool(bullet);
-                            gameData.addScore(10);
-                            
-                            // Create destruction particles
-                            if (enableParticles) {
-                                for (int j = 0; j < 5; j++) {
-                                    double angle = Math.random() * TWO_PI;
-                                    double speed = 1 + Math.random() * 3;
-                                    addParticle(
-                                        bulletX, bulletY,
-                                        Math.cos(angle) * speed, Math.sin(angle) * speed,
-                                        new Color(235, 203, 139), 15, 4,
-                                        Particle.ParticleType.SPARK
-                                    );
-                                }
-                            }
-                        }
-                    }
-                }
-                break;
-                
-            case INVINCIBILITY:
-                // Player is invincible
-                soundManager.playSound(SoundManager.Sound.INVINCIBILITY_ACTIVATE);
-                playerInvincible = true;
-                break;
-                
-            default:
-                break;
-        }
-    }
-    
     private void drawItemUnlockAnimation(Graphics2D g, int width, int height) {
         // Calculate animation progress (0.0 to 1.0)
         float progress = 1.0f - ((float) itemUnlockTimer / ITEM_UNLOCK_DURATION);
@@ -3143,7 +1467,7 @@ public class Game extends JPanel implements Runnable {
         
         // Reset translation to avoid screen shake affecting overlay
         Graphics2D g2d = (Graphics2D) g;
-        g2d.setTransform(new java.awt.geom.AffineTransform());
+        g2d.setTransform(frameTransform);
         g.fillRect(0, 0, width, height);
         
         // Calculate position (slide up from bottom, slide down when dismissing)
@@ -3235,7 +1559,7 @@ public class Game extends JPanel implements Runnable {
             float textAlpha = Math.min((progress - 0.25f) / 0.3f, 1.0f) * dismissMultiplier;
             
             // "NEW ITEM UNLOCKED!" with shadow
-            g.setFont(new Font("Arial", Font.BOLD, (int)(56 * scale)));
+            g.setFont(TextCache.font("Arial", Font.BOLD, (int)(56 * scale)));
             String titleText = "NEW ITEM UNLOCKED!";
             FontMetrics titleFm = g.getFontMetrics();
             int titleX = centerX - titleFm.stringWidth(titleText) / 2;
@@ -3251,7 +1575,7 @@ public class Game extends JPanel implements Runnable {
             g.drawString(titleText, titleX, titleY);
             
             // Item name with shadow
-            g.setFont(new Font("Arial", Font.BOLD, (int)(44 * scale)));
+            g.setFont(TextCache.font("Arial", Font.BOLD, (int)(44 * scale)));
             FontMetrics itemFm = g.getFontMetrics();
             int itemX = centerX - itemFm.stringWidth(unlockedItemName) / 2;
             int itemY = currentY - (int)(10 * scale);
@@ -3265,7 +1589,7 @@ public class Game extends JPanel implements Runnable {
             // Item description
             ActiveItem currentItem = gameData.getEquippedItem();
             if (currentItem != null && progress > 0.4f) {
-                g.setFont(new Font("Arial", Font.PLAIN, (int)(24 * scale)));
+                g.setFont(TextCache.font("Arial", Font.PLAIN, (int)(24 * scale)));
                 String description = currentItem.getDescription();
                 FontMetrics descFm = g.getFontMetrics();
                 int descX = centerX - descFm.stringWidth(description) / 2;
@@ -3277,7 +1601,7 @@ public class Game extends JPanel implements Runnable {
             
             // "Press SPACE to continue" hint
             if (progress > 0.8f) {
-                g.setFont(new Font("Arial", Font.PLAIN, (int)(20 * scale)));
+                g.setFont(TextCache.font("Arial", Font.PLAIN, (int)(20 * scale)));
                 String hintText = "Press SPACE to continue";
                 FontMetrics hintFm = g.getFontMetrics();
                 int hintX = centerX - hintFm.stringWidth(hintText) / 2;
@@ -3306,7 +1630,7 @@ public class Game extends JPanel implements Runnable {
         
         // Reset translation to avoid screen shake affecting overlay
         Graphics2D g2d = (Graphics2D) g;
-        g2d.setTransform(new java.awt.geom.AffineTransform());
+        g2d.setTransform(frameTransform);
         g.fillRect(0, 0, width, height);
         
         // Calculate position (slide up from bottom, slide down when dismissing)
@@ -3408,7 +1732,7 @@ public class Game extends JPanel implements Runnable {
             float textAlpha = Math.min((progress - 0.25f) / 0.3f, 1.0f) * dismissMultiplier;
             
             // "RISK CONTRACTS UNLOCKED!" with shadow
-            g.setFont(new Font("Arial", Font.BOLD, (int)(48 * scale)));
+            g.setFont(TextCache.font("Arial", Font.BOLD, (int)(48 * scale)));
             String titleText = "RISK CONTRACTS UNLOCKED!";
             FontMetrics titleFm = g.getFontMetrics();
             int titleX = centerX - titleFm.stringWidth(titleText) / 2;
@@ -3429,7 +1753,7 @@ public class Game extends JPanel implements Runnable {
             float descAlpha = Math.min((progress - 0.4f) / 0.3f, 1.0f) * dismissMultiplier;
             
             // Contract symbol
-            g.setFont(new Font("Arial", Font.BOLD, (int)(60 * scale)));
+            g.setFont(TextCache.font("Arial", Font.BOLD, (int)(60 * scale)));
             String symbol = "⚠";
             FontMetrics symbolFm = g.getFontMetrics();
             g.setColor(new Color(255, 200, 50, (int)(255 * descAlpha)));
@@ -3445,7 +1769,7 @@ public class Game extends JPanel implements Runnable {
                 "• Shieldless - No shield, 1.5x money"
             };
             
-            g.setFont(new Font("Arial", Font.PLAIN, (int)(20 * scale)));
+            g.setFont(TextCache.font("Arial", Font.PLAIN, (int)(20 * scale)));
             int lineY = currentY + (int)(10 * scale);
             for (String line : descLines) {
                 if (line.isEmpty()) {
@@ -3469,7 +1793,7 @@ public class Game extends JPanel implements Runnable {
         // "Press SPACE to continue" hint
         if (progress > 0.7f) {
             float hintAlpha = Math.min((progress - 0.7f) / 0.2f, 1.0f) * dismissMultiplier;
-            g.setFont(new Font("Arial", Font.PLAIN, (int)(18 * scale)));
+            g.setFont(TextCache.font("Arial", Font.PLAIN, (int)(18 * scale)));
             String hintText = "Press SPACE to continue";
             FontMetrics hintFm = g.getFontMetrics();
             int hintX = centerX - hintFm.stringWidth(hintText) / 2;
@@ -0,0 +1,41 @@
+// Small seeded random source (xorshift64*) for gameplay and cosmetic streams.
+// Not thread-safe by design: each stream is owned by one thread, so there is
+// none of Math.random()'s shared-generator overhead, and a fixed seed
+// replays the exact same run.
+public final class GameRandom {
+    private static final double DOUBLE_UNIT = 0x1.0p-53; // 1 / 2^53
+
+    private long state;
+
+    public GameRandom(long seed) {
+        setSeed(seed);
+    }
+
+    // Scramble the seed (splitmix64) so nearby seeds give unrelated streams
+    public void setSeed(long seed) {
+        long z = seed + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z = z ^ (z >>> 31);
+        state = z != 0 ? z : 0x9E3779B97F4A7C15L; // xorshift state must be non-zero
+    }
+
+    public long nextLong() {
+        long s = state;
+        s ^= s >>> 12;
+        s ^= s << 25;
+        s ^= s >>> 27;
+        state = s;
+        return s * 0x2545F4914F6CDD1DL;
+    }
+
+    // Uniform in [0, 1), drop-in for Math.random()
+    public double nextDouble() {
+        return (nextLong() >>> 11) * DOUBLE_UNIT;
+    }
+
+    // Uniform in [0, bound)
+    public int nextInt(int bound) {
+        return (int)(nextDouble() * bound);
+    }
+}
@@ -0,0 +1,194 @@
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+
+// Pre-rendered animated-gradient backgrounds (Renderer.drawAnimatedGradient).
+// Each gradient layer only ever moves along one axis, so it is rendered once
+// per palette into a strip that is taller (or wider) than the screen by the
+// animation amplitude, and a frame just blits the strip at the current offset.
+// The vertical layers are constant across x, so they are kept as narrow strips,
+// blended into one column per frame and tiled across.
+// With animation off the layers are also flattened into one screen-sized
+// image: one blit per frame. All sizes are device pixels, so the render scale
+// and HiDPI don't turn the blits into scaled draws. Render thread only.
+final class GradientCache {
+    // Largest |offset| the animation produces per layer (see Renderer)
+    static final int BASE_AMPLITUDE = 150;
+    static final int ACCENT_AMPLITUDE = 120;
+    static final int MID_AMPLITUDE = 130;
+
+    private static final int TILE_WIDTH = 128; // Width of the vertical strips, tiled across
+    private static final int MAX_ENTRIES = 3; // Palettes kept (menus, level select, current level)
+    private static final AffineTransform DEVICE_TRANSFORM = new AffineTransform();
+
+    // One palette at one pixel size
+    private static final class Entry {
+        int rgb0, rgb1, rgb2;
+        int width, height;
+        double scaleY, scaleX;
+        int baseAmplitude, accentAmplitude, midAmplitude; // In pixels
+        BufferedImage base, accent, mid;
+        BufferedImage column; // Base + accent at this frame's offsets
+        BufferedImage flat; // All layers at offset 0, for animation off
+        int flatQuality = -1;
+        long lastUsed;
+    }
+
+    private final Entry[] entries = new Entry[MAX_ENTRIES];
+    private long useCounter;
+
+    // Draw the gradient layers covering (0, 0, width, height) in g's coordinates.
+    // quality: 0 = base only, 1 = + accent, 2 = + diagonal mid layer.
+    void draw(Graphics2D g, int width, int height, Color[] colors, int quality,
+              int offset1, int offset2, int offset3, boolean animated) {
+        AffineTransform originalTransform = g.getTransform();
+        double scaleX = originalTransform.getScaleX();
+        double scaleY = originalTransform.getScaleY();
+        int pixelWidth = Math.max(1, (int)Math.ceil(width * scaleX));
+        int pixelHeight = Math.max(1, (int)Math.ceil(height * scaleY));
+        int originX = (int)Math.round(originalTransform.getTranslateX());
+        int originY = (int)Math.round(originalTransform.getTranslateY());
+        GraphicsConfiguration config = g.getDeviceConfiguration();
+        Entry entry = entry(colors, pixelWidth, pixelHeight, scaleX, scaleY);
+
+        g.setTransform(DEVICE_TRANSFORM);
+        if (!animated) {
+            if (entry.flat == null || entry.flatQuality != quality) {
+                entry.flat = renderFlat(config, entry, colors, quality);
+                entry.flatQuality = quality;
+            }
+            g.drawImage(entry.flat, originX, originY, null);
+        } else {
+            // Both vertical layers are constant across x: blend them into one
+            // narrow opaque column, then copy that column across the screen
+            if (entry.base == null) {
+                entry.base = renderVertical(config, entry, entry.baseAmplitude, colors[0], colors[1], Transparency.OPAQUE);
+                entry.column = config.createCompatibleImage(TILE_WIDTH, entry.height, Transparency.OPAQUE);
+            }
+            Graphics2D column = entry.column.createGraphics();
+            int baseY = entry.baseAmplitude - (int)Math.round(offset1 * scaleY);
+            column.drawImage(entry.base, 0, 0, TILE_WIDTH, entry.height, 0, baseY, TILE_WIDTH, baseY + entry.height, null);
+            if (quality >= 1) {
+                if (entry.accent == null) {
+                    Color accentTop = withAlpha(colors[2], 160);
+                    Color accentBottom = withAlpha(colors[2], 0);
+                    entry.accent = renderVertical(config, entry, entry.accentAmplitude, accentTop, accentBottom, Transparency.TRANSLUCENT);
+                }
+                int accentY = entry.accentAmplitude - (int)Math.round(offset2 * scaleY);
+                column.drawImage(entry.accent, 0, 0, TILE_WIDTH, entry.height, 0, accentY, TILE_WIDTH, accentY + entry.height, null);
+            }
+            column.dispose();
+            for (int tileX = 0; tileX < pixelWidth; tileX += TILE_WIDTH) {
+                int tileWidth = Math.min(TILE_WIDTH, pixelWidth - tileX);
+                g.drawImage(entry.column, originX + tileX, originY, originX + tileX + tileWidth, originY + pixelHeight,
+                    0, 0, tileWidth, pixelHeight, null);
+            }
+
+            if (quality >= 2) {
+                if (entry.mid == null) {
+                    entry.mid = renderMid(config, entry, colors);
+                }
+                int sourceX = entry.midAmplitude - (int)Math.round(offset3 * scaleX);
+                g.drawImage(entry.mid, originX, originY, originX + pixelWidth, originY + pixelHeight,
+                    sourceX, 0, sourceX + pixelWidth, pixelHeight, null);
+            }
+        }
+        g.setTransform(originalTransform);
+    }
+
+    // Cached entry for this palette and size, evicting the least recently used
+    private Entry entry(Color[] colors, int width, int height, double scaleX, double scaleY) {
+        int rgb0 = colors[0].getRGB();
+        int rgb1 = colors[1].getRGB();
+        int rgb2 = colors[2].getRGB();
+        Entry oldest = null;
+        for (int i = 0; i < entries.length; i++) {
+            Entry e = entries[i];
+            if (e == null) {
+                e = new Entry();
+                entries[i] = e;
+                oldest = e;
+                break;
+            }
+            if (e.rgb0 == rgb0 && e.rgb1 == rgb1 && e.rgb2 == rgb2 && e.width == width && e.height == height
+                    && e.scaleX == scaleX && e.scaleY == scaleY) {
+                e.lastUsed = ++useCounter;
+                return e;
+            }
+            if (oldest == null || e.lastUsed < oldest.lastUsed) {
+                oldest = e;
+            }
+        }
+
+        Entry e = oldest;
+        e.rgb0 = rgb0;
+        e.rgb1 = rgb1;
+        e.rgb2 = rgb2;
+        e.width = width;
+        e.height = height;
+        e.scaleX = scaleX;
+        e.scaleY = scaleY;
+        e.baseAmplitude = (int)Math.ceil(BASE_AMPLITUDE * scaleY) + 1;
+        e.accentAmplitude = (int)Math.ceil(ACCENT_AMPLITUDE * scaleY) + 1;
+        e.midAmplitude = (int)Math.ceil(MID_AMPLITUDE * scaleX) + 1;
+        e.base = null;
+        e.accent = null;
+        e.mid = null;
+        e.column = null;
+        e.flat = null;
+        e.flatQuality = -1;
+        e.lastUsed = ++useCounter;
+        return e;
+    }
+
+    // Vertical gradient from top (at amplitude) to bottom (amplitude + height), clamped beyond
+    private static BufferedImage renderVertical(GraphicsConfiguration config, Entry entry, int amplitude,
+                                                Color top, Color bottom, int transparency) {
+        int stripHeight = entry.height + amplitude * 2;
+        BufferedImage strip = config.createCompatibleImage(TILE_WIDTH, stripHeight, transparency);
+        Graphics2D g = strip.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        g.setPaint(new GradientPaint(0, amplitude, top, 0, amplitude + entry.height, bottom));
+        g.fillRect(0, 0, TILE_WIDTH, stripHeight);
+        g.dispose();
+        return strip;
+    }
+
+    // Diagonal layer, clear at the top-left to colors[1] at 120 alpha bottom-right
+    private static BufferedImage renderMid(GraphicsConfiguration config, Entry entry, Color[] colors) {
+        int amplitude = entry.midAmplitude;
+        int stripWidth = entry.width + amplitude * 2;
+        BufferedImage strip = config.createCompatibleImage(stripWidth, entry.height, Transparency.TRANSLUCENT);
+        Graphics2D g = strip.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        g.setPaint(new GradientPaint(amplitude, 0, withAlpha(colors[1], 0),
+            amplitude + entry.width, entry.height, withAlpha(colors[1], 120)));
+        g.fillRect(0, 0, stripWidth, entry.height);
+        g.dispose();
+        return strip;
+    }
+
+    // Every layer at its resting position in one opaque image
+    private static BufferedImage renderFlat(GraphicsConfiguration config, Entry entry, Color[] colors, int quality) {
+        int width = entry.width;
+        int height = entry.height;
+        BufferedImage flat = config.createCompatibleImage(width, height, Transparency.OPAQUE);
+        Graphics2D g = flat.createGraphics();
+        g.setPaint(new GradientPaint(0, 0, colors[0], 0, height, colors[1]));
+        g.fillRect(0, 0, width, height);
+        if (quality >= 1) {
+            g.setPaint(new GradientPaint(width / 2, 0, withAlpha(colors[2], 160), width / 2, height, withAlpha(colors[2], 0)));
+            g.fillRect(0, 0, width, height);
+        }
+        if (quality >= 2) {
+            g.setPaint(new GradientPaint(0, 0, withAlpha(colors[1], 0), width, height, withAlpha(colors[1], 120)));
+            g.fillRect(0, 0, width, height);
+        }
+        g.dispose();
+        return flat;
+    }
+
+    private static Color withAlpha(Color color, int alpha) {
+        return new Color(color.getRed(), color.getGreen(), color.getBlue(), alpha);
+    }
+}
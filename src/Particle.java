@@ -1,18 +1,9 @@
 import java.awt.*;
+import java.awt.image.BufferedImage;
 
+// Particle types and drawing. Particle state itself lives in ParticleSystem's
+// parallel arrays; a particle is just an index there.
 public class Particle {
-    private double x, y;
-    private double vx, vy;
-    private Color color;
-    private int lifetime;
-    private int maxLifetime;
-    private double size;
-    private ParticleType type;
-    
-    // Cached values to avoid recomputation
-    private double progress; // Cached progress (0 to 1)
-    private double expansionSize; // Cached expansion size for SMOKE/DODGE
-    
     // Cached AlphaComposite instances for performance
     private static final AlphaComposite[] ALPHA_CACHE = new AlphaComposite[101];
     private static final BasicStroke STROKE_3 = new BasicStroke(3f);
@@ -26,6 +17,10 @@ public class Particle {
         }
     }
     
+    // Packed ARGB -> Color, direct-mapped (render thread only)
+    private static final int COLOR_CACHE_SIZE = 1024;
+    private static final Color[] COLOR_CACHE = new Color[COLOR_CACHE_SIZE];
+    
     public enum ParticleType {
         SPARK,      // Quick burst
         TRAIL,      // Smooth trail
@@ -34,116 +29,129 @@ public class Particle {
         SMOKE       // Soft, expanding smoke puffs
     }
     
-    public Particle(double x, double y, double vx, double vy, Color color, int lifetime, double size, ParticleType type) {
-        this.x = x;
-        this.y = y;
-        this.vx = vx;
-        this.vy = vy;
-        this.color = color;
-        this.lifetime = lifetime;
-        this.maxLifetime = lifetime;
-        this.size = size;
-        this.type = type;
+    private Particle() {
     }
     
-    // Reset particle for pooling
-    public void reset(double x, double y, double vx, double vy, Color color, int lifetime, double size, ParticleType type) {
-        this.x = x;
-        this.y = y;
-        this.vx = vx;
-        this.vy = vy;
-        this.color = color;
-        this.lifetime = lifetime;
-        this.maxLifetime = lifetime;
-        this.size = size;
-        this.type = type;
+    // Pack a color for ParticleEmitter (no Color allocated per spawn)
+    public static int argb(int r, int g, int b, int a) {
+        return (a & 0xFF) << 24 | (r & 0xFF) << 16 | (g & 0xFF) << 8 | (b & 0xFF);
+    }
+
+    public static int rgb(int r, int g, int b) {
+        return argb(r, g, b, 255);
+    }
+
+    static Color color(int argb) {
+        int slot = (argb ^ (argb >>> 10) ^ (argb >>> 20)) & (COLOR_CACHE_SIZE - 1);
+        Color cached = COLOR_CACHE[slot];
+        if (cached == null || cached.getRGB() != argb) {
+            cached = new Color(argb, true);
+            COLOR_CACHE[slot] = cached;
+        }
+        return cached;
     }
     
-    public void update(double deltaTime) {
-        // Update position
-        x += vx * deltaTime;
-        y += vy * deltaTime;
-        
-        // Apply gravity for certain types
-        if (type == ParticleType.SPARK || type == ParticleType.EXPLOSION) {
-            vy += 0.2 * deltaTime;
+    // Drawn diameter: rings, dodge puffs and smoke grow as they age
+    static double shapeSize(ParticleType type, double size, double progress) {
+        switch (type) {
+            case EXPLOSION: return size * (1 + progress * 2);
+            case DODGE: return size * (1 + progress);
+            case SMOKE: return size * (1.5 + progress * 2.5);
+            default: return size;
         }
+    }
+    
+    // Fade from remaining lifetime (1 = fresh, 0 = dead)
+    static float fade(ParticleSystem particles, int i) {
+        return Math.max(0, Math.min(1, (float)particles.getLifetime(i) / particles.getMaxLifetime(i)));
+    }
+    
+    static BasicStroke trailStroke(double size) {
+        return STROKE_CACHE[Math.min(19, Math.max(0, (int)(size * 2)))];
+    }
+    
+    // Round shapes up to MAX_SIZE are blitted from pre-rendered stamps (fade
+    // baked in, so no composite change). Returns false for trails and big shapes,
+    // which need vector drawing.
+    static boolean drawStamped(Graphics2D g, ParticleSystem particles, int i) {
+        ParticleType type = particles.getType(i);
+        if (type == ParticleType.TRAIL) return false;
         
-        // Fade out and slow down
-        lifetime -= deltaTime;
-        vx *= 0.98;
-        vy *= 0.98;
-        
-        // Pre-compute progress for rendering
-        progress = 1.0 - (double)lifetime / maxLifetime;
+        float alpha = fade(particles, i);
+        double shapeSize = shapeSize(type, particles.getSize(i), 1.0 - alpha);
+        int pixels = (int)shapeSize;
+        if (pixels > ParticleStamps.MAX_SIZE) return false;
+        int bucket = ParticleStamps.bucket(alpha);
+        if (pixels <= 0 || bucket == 0) return true; // Invisible
         
-        // Pre-compute expansion size for SMOKE and DODGE types
-        if (type == ParticleType.SMOKE) {
-            expansionSize = size * (1.5 + progress * 2.5);
-        } else if (type == ParticleType.DODGE) {
-            expansionSize = size * (1 + (maxLifetime - lifetime) / (double)maxLifetime);
-        } else if (type == ParticleType.EXPLOSION) {
-            expansionSize = size * (1 + progress * 2);
-        }
+        BufferedImage stamp = ParticleStamps.get(type, pixels, particles.getColor(i), bucket);
+        int offset = (ParticleStamps.imageSize(type, pixels) - pixels) / 2;
+        g.drawImage(stamp, (int)(particles.getX(i) - shapeSize/2) - offset, (int)(particles.getY(i) - shapeSize/2) - offset, null);
+        return true;
     }
     
-    public void draw(Graphics2D g) {
-        float alpha = Math.max(0, Math.min(1, (float)lifetime / maxLifetime));
+    // Draw one particle (ParticleBatch draws whole systems with fewer state changes)
+    public static void draw(Graphics2D g, ParticleSystem particles, int i) {
+        if (drawStamped(g, particles, i)) return;
+        
+        double x = particles.getX(i);
+        double y = particles.getY(i);
+        double size = particles.getSize(i);
+        int argb = particles.getColor(i);
+        float alpha = fade(particles, i);
         int alphaIndex = (int)(alpha * 100);
+        double progress = 1.0 - alpha;
+        ParticleType type = particles.getType(i);
         
         g.setComposite(ALPHA_CACHE[alphaIndex]);
         
         switch (type) {
             case SPARK:
-                g.setColor(color);
+                g.setColor(color(argb));
                 g.fillOval((int)(x - size/2), (int)(y - size/2), (int)size, (int)size);
                 break;
                 
             case TRAIL:
-                g.setColor(color);
+                g.setColor(color(argb));
                 int trailLength = (int)(size * 2);
-                int strokeIndex = Math.min(19, Math.max(0, (int)(size * 2)));
-                g.setStroke(STROKE_CACHE[strokeIndex]);
-                g.drawLine((int)x, (int)y, (int)(x - vx * trailLength), (int)(y - vy * trailLength));
+                g.setStroke(trailStroke(size));
+                g.drawLine((int)x, (int)y, (int)(x - particles.getVX(i) * trailLength), (int)(y - particles.getVY(i) * trailLength));
                 break;
                 
-            case EXPLOSION:
-                g.setColor(color);
+            case EXPLOSION: {
+                double expansionSize = shapeSize(type, size, progress);
+                g.setColor(color(argb));
                 g.setStroke(STROKE_3);
                 g.drawOval((int)(x - expansionSize/2), (int)(y - expansionSize/2), (int)expansionSize, (int)expansionSize);
                 break;
+            }
                 
-            case DODGE:
-                g.setColor(color);
+            case DODGE: {
+                double expansionSize = shapeSize(type, size, progress);
+                g.setColor(color(argb));
                 g.fillOval((int)(x - expansionSize/2), (int)(y - expansionSize/2), (int)expansionSize, (int)expansionSize);
                 break;
+            }
                 
-            case SMOKE:
+            case SMOKE: {
                 // Smoke expands and fades - softer, larger look
-                int baseAlpha = color.getAlpha();
+                double expansionSize = shapeSize(type, size, progress);
+                int baseAlpha = argb >>> 24;
                 int fadedAlpha = (int)(baseAlpha * alpha * 0.6);
+                int rgb = argb & 0xFFFFFF;
                 
-                // Outer soft layer (use cached color components)
-                int r = color.getRed();
-                int gColor = color.getGreen();
-                int b = color.getBlue();
-                g.setColor(new Color(r, gColor, b, Math.max(0, fadedAlpha / 2)));
+                // Outer soft layer
+                g.setColor(color((Math.max(0, fadedAlpha / 2) << 24) | rgb));
                 g.fillOval((int)(x - expansionSize * 0.7), (int)(y - expansionSize * 0.7), 
                           (int)(expansionSize * 1.4), (int)(expansionSize * 1.4));
                 
                 // Core layer
-                g.setColor(new Color(r, gColor, b, Math.max(0, fadedAlpha)));
+                g.setColor(color((Math.max(0, fadedAlpha) << 24) | rgb));
                 g.fillOval((int)(x - expansionSize/2), (int)(y - expansionSize/2), (int)expansionSize, (int)expansionSize);
                 break;
+            }
         }
         
         g.setComposite(ALPHA_CACHE[100]);
     }
-    
-    public boolean isAlive() {
-        return lifetime > 0;
-    }
-    
-    public double getX() { return x; }
-    public double getY() { return y; }
 }
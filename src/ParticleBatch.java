@@ -0,0 +1,171 @@
+import java.awt.*;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Path2D;
+import java.util.Arrays;
+
+// Draws a whole ParticleSystem with as few Graphics2D state changes as possible.
+// Stamped particles are blitted as they come (a drawImage needs no state).
+// Vector particles (trails, oversized shapes) are bucketed by (fill or stroke,
+// color, alpha bucket) into one shared Path2D per bucket, then each bucket is
+// issued with a single composite/color/stroke setup and one fill or draw call.
+// Render thread only; paths and tables are reused between frames.
+final class ParticleBatch {
+    private static final int MAX_BUCKETS = 256; // Beyond this, particles are drawn one by one
+    private static final int TABLE_SIZE = 512; // Open-addressed key -> bucket, 2x MAX_BUCKETS
+
+    // Bucket kinds (stored in the key above color and alpha)
+    private static final int FILL = 0;
+    private static final int RING = 1; // 3px oval outline
+    private static final int TRAIL = 2; // + stroke index
+
+    private static final BasicStroke RING_STROKE = new BasicStroke(3f);
+    private static final AlphaComposite[] BUCKET_COMPOSITE = new AlphaComposite[ParticleStamps.ALPHA_BUCKETS];
+    static {
+        for (int b = 0; b < BUCKET_COMPOSITE.length; b++) {
+            BUCKET_COMPOSITE[b] = AlphaComposite.getInstance(AlphaComposite.SRC_OVER, (float) b / (ParticleStamps.ALPHA_BUCKETS - 1));
+        }
+    }
+
+    private static final long[] tableKeys = new long[TABLE_SIZE];
+    private static final int[] tableBuckets = new int[TABLE_SIZE];
+    private static final long[] bucketKeys = new long[MAX_BUCKETS];
+    private static final BasicStroke[] bucketStrokes = new BasicStroke[MAX_BUCKETS];
+    private static final Path2D.Float[] bucketPaths = new Path2D.Float[MAX_BUCKETS];
+    private static int bucketCount;
+    private static int drawnCount; // Last draw() call, for the debug overlay
+    private static int culledCount;
+    private static final Ellipse2D.Float oval = new Ellipse2D.Float();
+
+    private ParticleBatch() {
+    }
+
+    public static void draw(Graphics2D g, ParticleSystem particles) {
+        draw(g, particles, Float.NEGATIVE_INFINITY, Float.NEGATIVE_INFINITY, Float.POSITIVE_INFINITY, Float.POSITIVE_INFINITY);
+    }
+
+    // Draw only particles that can reach the given view rectangle (world coordinates)
+    public static void draw(Graphics2D g, ParticleSystem particles, double left, double top, double right, double bottom) {
+        Composite originalComposite = g.getComposite();
+        Stroke originalStroke = g.getStroke();
+        int drawn = 0;
+
+        for (int i = 0, n = particles.size(); i < n; i++) {
+            float x = particles.getX(i);
+            float y = particles.getY(i);
+            float reach = reach(particles, i);
+            if (x + reach < left || x - reach > right || y + reach < top || y - reach > bottom) {
+                continue;
+            }
+            drawn++;
+            if (!Particle.drawStamped(g, particles, i)) {
+                addVector(g, particles, i);
+            }
+        }
+        flush(g);
+        drawnCount = drawn;
+        culledCount = particles.size() - drawn;
+
+        g.setComposite(originalComposite);
+        g.setStroke(originalStroke);
+    }
+
+    public static int getDrawnCount() { return drawnCount; }
+    public static int getCulledCount() { return culledCount; }
+
+    // How far a particle can draw from its position: trails extend back along
+    // their velocity; grown shapes reach at most 2.8x their size (smoke's outer layer)
+    private static float reach(ParticleSystem particles, int i) {
+        float size = particles.getSize(i);
+        if (particles.getType(i) == Particle.ParticleType.TRAIL) {
+            return size * 2 * (Math.abs(particles.getVX(i)) + Math.abs(particles.getVY(i))) + size;
+        }
+        return size * 3 + 2;
+    }
+
+    // Queue one vector particle's geometry into its bucket(s)
+    private static void addVector(Graphics2D g, ParticleSystem particles, int i) {
+        float x = particles.getX(i);
+        float y = particles.getY(i);
+        float size = particles.getSize(i);
+        int argb = particles.getColor(i);
+        float alpha = Particle.fade(particles, i);
+        int alphaBucket = ParticleStamps.bucket(alpha);
+        if (alphaBucket == 0) return;
+        Particle.ParticleType type = particles.getType(i);
+
+        if (type == Particle.ParticleType.TRAIL) {
+            int trailLength = (int)(size * 2);
+            int strokeIndex = Math.min(19, Math.max(0, (int)(size * 2))); // As Particle.trailStroke
+            Path2D.Float path = bucket(g, particles, i, TRAIL + strokeIndex, argb, alphaBucket);
+            if (path == null) return;
+            path.moveTo(x, y);
+            path.lineTo(x - particles.getVX(i) * trailLength, y - particles.getVY(i) * trailLength);
+            return;
+        }
+
+        float shapeSize = (float) Particle.shapeSize(type, size, 1.0 - alpha);
+        if (type == Particle.ParticleType.SMOKE) {
+            // Two layers, each its own fill color (see Particle.draw)
+            int fadedAlpha = (int)((argb >>> 24) * alpha * 0.6);
+            int rgb = argb & 0xFFFFFF;
+            if (addOval(g, particles, i, FILL, (fadedAlpha / 2) << 24 | rgb, alphaBucket, x, y, shapeSize * 1.4f)) {
+                addOval(g, particles, i, FILL, fadedAlpha << 24 | rgb, alphaBucket, x, y, shapeSize);
+            }
+        } else {
+            addOval(g, particles, i, type == Particle.ParticleType.EXPLOSION ? RING : FILL, argb, alphaBucket, x, y, shapeSize);
+        }
+    }
+
+    // False when the particle had to be drawn directly instead
+    private static boolean addOval(Graphics2D g, ParticleSystem particles, int i, int kind, int argb, int alphaBucket, float x, float y, float diameter) {
+        Path2D.Float path = bucket(g, particles, i, kind, argb, alphaBucket);
+        if (path == null) return false;
+        oval.setFrame(x - diameter / 2, y - diameter / 2, diameter, diameter);
+        path.append(oval, false);
+        return true;
+    }
+
+    // Path for a bucket, creating the bucket on first use. Returns null (after
+    // drawing the particle directly) when all buckets are taken.
+    private static Path2D.Float bucket(Graphics2D g, ParticleSystem particles, int i, int kind, int argb, int alphaBucket) {
+        long key = 1L << 48 | (long) kind << 36 | (long) alphaBucket << 32 | argb & 0xFFFFFFFFL;
+        int slot = (int)((key ^ (key >>> 29)) * 0x9E3779B1) >>> 23; // 9 bits -> TABLE_SIZE
+        while (tableKeys[slot] != 0) {
+            if (tableKeys[slot] == key) return bucketPaths[tableBuckets[slot]];
+            slot = (slot + 1) & (TABLE_SIZE - 1);
+        }
+        if (bucketCount == MAX_BUCKETS) {
+            Particle.draw(g, particles, i);
+            return null;
+        }
+
+        int b = bucketCount++;
+        tableKeys[slot] = key;
+        tableBuckets[slot] = b;
+        bucketKeys[b] = key;
+        bucketStrokes[b] = kind == FILL ? null : kind == RING ? RING_STROKE : Particle.trailStroke((kind - TRAIL) / 2.0);
+        if (bucketPaths[b] == null) {
+            bucketPaths[b] = new Path2D.Float();
+        }
+        return bucketPaths[b];
+    }
+
+    // Issue every bucket with one state setup each, then clear for the next frame
+    private static void flush(Graphics2D g) {
+        for (int b = 0; b < bucketCount; b++) {
+            long key = bucketKeys[b];
+            Path2D.Float path = bucketPaths[b];
+            g.setComposite(BUCKET_COMPOSITE[(int)(key >>> 32) & 0xF]);
+            g.setColor(Particle.color((int) key));
+            if (bucketStrokes[b] == null) {
+                g.fill(path);
+            } else {
+                g.setStroke(bucketStrokes[b]);
+                g.draw(path);
+            }
+            path.reset();
+        }
+        bucketCount = 0;
+        Arrays.fill(tableKeys, 0L);
+    }
+}
@@ -0,0 +1,106 @@
+import java.awt.Color;
+
+// The one way gameplay code spawns particles (Simulation, Boss, BulletStore).
+// Writes straight into the shared ParticleSystem, so every effect goes through
+// the same storage and the same global budget, and nothing is allocated per
+// particle. Colors can be passed as packed ARGB (Particle.argb) to avoid a
+// Color per spawn. The governor thins emission per type when frames run long.
+public class ParticleEmitter {
+    private final ParticleSystem particles;
+    private final ParticleGovernor governor;
+    private final GameRandom random; // Cosmetic stream for burst variation
+    private boolean enabled = true;
+
+    public ParticleEmitter(ParticleSystem particles, ParticleGovernor governor, GameRandom random) {
+        this.particles = particles;
+        this.governor = governor;
+        this.random = random;
+    }
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+    public ParticleSystem getParticles() { return particles; }
+    public ParticleGovernor getGovernor() { return governor; }
+
+    public void emit(double x, double y, double vx, double vy, int argb, int lifetime, double size, Particle.ParticleType type) {
+        if (!enabled || !governor.admit(type)) return;
+        particles.add(x, y, vx, vy, argb, lifetime, size, type);
+    }
+
+    public void emit(double x, double y, double vx, double vy, Color color, int lifetime, double size, Particle.ParticleType type) {
+        if (!enabled || !governor.admit(type)) return;
+        particles.add(x, y, vx, vy, color.getRGB(), lifetime, size, type);
+    }
+
+    public void burst(EmitterDefinition effect, double x, double y) {
+        burst(effect, x, y, 0, 1, 0);
+    }
+
+    // Spawn one burst of an effect. direction centers the spread cone (radians),
+    // countScale multiplies the particle count and sizeBonus is added to every size.
+    public void burst(EmitterDefinition effect, double x, double y, double direction, int countScale, double sizeBonus) {
+        if (!enabled) return;
+        int count = effect.count * countScale;
+        boolean moving = effect.maxSpeed > 0 || effect.maxRadius > 0;
+        int[] palette = effect.palette;
+
+        for (int j = 0; j < count; j++) {
+            if (!governor.admit(effect.type)) continue;
+
+            double px = x;
+            double py = y;
+            double vx = 0;
+            double vy = 0;
+            if (moving) {
+                double angle = effect.even
+                    ? direction + Math.PI * 2 * j / count
+                    : direction + (random.nextDouble() - 0.5) * effect.spread;
+                double cos = Math.cos(angle);
+                double sin = Math.sin(angle);
+                double speed = range(effect.minSpeed, effect.maxSpeed);
+                double radius = range(effect.minRadius, effect.maxRadius);
+                px += cos * radius;
+                py += sin * radius;
+                vx = cos * speed;
+                vy = sin * speed;
+            }
+            if (effect.jitterX > 0) {
+                px += (random.nextDouble() - 0.5) * effect.jitterX;
+                py += (random.nextDouble() - 0.5) * effect.jitterY;
+            }
+
+            int lifetime = effect.minLifetime + j * effect.lifetimeStep;
+            if (effect.maxLifetime > effect.minLifetime) {
+                lifetime += (int)(random.nextDouble() * (effect.maxLifetime - effect.minLifetime));
+            }
+            double size = range(effect.minSize, effect.maxSize) + j * effect.sizeStep + sizeBonus;
+
+            int color;
+            if (effect.sequence) {
+                color = palette[Math.min(j, palette.length - 1)];
+            } else if (palette.length == 1) {
+                color = palette[0];
+            } else {
+                color = pickColor(effect);
+            }
+
+            particles.add(px, py, vx, vy, color, lifetime, size, effect.type);
+        }
+    }
+
+    private double range(double min, double max) {
+        return max > min ? min + random.nextDouble() * (max - min) : min;
+    }
+
+    private int pickColor(EmitterDefinition effect) {
+        double[] weights = effect.cumulativeWeights;
+        if (weights == null) {
+            return effect.palette[random.nextInt(effect.palette.length)];
+        }
+        double pick = random.nextDouble() * weights[weights.length - 1];
+        for (int k = 0; k < weights.length - 1; k++) {
+            if (pick < weights[k]) return effect.palette[k];
+        }
+        return effect.palette[weights.length - 1];
+    }
+}
@@ -0,0 +1,92 @@
+// Adaptive particle budget: watches how long each frame takes (update + render)
+// and scales emission per ParticleType to hold a target frame time.
+// Over budget, the least important type is thinned first (SMOKE, then TRAIL,
+// ... SPARK last); once there is headroom again, types come back in reverse
+// order until everything is at full density. Thinning is deterministic: each
+// type accumulates its scale as credit and a spawn is admitted per whole credit.
+public class ParticleGovernor {
+    // Shed order: first entry is thinned first and restored last
+    private static final Particle.ParticleType[] SHED_ORDER = {
+        Particle.ParticleType.SMOKE,
+        Particle.ParticleType.TRAIL,
+        Particle.ParticleType.EXPLOSION,
+        Particle.ParticleType.DODGE,
+        Particle.ParticleType.SPARK
+    };
+
+    // 12ms of work leaves room for present/vsync inside a 16.7ms (60 FPS) frame
+    static final long DEFAULT_BUDGET_NANOS = 12_000_000L;
+    private static final double RESTORE_RATIO = 0.75; // Restore once frames fall below 75% of budget
+    private static final double SMOOTHING = 0.1; // Weight of the newest frame in the running average
+    private static final int ADJUST_INTERVAL = 10; // Frames between scale changes
+    private static final double STEP = 0.1;
+    private static final double MIN_SCALE = 0.1; // Never thin a type out completely
+
+    private final long budgetNanos;
+    private final double[] scale = new double[Particle.ParticleType.values().length];
+    private final double[] credit = new double[scale.length];
+    private double averageNanos;
+    private int framesSinceAdjust;
+
+    public ParticleGovernor() {
+        this(DEFAULT_BUDGET_NANOS);
+    }
+
+    public ParticleGovernor(long budgetNanos) {
+        this.budgetNanos = budgetNanos;
+        reset();
+    }
+
+    // Back to full density (no frame history)
+    public void reset() {
+        for (int t = 0; t < scale.length; t++) {
+            scale[t] = 1.0;
+            credit[t] = 0;
+        }
+        averageNanos = 0;
+        framesSinceAdjust = 0;
+    }
+
+    // Report the update + render cost of one frame
+    public void recordFrame(long frameNanos) {
+        averageNanos = averageNanos == 0 ? frameNanos : averageNanos + (frameNanos - averageNanos) * SMOOTHING;
+        if (++framesSinceAdjust < ADJUST_INTERVAL) return;
+        framesSinceAdjust = 0;
+
+        if (averageNanos > budgetNanos) {
+            // Over budget: thin the first type that still has density to give
+            for (Particle.ParticleType type : SHED_ORDER) {
+                int t = type.ordinal();
+                if (scale[t] > MIN_SCALE) {
+                    scale[t] = Math.max(MIN_SCALE, scale[t] - STEP);
+                    return;
+                }
+            }
+        } else if (averageNanos < budgetNanos * RESTORE_RATIO) {
+            // Headroom: restore the most important thinned type first
+            for (int k = SHED_ORDER.length - 1; k >= 0; k--) {
+                int t = SHED_ORDER[k].ordinal();
+                if (scale[t] < 1.0) {
+                    scale[t] = Math.min(1.0, scale[t] + STEP);
+                    return;
+                }
+            }
+        }
+    }
+
+    // Whether to spawn this particle at the current density
+    public boolean admit(Particle.ParticleType type) {
+        int t = type.ordinal();
+        if (scale[t] >= 1.0) return true;
+        credit[t] += scale[t];
+        if (credit[t] >= 1.0) {
+            credit[t] -= 1.0;
+            return true;
+        }
+        return false;
+    }
+
+    public double getScale(Particle.ParticleType type) { return scale[type.ordinal()]; }
+    public double getAverageFrameMillis() { return averageNanos / 1_000_000.0; }
+    public long getBudgetNanos() { return budgetNanos; }
+}
@@ -0,0 +1,100 @@
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+// Pre-rendered particle sprites ("stamps") keyed by type, pixel size, color and
+// alpha bucket. Particle.draw blits a stamp with drawImage instead of filling
+// ovals under a per-particle AlphaComposite: the fade is baked into the stamp's
+// pixels. Direct-mapped with a few linear probes; a miss renders the stamp once
+// (antialiased), a hit allocates nothing. Render thread only.
+final class ParticleStamps {
+    static final int MAX_SIZE = 48; // Bigger shapes are drawn as vectors instead
+    static final int ALPHA_BUCKETS = 16;
+    static final int RING_PAD = 2; // Room for the 3px ring stroke outside the oval
+
+    private static final int SLOTS = 4096;
+    private static final int PROBES = 4;
+    private static final int COLOR_MASK = 0xFFF8F8F8; // 5 bits per RGB channel is plenty for a fading blob
+    private static final BasicStroke RING_STROKE = new BasicStroke(3f);
+
+    private static final long[] keys = new long[SLOTS]; // 0 = empty
+    private static final BufferedImage[] stamps = new BufferedImage[SLOTS];
+    private static int evictCursor;
+
+    private ParticleStamps() {
+    }
+
+    // Alpha bucket for a 0..1 fade (0 means invisible)
+    static int bucket(float alpha) {
+        return Math.round(alpha * (ALPHA_BUCKETS - 1));
+    }
+
+    // Stamp for one particle shape; size is the shape's pixel diameter (<= MAX_SIZE)
+    static BufferedImage get(Particle.ParticleType type, int size, int argb, int bucket) {
+        long key = 1L << 60
+            | (long) type.ordinal() << 48
+            | (long) size << 40
+            | (long) bucket << 32
+            | (argb & COLOR_MASK) & 0xFFFFFFFFL;
+        int home = (int)((key ^ (key >>> 17) ^ (key >>> 31)) * 0x9E3779B1) >>> 20; // 12 bits -> SLOTS
+        for (int p = 0; p < PROBES; p++) {
+            int slot = (home + p) & (SLOTS - 1);
+            if (keys[slot] == key) return stamps[slot];
+            if (keys[slot] == 0) return fill(slot, key, type, size, argb & COLOR_MASK, bucket);
+        }
+        // Probe run full: replace one of its slots in turn
+        int slot = (home + (evictCursor++ % PROBES)) & (SLOTS - 1);
+        return fill(slot, key, type, size, argb & COLOR_MASK, bucket);
+    }
+
+    private static BufferedImage fill(int slot, long key, Particle.ParticleType type, int size, int argb, int bucket) {
+        BufferedImage stamp = render(type, size, argb, (float) bucket / (ALPHA_BUCKETS - 1));
+        keys[slot] = key;
+        stamps[slot] = stamp;
+        return stamp;
+    }
+
+    private static BufferedImage render(Particle.ParticleType type, int size, int argb, float fade) {
+        int rgb = argb & 0xFFFFFF;
+        int baseAlpha = argb >>> 24;
+        int extent = imageSize(type, size);
+        BufferedImage stamp = new BufferedImage(Math.max(1, extent), Math.max(1, extent), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = stamp.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+        switch (type) {
+            case EXPLOSION:
+                g.setColor(new Color((int)(baseAlpha * fade) << 24 | rgb, true));
+                g.setStroke(RING_STROKE);
+                g.drawOval(RING_PAD, RING_PAD, size, size);
+                break;
+
+            case SMOKE: {
+                // Same layers as the vector version: the fade applies to the layer
+                // alpha and again as the composite alpha
+                int fadedAlpha = (int)(baseAlpha * fade * 0.6);
+                int core = (extent - size) / 2;
+                g.setColor(new Color((int)(fadedAlpha / 2 * fade) << 24 | rgb, true));
+                g.fillOval(0, 0, extent, extent);
+                g.setColor(new Color((int)(fadedAlpha * fade) << 24 | rgb, true));
+                g.fillOval(core, core, size, size);
+                break;
+            }
+
+            default: // SPARK, DODGE: filled disc
+                g.setColor(new Color((int)(baseAlpha * fade) << 24 | rgb, true));
+                g.fillOval(0, 0, size, size);
+                break;
+        }
+        g.dispose();
+        return stamp;
+    }
+
+    // Stamp width/height for a shape of the given diameter
+    static int imageSize(Particle.ParticleType type, int size) {
+        switch (type) {
+            case EXPLOSION: return size + RING_PAD * 2;
+            case SMOKE: return (int)(size * 1.4);
+            default: return size;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+import java.awt.Color;
+import java.util.Arrays;
+
+// Structure-of-arrays storage for all live particles.
+// Live particles are packed in [0, count): update() advances every particle and
+// compacts out the dead ones in the same pass (draw order preserved). When the
+// system is full, add() recycles slots round-robin (oldest-ish first) instead of
+// silently dropping the new effect.
+public class ParticleSystem {
+    static final int DEFAULT_CAPACITY = 16384;
+    private static final int INITIAL_CAPACITY = 512;
+    private static final Particle.ParticleType[] TYPES = Particle.ParticleType.values();
+
+    private static final int SPARK = Particle.ParticleType.SPARK.ordinal();
+    private static final int EXPLOSION = Particle.ParticleType.EXPLOSION.ordinal();
+
+    private final int maxCapacity;
+    private int count;
+    private int recycleCursor; // Next slot to overwrite when full
+    private long recycledCount; // Particles overwritten because the system was full
+
+    private float[] x;
+    private float[] y;
+    private float[] vx;
+    private float[] vy;
+    private float[] size;
+    private int[] lifetime; // Ticks left
+    private int[] maxLifetime;
+    private int[] argb; // Packed color (Color.getRGB())
+    private byte[] type; // Particle.ParticleType ordinal
+
+    public ParticleSystem() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ParticleSystem(int maxCapacity) {
+        this.maxCapacity = maxCapacity;
+        int capacity = Math.min(INITIAL_CAPACITY, maxCapacity);
+        x = new float[capacity];
+        y = new float[capacity];
+        vx = new float[capacity];
+        vy = new float[capacity];
+        size = new float[capacity];
+        lifetime = new int[capacity];
+        maxLifetime = new int[capacity];
+        argb = new int[capacity];
+        type = new byte[capacity];
+    }
+
+    private void grow() {
+        int capacity = Math.min(x.length * 2, maxCapacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        vx = Arrays.copyOf(vx, capacity);
+        vy = Arrays.copyOf(vy, capacity);
+        size = Arrays.copyOf(size, capacity);
+        lifetime = Arrays.copyOf(lifetime, capacity);
+        maxLifetime = Arrays.copyOf(maxLifetime, capacity);
+        argb = Arrays.copyOf(argb, capacity);
+        type = Arrays.copyOf(type, capacity);
+    }
+
+    public int size() { return count; }
+    public boolean isEmpty() { return count == 0; }
+    public int getMaxCapacity() { return maxCapacity; }
+    public long getRecycledCount() { return recycledCount; }
+
+    public void clear() {
+        count = 0;
+        recycleCursor = 0;
+    }
+
+    public void add(double px, double py, double pvx, double pvy, Color color, int life, double particleSize, Particle.ParticleType particleType) {
+        add(px, py, pvx, pvy, color.getRGB(), life, particleSize, particleType);
+    }
+
+    // Spawn a particle; returns its slot
+    public int add(double px, double py, double pvx, double pvy, int color, int life, double particleSize, Particle.ParticleType particleType) {
+        int i;
+        if (count < maxCapacity) {
+            if (count == x.length) {
+                grow();
+            }
+            i = count++;
+        } else {
+            // Full: overwrite round-robin rather than drop the newest effect
+            i = recycleCursor;
+            recycleCursor = (recycleCursor + 1) % maxCapacity;
+            recycledCount++;
+        }
+        x[i] = (float) px;
+        y[i] = (float) py;
+        vx[i] = (float) pvx;
+        vy[i] = (float) pvy;
+        size[i] = (float) particleSize;
+        lifetime[i] = life;
+        maxLifetime[i] = life;
+        argb[i] = color;
+        type[i] = (byte) particleType.ordinal();
+        return i;
+    }
+
+    // Advance all particles one step and drop the dead ones (single pass, stable order)
+    public void update(double deltaTime) {
+        float dt = (float) deltaTime;
+        float gravity = 0.2f * dt;
+        int write = 0;
+        for (int read = 0; read < count; read++) {
+            int life = (int)(lifetime[read] - deltaTime); // Truncates like the old int -= double
+            if (life <= 0) continue; // Dead: not copied forward
+
+            float pvx = vx[read];
+            float pvy = vy[read];
+            float px = x[read] + pvx * dt;
+            float py = y[read] + pvy * dt;
+
+            // Gravity for sparks and explosion debris
+            int t = type[read];
+            if (t == SPARK || t == EXPLOSION) {
+                pvy += gravity;
+            }
+
+            x[write] = px;
+            y[write] = py;
+            vx[write] = pvx * 0.98f; // Slow down
+            vy[write] = pvy * 0.98f;
+            lifetime[write] = life;
+            if (write != read) {
+                size[write] = size[read];
+                maxLifetime[write] = maxLifetime[read];
+                argb[write] = argb[read];
+                type[write] = type[read];
+            }
+            write++;
+        }
+        count = write;
+        if (recycleCursor >= count) {
+            recycleCursor = 0;
+        }
+    }
+
+    // Copy every particle from another system (render copies in FrameSnapshot)
+    public void copyFrom(ParticleSystem other) {
+        int n = Math.min(other.count, maxCapacity);
+        while (x.length < n) {
+            grow();
+        }
+        System.arraycopy(other.x, 0, x, 0, n);
+        System.arraycopy(other.y, 0, y, 0, n);
+        System.arraycopy(other.vx, 0, vx, 0, n);
+        System.arraycopy(other.vy, 0, vy, 0, n);
+        System.arraycopy(other.size, 0, size, 0, n);
+        System.arraycopy(other.lifetime, 0, lifetime, 0, n);
+        System.arraycopy(other.maxLifetime, 0, maxLifetime, 0, n);
+        System.arraycopy(other.argb, 0, argb, 0, n);
+        System.arraycopy(other.type, 0, type, 0, n);
+        count = n;
+    }
+
+    public float getX(int i) { return x[i]; }
+    public float getY(int i) { return y[i]; }
+    public float getVX(int i) { return vx[i]; }
+    public float getVY(int i) { return vy[i]; }
+    public float getSize(int i) { return size[i]; }
+    public int getLifetime(int i) { return lifetime[i]; }
+    public int getMaxLifetime(int i) { return maxLifetime[i]; }
+    public int getColor(int i) { return argb[i]; }
+    public Particle.ParticleType getType(int i) { return TYPES[type[i]]; }
+}
@@ -7,6 +7,7 @@ import javax.imageio.ImageIO;
 
 public class Player {
     private double x, y;
+    private double prevX, prevY; // Position at the start of the tick
     private double vx, vy; // Velocity
     private double prevVX, prevVY; // Previous velocity for squash/stretch
     private static final int SIZE = 20;
@@ -41,6 +42,8 @@ public class Player {
     public Player(double x, double y, int speedUpgradeLevel) {
         this.x = x;
         this.y = y;
+        this.prevX = x;
+        this.prevY = y;
         this.vx = 0;
         this.vy = 0;
         this.prevVX = 0;
@@ -299,6 +302,34 @@ public class Player {
     public int getSize() { return SIZE; }
     public double getVX() { return vx; }
     public double getVY() { return vy; }
+
+    // Position at the start of the current simulation tick (for render interpolation)
+    public void savePreviousPosition() {
+        prevX = x;
+        prevY = y;
+    }
+
+    // Offset from the simulated position to the interpolated one (alpha 0 = previous tick, 1 = current)
+    public double getRenderOffsetX(double alpha) { return (alpha - 1.0) * (x - prevX); }
+    public double getRenderOffsetY(double alpha) { return (alpha - 1.0) * (y - prevY); }
+    
+    // Copy all state from another player (render copies in FrameSnapshot)
+    public void copyFrom(Player other) {
+        x = other.x;
+        y = other.y;
+        prevX = other.prevX;
+        prevY = other.prevY;
+        vx = other.vx;
+        vy = other.vy;
+        prevVX = other.prevVX;
+        prevVY = other.prevVY;
+        speedMultiplier = other.speedMultiplier;
+        flickerTimer = other.flickerTimer;
+        cachedSpeed = other.cachedSpeed;
+        speedCacheAge = other.speedCacheAge;
+        squashX = other.squashX;
+        squashY = other.squashY;
+    }
     
     // Set position (for debug teleport)
     public void setPosition(double x, double y) {
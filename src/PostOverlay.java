@@ -0,0 +1,141 @@
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+
+// Screen-space post effects that don't change from frame to frame. The
+// vignette and chromatic-aberration fringes are baked together into one
+// translucent screen-sized image (per resolution and set of enabled effects)
+// and applied with a single drawImage. SRC_OVER is associative, so the baked
+// layers composite exactly like drawing them one by one. Film grain cycles
+// through a few pre-generated noise tiles instead of generating dots live.
+// Sizes are device pixels (see GradientCache). Render thread only.
+final class PostOverlay {
+    private static final int GRAIN_TILE = 256;
+    private static final int GRAIN_FRAMES = 8; // Noise tiles cycled through
+    private static final int GRAIN_DOTS_PER_SCREEN = 150;
+    private static final AffineTransform DEVICE_TRANSFORM = new AffineTransform();
+
+    private BufferedImage overlay;
+    private int overlayWidth, overlayHeight;
+    private double overlayScaleX, overlayScaleY;
+    private boolean overlayVignette, overlayFringes;
+
+    private final BufferedImage[] grainTiles = new BufferedImage[GRAIN_FRAMES];
+    private int grainWidth, grainHeight; // Screen size the tile density was chosen for
+    private int grainFrame;
+    private final GameRandom grainRandom;
+
+    PostOverlay(GameRandom grainRandom) {
+        this.grainRandom = grainRandom;
+    }
+
+    // Draw the enabled static effects over (0, 0, width, height) in g's coordinates
+    void draw(Graphics2D g, int width, int height, boolean vignette, boolean fringes) {
+        if (!vignette && !fringes) return;
+        AffineTransform originalTransform = g.getTransform();
+        double scaleX = originalTransform.getScaleX();
+        double scaleY = originalTransform.getScaleY();
+        int pixelWidth = Math.max(1, (int)Math.ceil(width * scaleX));
+        int pixelHeight = Math.max(1, (int)Math.ceil(height * scaleY));
+
+        if (overlay == null || overlayWidth != pixelWidth || overlayHeight != pixelHeight
+                || overlayScaleX != scaleX || overlayScaleY != scaleY
+                || overlayVignette != vignette || overlayFringes != fringes) {
+            overlay = bake(g.getDeviceConfiguration(), pixelWidth, pixelHeight, scaleX, scaleY, width, height, vignette, fringes);
+            overlayWidth = pixelWidth;
+            overlayHeight = pixelHeight;
+            overlayScaleX = scaleX;
+            overlayScaleY = scaleY;
+            overlayVignette = vignette;
+            overlayFringes = fringes;
+        }
+
+        g.setTransform(DEVICE_TRANSFORM);
+        g.drawImage(overlay, (int)Math.round(originalTransform.getTranslateX()), (int)Math.round(originalTransform.getTranslateY()), null);
+        g.setTransform(originalTransform);
+    }
+
+    // Sparse film grain: the next pre-generated noise tile, tiled from a random origin
+    void drawGrain(Graphics2D g, int width, int height) {
+        AffineTransform originalTransform = g.getTransform();
+        int pixelWidth = Math.max(1, (int)Math.ceil(width * originalTransform.getScaleX()));
+        int pixelHeight = Math.max(1, (int)Math.ceil(height * originalTransform.getScaleY()));
+        if (grainTiles[0] == null || grainWidth != pixelWidth || grainHeight != pixelHeight) {
+            generateGrain(g.getDeviceConfiguration(), pixelWidth, pixelHeight);
+        }
+
+        BufferedImage tile = grainTiles[grainFrame];
+        grainFrame = (grainFrame + 1) % GRAIN_FRAMES;
+        int originX = (int)Math.round(originalTransform.getTranslateX()) - grainRandom.nextInt(GRAIN_TILE);
+        int originY = (int)Math.round(originalTransform.getTranslateY()) - grainRandom.nextInt(GRAIN_TILE);
+
+        g.setTransform(DEVICE_TRANSFORM);
+        for (int y = originY; y < originY + GRAIN_TILE + pixelHeight; y += GRAIN_TILE) {
+            for (int x = originX; x < originX + GRAIN_TILE + pixelWidth; x += GRAIN_TILE) {
+                g.drawImage(tile, x, y, null);
+            }
+        }
+        g.setTransform(originalTransform);
+    }
+
+    // Vignette and fringes, drawn exactly as the live versions were, into one image
+    private static BufferedImage bake(GraphicsConfiguration config, int pixelWidth, int pixelHeight,
+                                      double scaleX, double scaleY, int width, int height,
+                                      boolean vignette, boolean fringes) {
+        BufferedImage image = config.createCompatibleImage(pixelWidth, pixelHeight, Transparency.TRANSLUCENT);
+        Graphics2D g = image.createGraphics();
+        g.scale(scaleX, scaleY);
+
+        if (fringes) {
+            // Chromatic aberration: subtle color fringing at screen edges
+            g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.03f));
+            g.setColor(new Color(255, 0, 0)); // Red fringe on left edge
+            g.fillRect(0, 0, 15, height);
+            g.setColor(new Color(0, 255, 255)); // Cyan fringe on right edge
+            g.fillRect(width - 15, 0, 15, height);
+            g.setColor(new Color(0, 0, 255)); // Blue fringe on top
+            g.fillRect(0, 0, width, 15);
+            g.setColor(new Color(255, 255, 0)); // Yellow fringe on bottom
+            g.fillRect(0, height - 15, width, 15);
+        }
+
+        if (vignette) {
+            // Vignette: darken edges to focus attention on center, in 4 layers
+            int centerX = width / 2;
+            int centerY = height / 2;
+            int radius = (int)Math.sqrt(centerX * centerX + centerY * centerY) * 3;
+            for (int i = 0; i < 4; i++) {
+                float alpha = Math.min(1.0f, 0.36f * (i + 1));
+                g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
+                g.setPaint(new RadialGradientPaint(
+                    centerX, centerY, radius,
+                    new float[]{0.0f, 0.2f, 1.0f},
+                    new Color[]{new Color(0, 0, 0, 0), new Color(0, 0, 0, 0), new Color(0, 0, 0, 255)}
+                ));
+                g.fillRect(0, 0, width, height);
+            }
+        }
+        g.dispose();
+        return image;
+    }
+
+    // Same density as the live grain had: GRAIN_DOTS_PER_SCREEN white 1-2px dots at 3%
+    private void generateGrain(GraphicsConfiguration config, int pixelWidth, int pixelHeight) {
+        double tilesPerScreen = (double)pixelWidth * pixelHeight / (GRAIN_TILE * GRAIN_TILE);
+        int dots = Math.max(1, (int)Math.round(GRAIN_DOTS_PER_SCREEN / tilesPerScreen));
+        Color dot = new Color(255, 255, 255, Math.round(255 * 0.03f));
+        for (int t = 0; t < GRAIN_FRAMES; t++) {
+            BufferedImage tile = config.createCompatibleImage(GRAIN_TILE, GRAIN_TILE, Transparency.TRANSLUCENT);
+            Graphics2D g = tile.createGraphics();
+            g.setColor(dot);
+            for (int i = 0; i < dots; i++) {
+                int size = grainRandom.nextInt(2) + 1;
+                g.fillRect(grainRandom.nextInt(GRAIN_TILE), grainRandom.nextInt(GRAIN_TILE), size, size);
+            }
+            g.dispose();
+            grainTiles[t] = tile;
+        }
+        grainWidth = pixelWidth;
+        grainHeight = pixelHeight;
+    }
+}
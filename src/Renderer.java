@@ -1,6 +1,7 @@
 import java.awt.*;
 import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
 import java.io.File;
 import java.io.IOException;
 import java.util.List;
@@ -8,6 +9,13 @@ import javax.imageio.ImageIO;
 
 public class Renderer {
     private GameData gameData;
+    private double interpolationAlpha = 1.0; // Fraction of the way to the next simulation tick
+    private final PostOverlay postOverlay = new PostOverlay(new GameRandom(System.nanoTime())); // Vignette, fringes, film grain
+    
+    // View culling counters for the debug overlay (damage numbers lag a frame:
+    // they are drawn after the overlay)
+    private int drawnBullets, culledBullets;
+    private int drawnDamageNumbers, culledDamageNumbers;
     private ShopManager shopManager;
     
     // Menu buttons
@@ -20,7 +28,39 @@ public class Renderer {
     // Parallax background layers (14 sets x 6 layers each)
     private static BufferedImage[][] backgroundLayers = new BufferedImage[14][6];
     private static boolean backgroundsLoaded = false;
-    private double[] layerScrollOffsets = new double[6]; // Scroll offset for each layer
+    private static final int STATIC_BACKGROUND_SLOT = 6; // Cache slot after the 6 parallax layers
+    private final BackgroundCache backgroundCache = new BackgroundCache(7); // Current set, pre-scaled
+    private static final AffineTransform DEVICE_TRANSFORM = new AffineTransform();
+    
+    // Animated gradient backgrounds: palettes, and their pre-rendered strips
+    private static final Color[] MENU_GRADIENT = {new Color(46, 52, 64), new Color(59, 66, 82), new Color(76, 86, 106)};
+    private static final Color[] LEVEL_SELECT_GRADIENT = {new Color(20, 25, 40), new Color(30, 35, 50), new Color(40, 45, 60)};
+    private static final Color[] GAME_OVER_GRADIENT = {new Color(46, 52, 64), new Color(59, 66, 82), new Color(67, 76, 94)};
+    private static final Color[][] LEVEL_GRADIENTS = {
+        MENU_GRADIENT, // Levels 1-5: Dark blue theme
+        {new Color(59, 66, 82), new Color(76, 86, 106), new Color(88, 91, 112)}, // Levels 6-10: Purple theme
+        {new Color(46, 52, 64), new Color(67, 76, 94), new Color(76, 86, 106)}, // Levels 11-15: Red theme
+        GAME_OVER_GRADIENT, // Levels 16-20: Green theme
+        {new Color(59, 66, 82), new Color(67, 76, 94), new Color(76, 86, 106)}, // Levels 21-25: Orange theme
+        MENU_GRADIENT // Levels 26+: Teal theme
+    };
+    private final GradientCache gradientCache = new GradientCache();
+    
+    // Menu screens: static content retained between frames (one screen at a time)
+    private final RetainedLayer screenLayer = new RetainedLayer();
+    private final RetainedLayer upgradesLayer = new RetainedLayer(); // Stats screen upgrade list
+    private static final int SCREEN_INFO = 1;
+    private static final int SCREEN_ACHIEVEMENTS = 2;
+    private static final int SCREEN_STATS = 3;
+    private static final int SCREEN_SHOP = 4;
+    private static final int SCREEN_SETTINGS = 5;
+    private static final AlphaComposite SHINE_COMPOSITE = AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.3f);
+    
+    // Bloom: offscreen quarter-resolution glow buffer and its emitter colors
+    private final BloomPass bloomPass = new BloomPass();
+    private static final Color BOSS_GLOW = new Color(255, 255, 0);
+    private static final Color PLAYER_GLOW = new Color(150, 200, 255);
+    private static final Color PARTICLE_GLOW = new Color(255, 200, 100);
     
     // Background overlay
     private static BufferedImage overlayImage = null;
@@ -39,21 +79,26 @@ public class Renderer {
     private static final BasicStroke STROKE_3 = new BasicStroke(3f);
     
     // Cached Font objects to avoid repeated creation
-    private static final Font FONT_TITLE_LARGE = new Font("Arial", Font.BOLD, 84);
-    private static final Font FONT_TITLE = new Font("Arial", Font.BOLD, 72);
-    private static final Font FONT_TITLE_MEDIUM = new Font("Arial", Font.BOLD, 60);
-    private static final Font FONT_SUBTITLE = new Font("Arial", Font.BOLD, 36);
-    private static final Font FONT_LARGE_32 = new Font("Arial", Font.BOLD, 32);
-    private static final Font FONT_LARGE = new Font("Arial", Font.BOLD, 28);
-    private static final Font FONT_MEDIUM = new Font("Arial", Font.PLAIN, 24);
-    private static final Font FONT_MEDIUM_BOLD = new Font("Arial", Font.BOLD, 24);
-    private static final Font FONT_SMALL = new Font("Arial", Font.PLAIN, 20);
-    private static final Font FONT_INFO = new Font("Arial", Font.PLAIN, 18);
-    private static final Font FONT_TINY = new Font("Arial", Font.BOLD, 18);
-    private static final Font FONT_EXTRA_SMALL_16 = new Font("Arial", Font.BOLD, 16);
-    private static final Font FONT_EXTRA_SMALL_13 = new Font("Arial", Font.PLAIN, 13);
-    private static final Font FONT_EXTRA_SMALL_12 = new Font("Arial", Font.BOLD, 12);
-    private static final Font FONT_EXTRA_SMALL_11 = new Font("Arial", Font.PLAIN, 11);
+    private static final Font FONT_TITLE_LARGE = TextCache.font("Arial", Font.BOLD, 84);
+    private static final Font FONT_TITLE = TextCache.font("Arial", Font.BOLD, 72);
+    private static final Font FONT_TITLE_MEDIUM = TextCache.font("Arial", Font.BOLD, 60);
+    private static final Font FONT_SUBTITLE = TextCache.font("Arial", Font.BOLD, 36);
+    private static final Font FONT_LARGE_32 = TextCache.font("Arial", Font.BOLD, 32);
+    private static final Font FONT_LARGE = TextCache.font("Arial", Font.BOLD, 28);
+    private static final Font FONT_MEDIUM = TextCache.font("Arial", Font.PLAIN, 24);
+    private static final Font FONT_MEDIUM_BOLD = TextCache.font("Arial", Font.BOLD, 24);
+    private static final Font FONT_SMALL = TextCache.font("Arial", Font.PLAIN, 20);
+    private static final Font FONT_INFO = TextCache.font("Arial", Font.PLAIN, 18);
+    private static final Font FONT_TINY = TextCache.font("Arial", Font.BOLD, 18);
+    private static final Font FONT_EXTRA_SMALL_16 = TextCache.font("Arial", Font.BOLD, 16);
+    private static final Font FONT_EXTRA_SMALL_13 = TextCache.font("Arial", Font.PLAIN, 13);
+    private static final Font FONT_EXTRA_SMALL_12 = TextCache.font("Arial", Font.BOLD, 12);
+    private static final Font FONT_EXTRA_SMALL_11 = TextCache.font("Arial", Font.PLAIN, 11);
+    private static final Font FONT_COMBO = TextCache.font("Arial", Font.BOLD, 48);
+    private static final Font FONT_INDICATOR = TextCache.font("Arial", Font.BOLD, 14);
+    private static final Color COMBO_COLOR = new Color(235, 203, 139);
+    private static final Color PERFECT_COLOR = new Color(255, 215, 0);
+    private static final Color CLOSE_CALL_COLOR = new Color(163, 190, 140);
     
     // Smooth UI animations
     private double displayedScore = 0;
@@ -94,9 +139,9 @@ public class Renderer {
             statsButtons[i] = new UIButton(statNames[i], 0, 0, 840, 70, new Color(59, 66, 82), statColors[i]);
         }
         
-        // Initialize settings buttons (11 options)
-        settingsButtons = new UIButton[11];
-        for (int i = 0; i < 11; i++) {
+        // Initialize settings buttons (13 options)
+        settingsButtons = new UIButton[13];
+        for (int i = 0; i < 13; i++) {
             settingsButtons[i] = new UIButton("", 0, 0, 700, 80, new Color(76, 86, 106), new Color(235, 203, 139));
         }
         
@@ -198,33 +243,44 @@ public class Renderer {
         // Parallax speeds for each layer (furthest to closest)
         double[] speeds = {0.1, 0.2, 0.35, 0.5, 0.7, 1.0};
         
-        // Update scroll offsets for each layer
+        // Blit the pre-scaled layers in device pixels (render scale, screen shake
+        // and any HiDPI scale all live in the current transform)
+        AffineTransform originalTransform = g.getTransform();
+        double scaleX = originalTransform.getScaleX();
+        double scaleY = originalTransform.getScaleY();
+        int pixelWidth = (int)Math.ceil(width * scaleX);
+        int pixelHeight = (int)Math.ceil(height * scaleY);
+        int originX = (int)Math.round(originalTransform.getTranslateX());
+        int originY = (int)Math.round(originalTransform.getTranslateY());
+        GraphicsConfiguration config = g.getDeviceConfiguration();
+        g.setTransform(DEVICE_TRANSFORM);
+        
+        // Scroll position follows the tick-driven time, interpolated toward the next tick
+        double scrollTicks = time / Game.GRADIENT_STEP + interpolationAlpha;
+        
         for (int i = 0; i < 6; i++) {
             // Get layer image
             BufferedImage layer = backgroundLayers[bgSet][i];
             if (layer == null) continue; // Skip if this layer doesn't exist for this background set
             
-            layerScrollOffsets[i] += speeds[i] * 0.5;
-            
-            // Calculate how many times to tile the image
-            int imgWidth = layer.getWidth();
-            int imgHeight = layer.getHeight();
-            
             // Scale to fit screen height
-            double scale = (double)height / imgHeight;
-            int scaledWidth = (int)(imgWidth * scale);
-            int scaledHeight = height;
+            int scaledWidth = Math.max(1, (int)((long)layer.getWidth() * pixelHeight / layer.getHeight()));
             
             // Wrap scroll offset
-            double offset = layerScrollOffsets[i] % scaledWidth;
-            
-            // Draw tiled layers with wrapping
-            int x = (int)(-offset);
-            while (x < width) {
-                g.drawImage(layer, x, 0, scaledWidth, scaledHeight, null);
-                x += scaledWidth;
-            }
+            double offset = (speeds[i] * 0.5 * scrollTicks * scaleX) % scaledWidth;
+            
+            // Draw tiled layers with wrapping, again if the image was lost mid-draw
+            VolatileImage scaled;
+            do {
+                scaled = backgroundCache.get(config, bgSet, i, layer, scaledWidth, pixelHeight);
+                int x = originX - (int)offset;
+                while (x < originX + pixelWidth) {
+                    g.drawImage(scaled, x, originY, null);
+                    x += scaledWidth;
+                }
+            } while (scaled.contentsLost());
         }
+        g.setTransform(originalTransform);
     }
     
     private void drawStaticBackground(Graphics2D g, int width, int height, int level) {
@@ -244,24 +300,39 @@ public class Renderer {
         }
         
         if (layer != null) {
-            // Scale to fit screen
+            // Scale to cover the screen, in device pixels
+            AffineTransform originalTransform = g.getTransform();
+            int pixelWidth = (int)Math.ceil(width * originalTransform.getScaleX());
+            int pixelHeight = (int)Math.ceil(height * originalTransform.getScaleY());
             int imgWidth = layer.getWidth();
             int imgHeight = layer.getHeight();
-            double scale = Math.max((double)width / imgWidth, (double)height / imgHeight);
+            double scale = Math.max((double)pixelWidth / imgWidth, (double)pixelHeight / imgHeight);
             int scaledWidth = (int)(imgWidth * scale);
             int scaledHeight = (int)(imgHeight * scale);
             
             // Center the image
-            int x = (width - scaledWidth) / 2;
-            int y = (height - scaledHeight) / 2;
-            
-            g.drawImage(layer, x, y, scaledWidth, scaledHeight, null);
+            int x = (int)Math.round(originalTransform.getTranslateX()) + (pixelWidth - scaledWidth) / 2;
+            int y = (int)Math.round(originalTransform.getTranslateY()) + (pixelHeight - scaledHeight) / 2;
+            
+            GraphicsConfiguration config = g.getDeviceConfiguration();
+            g.setTransform(DEVICE_TRANSFORM);
+            VolatileImage scaled;
+            do {
+                scaled = backgroundCache.get(config, bgSet, STATIC_BACKGROUND_SLOT, layer, scaledWidth, scaledHeight);
+                g.drawImage(scaled, x, y, null);
+            } while (scaled.contentsLost());
+            g.setTransform(originalTransform);
         }
     }
     
+    // Set before drawGame: how far (0-1) the render frame is past the last simulation tick
+    public void setInterpolationAlpha(double alpha) {
+        this.interpolationAlpha = alpha;
+    }
+    
     public void drawLoading(Graphics2D g, int width, int height, double time, int progress) {
         // Draw dark animated gradient background
-        drawAnimatedGradient(g, width, height, time, new Color[]{new Color(46, 52, 64), new Color(59, 66, 82), new Color(76, 86, 106)});
+        drawAnimatedGradient(g, width, height, time, MENU_GRADIENT);
         
         // Holographic title
         String title = "MR. MISSLE";
@@ -332,7 +403,7 @@ public class Renderer {
     
     public void drawMenu(Graphics2D g, int width, int height, double time, int escapeTimer, int selectedMenuItem) {
         // Draw animated gradient background with palette colors
-        drawAnimatedGradient(g, width, height, time, new Color[]{new Color(46, 52, 64), new Color(59, 66, 82), new Color(76, 86, 106)});
+        drawAnimatedGradient(g, width, height, time, MENU_GRADIENT);
         
         g.setColor(Color.WHITE);
         g.setFont(FONT_TITLE);
@@ -399,8 +470,14 @@ public class Renderer {
     
     public void drawInfo(Graphics2D g, int width, int height, double time) {
         // Draw animated gradient
-        drawAnimatedGradient(g, width, height, time, new Color[]{new Color(46, 52, 64), new Color(59, 66, 82), new Color(76, 86, 106)});
+        drawAnimatedGradient(g, width, height, time, MENU_GRADIENT);
         
+        // Everything but the title shine is fixed text
+        screenLayer.draw(g, width, height, SCREEN_INFO, layer -> paintInfo(layer, width, height));
+        drawTitleShine(g, "GAME INFO", FONT_TITLE_MEDIUM, width, 80, time);
+    }
+    
+    private void paintInfo(Graphics2D g, int width, int height) {
         // Holographic title
         g.setFont(FONT_TITLE_MEDIUM);
         String title = "GAME INFO";
@@ -420,13 +497,6 @@ public class Renderer {
         g.setPaint(titleGrad);
         g.drawString(title, titleX, titleY);
         
-        // Holographic shine
-        int shineOffset = (int)(Math.sin(time * 2) * 30);
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.3f));
-        g.setColor(Color.WHITE);
-        g.drawString(title, titleX + 2 + shineOffset / 10, titleY - 2);
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1.0f));
-        
         // Game Rules section
         g.setColor(new Color(143, 188, 187)); // Palette teal
         g.setFont(FONT_LARGE);
@@ -451,12 +521,12 @@ public class Renderer {
         // Boss types section
         y += 20;
         g.setColor(new Color(235, 203, 139)); // Palette yellow
-        g.setFont(new Font("Arial", Font.BOLD, 28));
+        g.setFont(TextCache.font("Arial", Font.BOLD, 28));
         g.drawString("BOSS TYPES:", 70, y);
         y += 35;
         
         g.setColor(Color.WHITE);
-        g.setFont(new Font("Arial", Font.PLAIN, 18));
+        g.setFont(TextCache.font("Arial", Font.PLAIN, 18));
         String[] bossInfo = {
             "Level 1-3: Triangle, Square, Pentagon - Basic patterns",
             "Level 4-6: Hexagon, Heptagon, Octagon - Mixed attacks",
@@ -474,12 +544,12 @@ public class Renderer {
         // Projectile types section
         y += 20;
         g.setColor(new Color(136, 192, 208)); // Palette cyan
-        g.setFont(new Font("Arial", Font.BOLD, 28));
+        g.setFont(TextCache.font("Arial", Font.BOLD, 28));
         g.drawString("PROJECTILE TYPES:", 70, y);
         y += 35;
         
         g.setColor(Color.WHITE);
-        g.setFont(new Font("Arial", Font.PLAIN, 18));
+        g.setFont(TextCache.font("Arial", Font.PLAIN, 18));
         String[] projectileInfo = {
             "1. NORMAL - Standard red bullets",
             "2. FAST - Orange bullets with higher speed",
@@ -501,16 +571,28 @@ public class Renderer {
         
         // Controls hint
         g.setColor(new Color(216, 222, 233));
-        g.setFont(new Font("Arial", Font.PLAIN, 20));
+        g.setFont(TextCache.font("Arial", Font.PLAIN, 20));
         g.drawString("Press ESC to return to menu | Press R to restart during gameplay | Press P to visit shop", 70, height - 50);
     }
     
     public void drawAchievements(Graphics2D g, int width, int height, double time, AchievementManager achievementManager) {
         // Draw animated gradient background
-        drawAnimatedGradient(g, width, height, time, new Color[]{new Color(46, 52, 64), new Color(59, 66, 82), new Color(76, 86, 106)});
+        drawAnimatedGradient(g, width, height, time, MENU_GRADIENT);
         
+        // Cards only change with achievement progress
+        long version = RetainedLayer.mix(SCREEN_ACHIEVEMENTS, System.identityHashCode(achievementManager));
+        java.util.List<Achievement> achievements = achievementManager.getAllAchievements();
+        for (int i = 0; i < achievements.size(); i++) {
+            Achievement ach = achievements.get(i);
+            version = RetainedLayer.mix(version, (long)ach.getProgress() << 1 | (ach.isUnlocked() ? 1 : 0));
+        }
+        screenLayer.draw(g, width, height, version, layer -> paintAchievements(layer, width, height, achievementManager));
+        drawTitleShine(g, "ACHIEVEMENTS", FONT_TITLE_MEDIUM, width, 80, time);
+    }
+    
+    private void paintAchievements(Graphics2D g, int width, int height, AchievementManager achievementManager) {
         // Holographic title
-        g.setFont(new Font("Arial", Font.BOLD, 60));
+        g.setFont(TextCache.font("Arial", Font.BOLD, 60));
         String title = "ACHIEVEMENTS";
         FontMetrics fm = g.getFontMetrics();
         int titleX = (width - fm.stringWidth(title)) / 2;
@@ -528,17 +610,10 @@ public class Renderer {
         g.setPaint(titleGrad);
         g.drawString(title, titleX, titleY);
         
-        // Holographic shine
-        int shineOffset = (int)(Math.sin(time * 2) * 30);
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.3f));
-        g.setColor(Color.WHITE);
-        g.drawString(title, titleX + 2 + shineOffset / 10, titleY - 2);
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1.0f));
-        
         // Achievement count
         int unlocked = achievementManager.getUnlockedCount();
         int total = achievementManager.getAllAchievements().size();
-        g.setFont(new Font("Arial", Font.BOLD, 24));
+        g.setFont(TextCache.font("Arial", Font.BOLD, 24));
         g.setColor(new Color(163, 190, 140)); // Green
         String countText = unlocked + " / " + total + " Unlocked";
         fm = g.getFontMetrics();
@@ -607,7 +682,7 @@ public class Renderer {
             }
             
             // Achievement name
-            g.setFont(new Font("Arial", Font.BOLD, 16));
+            g.setFont(TextCache.font("Arial", Font.BOLD, 16));
             if (ach.isUnlocked()) {
                 g.setColor(new Color(235, 203, 139)); // Gold
             } else {
@@ -616,7 +691,7 @@ public class Renderer {
             g.drawString(ach.getName(), x + 65, y + 28);
             
             // Description
-            g.setFont(new Font("Arial", Font.PLAIN, 13));
+            g.setFont(TextCache.font("Arial", Font.PLAIN, 13));
             g.setColor(ach.isUnlocked() ? new Color(200, 200, 210) : new Color(100, 100, 110));
             g.drawString(ach.getDescription(), x + 65, y + 48);
             
@@ -637,13 +712,13 @@ public class Renderer {
                 g.fillRoundRect(barX, barY, (int)(barWidth * progress), barHeight, 4, 4);
                 
                 // Progress text
-                g.setFont(new Font("Arial", Font.PLAIN, 11));
+                g.setFont(TextCache.font("Arial", Font.PLAIN, 11));
                 g.setColor(new Color(120, 130, 140));
                 String progressText = ach.getProgress() + " / " + ach.getTarget();
                 g.drawString(progressText, barX + barWidth - fm.stringWidth(progressText) + 20, y + 85);
             } else {
                 // "COMPLETE" badge
-                g.setFont(new Font("Arial", Font.BOLD, 12));
+                g.setFont(TextCache.font("Arial", Font.BOLD, 12));
                 g.setColor(new Color(163, 190, 140));
                 g.drawString("COMPLETE", x + 65, y + 75);
             }
@@ -651,7 +726,7 @@ public class Renderer {
         
         // Controls hint
         g.setColor(new Color(216, 222, 233));
-        g.setFont(new Font("Arial", Font.PLAIN, 20));
+        g.setFont(TextCache.font("Arial", Font.PLAIN, 20));
         String hint = "Press ESC to return to menu";
         fm = g.getFontMetrics();
         g.drawString(hint, (width - fm.stringWidth(hint)) / 2, height - 40);
@@ -659,10 +734,21 @@ public class Renderer {
     
     public void drawStats(Graphics2D g, int width, int height, double time) {
         // Draw animated gradient
-        drawAnimatedGradient(g, width, height, time, new Color[]{new Color(46, 52, 64), new Color(59, 66, 82), new Color(76, 86, 106)});
-        
+        drawAnimatedGradient(g, width, height, time, MENU_GRADIENT);
+        
+        // Header and loadout summary only change with money, levels and loadout
+        long version = RetainedLayer.mix(SCREEN_STATS, gameData.getTotalMoney());
+        version = RetainedLayer.mix(version, gameData.getMaxUnlockedLevel());
+        version = RetainedLayer.mix(version, gameData.getActiveSpeedLevel());
+        version = RetainedLayer.mix(version, gameData.getActiveBulletSlowLevel());
+        version = RetainedLayer.mix(version, gameData.getActiveLuckyDodgeLevel());
+        screenLayer.draw(g, width, height, version, layer -> paintStats(layer, width, height));
+        drawTitleShine(g, "STATS & LOADOUT", FONT_TITLE_MEDIUM, width, 100, time);
+    }
+    
+    private void paintStats(Graphics2D g, int width, int height) {
         // Holographic title
-        g.setFont(new Font("Arial", Font.BOLD, 60));
+        g.setFont(TextCache.font("Arial", Font.BOLD, 60));
         String title = "STATS & LOADOUT";
         FontMetrics fm = g.getFontMetrics();
         int titleX = (width - fm.stringWidth(title)) / 2;
@@ -680,16 +766,9 @@ public class Renderer {
         g.setPaint(titleGrad);
         g.drawString(title, titleX, titleY);
         
-        // Holographic shine
-        int shineOffset = (int)(Math.sin(time * 2) * 30);
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.3f));
-        g.setColor(Color.WHITE);
-        g.drawString(title, titleX + 2 + shineOffset / 10, titleY - 2);
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1.0f));
-        
         // Show total money with glow
         g.setColor(new Color(163, 190, 140));
-        g.setFont(new Font("Arial", Font.BOLD, 36));
+        g.setFont(TextCache.font("Arial", Font.BOLD, 36));
         String money = "Total Money: $" + gameData.getTotalMoney();
         fm = g.getFontMetrics();
         int moneyX = (width - fm.stringWidth(money)) / 2;
@@ -700,26 +779,26 @@ public class Renderer {
         
         // Show max level reached
         g.setColor(Color.YELLOW);
-        g.setFont(new Font("Arial", Font.PLAIN, 24));
+        g.setFont(TextCache.font("Arial", Font.PLAIN, 24));
         String maxLevel = "Highest Level Unlocked: " + gameData.getMaxUnlockedLevel();
         fm = g.getFontMetrics();
         g.drawString(maxLevel, (width - fm.stringWidth(maxLevel)) / 2, 180);
         
         // Upgrade allocation section
         g.setColor(Color.WHITE);
-        g.setFont(new Font("Arial", Font.BOLD, 32));
+        g.setFont(TextCache.font("Arial", Font.BOLD, 32));
         String allocTitle = "UPGRADE ALLOCATION";
         fm = g.getFontMetrics();
         g.drawString(allocTitle, (width - fm.stringWidth(allocTitle)) / 2, 240);
         
-        g.setFont(new Font("Arial", Font.PLAIN, 18));
+        g.setFont(TextCache.font("Arial", Font.PLAIN, 18));
         String allocDesc = "Allocate your purchased upgrades to your loadout";
         fm = g.getFontMetrics();
         g.drawString(allocDesc, (width - fm.stringWidth(allocDesc)) / 2, 270);
         
         // Instructions
         g.setColor(Color.WHITE);
-        g.setFont(new Font("Arial", Font.PLAIN, 20));
+        g.setFont(TextCache.font("Arial", Font.PLAIN, 20));
         String inst1 = "Use UP/DOWN to select | LEFT/RIGHT or A/D to adjust";
         String inst2 = "Press ESC to return to menu";
         fm = g.getFontMetrics();
@@ -728,14 +807,30 @@ public class Renderer {
         
         // Show active loadout summary
         g.setColor(Color.YELLOW);
-        g.setFont(new Font("Arial", Font.BOLD, 24));
+        g.setFont(TextCache.font("Arial", Font.BOLD, 24));
         String summary = "Current Loadout: Speed +" + (gameData.getActiveSpeedLevel() * 15) + "% | Bullet Slow " + 
                         (gameData.getActiveBulletSlowLevel() * 5) + "% | Luck +" + gameData.getActiveLuckyDodgeLevel();
         fm = g.getFontMetrics();
         g.drawString(summary, (width - fm.stringWidth(summary)) / 2, height - 120);
     }
     
-    public void drawStatsUpgrades(Graphics2D g, int width, int selectedStatItem) {
+    public void drawStatsUpgrades(Graphics2D g, int width, int height, int selectedStatItem) {
+        // The list only changes with the selection, upgrades and active items
+        ActiveItem equippedItem = gameData.getEquippedItem();
+        long version = RetainedLayer.mix(selectedStatItem, gameData.getSpeedUpgradeLevel());
+        version = RetainedLayer.mix(version, gameData.getBulletSlowUpgradeLevel());
+        version = RetainedLayer.mix(version, gameData.getLuckyDodgeUpgradeLevel());
+        version = RetainedLayer.mix(version, gameData.getAttackWindowUpgradeLevel());
+        version = RetainedLayer.mix(version, gameData.getActiveSpeedLevel());
+        version = RetainedLayer.mix(version, gameData.getActiveBulletSlowLevel());
+        version = RetainedLayer.mix(version, gameData.getActiveLuckyDodgeLevel());
+        version = RetainedLayer.mix(version, gameData.getActiveAttackWindowLevel());
+        version = RetainedLayer.mix(version, gameData.getUnlockedItems().size());
+        version = RetainedLayer.mix(version, equippedItem == null ? 0 : equippedItem.getName().hashCode());
+        upgradesLayer.draw(g, width, height, version, layer -> paintStatsUpgrades(layer, width, selectedStatItem));
+    }
+    
+    private void paintStatsUpgrades(Graphics2D g, int width, int selectedStatItem) {
         String[] upgradeNames = {"Speed Boost", "Bullet Slow", "Lucky Dodge", "Attack Window+", "Active Item"};
         
         int y = 340;
@@ -761,33 +856,33 @@ public class Renderer {
                 
                 // Draw label
                 g.setColor(Color.WHITE);
-                g.setFont(new Font("Arial", Font.BOLD, 26));
+                g.setFont(TextCache.font("Arial", Font.BOLD, 26));
                 g.drawString("Active Item:", width / 2 - 390, y);
                 
                 // Draw current item or status
                 if (gameData.hasActiveItems()) {
                     ActiveItem equippedItem = gameData.getEquippedItem();
                     if (equippedItem != null) {
-                        g.setFont(new Font("Arial", Font.BOLD, 24));
+                        g.setFont(TextCache.font("Arial", Font.BOLD, 24));
                         g.setColor(new Color(163, 190, 140));
                         g.drawString(equippedItem.getName(), width / 2 - 100, y);
                         
-                        g.setFont(new Font("Arial", Font.PLAIN, 16));
+                        g.setFont(TextCache.font("Arial", Font.PLAIN, 16));
                         g.setColor(new Color(180, 180, 180));
                         g.drawString("← → to switch", width / 2 + 180, y + 5);
                         
                         // Draw item description
-                        g.setFont(new Font("Arial", Font.ITALIC, 16));
+                        g.setFont(TextCache.font("Arial", Font.ITALIC, 16));
                         g.setColor(new Color(200, 200, 150));
                         String description = equippedItem.getDescription();
                         g.drawString(description, width / 2 - 390, y + 28);
                     }
                     
-                    g.setFont(new Font("Arial", Font.PLAIN, 18));
+                    g.setFont(TextCache.font("Arial", Font.PLAIN, 18));
                     g.setColor(new Color(136, 192, 208));
                     g.drawString(String.format("Unlocked: %d/%d", gameData.getUnlockedItems().size(), 10), width / 2 - 390, y + 50);
                 } else {
-                    g.setFont(new Font("Arial", Font.ITALIC, 20));
+                    g.setFont(TextCache.font("Arial", Font.ITALIC, 20));
                     g.setColor(new Color(150, 150, 150));
                     g.drawString("None Unlocked - Defeat mega bosses (levels 3, 6, 9...)", width / 2 - 100, y);
                 }
@@ -816,7 +911,7 @@ public class Renderer {
             g.setColor(Color.WHITE);
             g.setStroke(new BasicStroke(2));
             g.drawRoundRect(minusX, y - 20, 40, 40, 10, 10);
-            g.setFont(new Font("Arial", Font.BOLD, 32));
+            g.setFont(TextCache.font("Arial", Font.BOLD, 32));
             g.drawString("-", minusX + 13, y + 10);
             
             // Draw progress bar background
@@ -846,7 +941,7 @@ public class Renderer {
             g.drawRoundRect(barX, y - 15, barWidth, 30, 8, 8);
             
             // Draw text on bar
-            g.setFont(new Font("Arial", Font.BOLD, 18));
+            g.setFont(TextCache.font("Arial", Font.BOLD, 18));
             String barText = active + " / " + owned;
             FontMetrics fm = g.getFontMetrics();
             g.setColor(Color.WHITE);
@@ -859,7 +954,7 @@ public class Renderer {
             g.setColor(Color.WHITE);
             g.setStroke(new BasicStroke(2));
             g.drawRoundRect(plusX, y - 20, 40, 40, 10, 10);
-            g.setFont(new Font("Arial", Font.BOLD, 32));
+            g.setFont(TextCache.font("Arial", Font.BOLD, 32));
             g.drawString("+", plusX + 11, y + 10);
             
             // Draw the upgrade name and owned count in a styled box
@@ -879,11 +974,11 @@ public class Renderer {
             
             // Draw upgrade name
             g.setColor(Color.WHITE);
-            g.setFont(new Font("Arial", Font.BOLD, 26));
+            g.setFont(TextCache.font("Arial", Font.BOLD, 26));
             g.drawString(upgradeNames[i], width / 2 - 390, y);
             
             // Draw owned count
-            g.setFont(new Font("Arial", Font.PLAIN, 20));
+            g.setFont(TextCache.font("Arial", Font.PLAIN, 20));
             g.setColor(new Color(136, 192, 208)); // Palette cyan
             g.drawString("Owned: " + owned, width / 2 - 390, y + 28);
             
@@ -895,10 +990,10 @@ public class Renderer {
         int selectedLevel = gameData.getSelectedLevelView();
         
         // Draw animated gradient background
-        drawAnimatedGradient(g, width, height, time, new Color[]{new Color(20, 25, 40), new Color(30, 35, 50), new Color(40, 45, 60)});
+        drawAnimatedGradient(g, width, height, time, LEVEL_SELECT_GRADIENT);
         
         // Title
-        g.setFont(new Font("Arial", Font.BOLD, 42));
+        g.setFont(TextCache.font("Arial", Font.BOLD, 42));
         String title = "JOURNEY MAP";
         FontMetrics fm = g.getFontMetrics();
         int titleX = (width - fm.stringWidth(title)) / 2;
@@ -949,14 +1044,14 @@ public class Renderer {
         // Draw arrow indicators on the sides
         if (selectedLevel > 1) {
             // Left arrow
-            g.setFont(new Font("Arial", Font.BOLD, 50));
+            g.setFont(TextCache.font("Arial", Font.BOLD, 50));
             float arrowPulse = (float)(0.5 + 0.5 * Math.sin(time * 4));
             g.setColor(new Color(150, 150, 160, (int)(100 + 100 * arrowPulse)));
             g.drawString("◄", 15, centerY + 18);
         }
         if (selectedLevel < 20) {
             // Right arrow
-            g.setFont(new Font("Arial", Font.BOLD, 50));
+            g.setFont(TextCache.font("Arial", Font.BOLD, 50));
             float arrowPulse = (float)(0.5 + 0.5 * Math.sin(time * 4));
             g.setColor(new Color(150, 150, 160, (int)(100 + 100 * arrowPulse)));
             g.drawString("►", width - 55, centerY + 18);
@@ -1057,7 +1152,7 @@ public class Renderer {
             
             // Level number - scale font with node size
             int fontSize = (int)(48 * scale);
-            g.setFont(new Font("Arial", Font.BOLD, fontSize));
+            g.setFont(TextCache.font("Arial", Font.BOLD, fontSize));
             String levelNum = String.valueOf(level);
             fm = g.getFontMetrics();
             int textX = x - fm.stringWidth(levelNum) / 2;
@@ -1076,7 +1171,7 @@ public class Renderer {
             // Mega boss star above node
             if (isMegaBoss && !isLocked) {
                 int starSize = (int)(24 * scale);
-                g.setFont(new Font("Arial", Font.BOLD, starSize));
+                g.setFont(TextCache.font("Arial", Font.BOLD, starSize));
                 g.setColor(new Color(255, 215, 0));
                 String crown = "★";
                 fm = g.getFontMetrics();
@@ -1086,7 +1181,7 @@ public class Renderer {
             // Checkmark for completed
             if (isCompleted) {
                 int checkSize = (int)(22 * scale);
-                g.setFont(new Font("Arial", Font.BOLD, checkSize));
+                g.setFont(TextCache.font("Arial", Font.BOLD, checkSize));
                 g.setColor(new Color(100, 255, 100));
                 String check = "✓";
                 fm = g.getFontMetrics();
@@ -1096,7 +1191,7 @@ public class Renderer {
             // Lock icon for locked
             if (isLocked) {
                 int lockSize = (int)(18 * scale);
-                g.setFont(new Font("Arial", Font.PLAIN, lockSize));
+                g.setFont(TextCache.font("Arial", Font.PLAIN, lockSize));
                 g.setColor(new Color(100, 100, 110));
                 String lock = "🔒";
                 fm = g.getFontMetrics();
@@ -1134,7 +1229,7 @@ public class Renderer {
         
         // Boss name - centered
         String bossName = GameData.getBossName(selectedLevel);
-        g.setFont(new Font("Arial", Font.BOLD, 32));
+        g.setFont(TextCache.font("Arial", Font.BOLD, 32));
         FontMetrics fm = g.getFontMetrics();
         int nameX = panelX + (panelWidth - fm.stringWidth(bossName)) / 2;
         
@@ -1148,14 +1243,14 @@ public class Renderer {
         g.drawString(bossName, nameX, panelY + 45);
         
         // Level type label - centered
-        g.setFont(new Font("Arial", Font.PLAIN, 16));
+        g.setFont(TextCache.font("Arial", Font.PLAIN, 16));
         g.setColor(isMegaBoss ? new Color(255, 200, 100) : new Color(140, 150, 170));
         String typeLabel = isMegaBoss ? "★ MEGA BOSS - Level " + selectedLevel : "Level " + selectedLevel;
         fm = g.getFontMetrics();
         g.drawString(typeLabel, panelX + (panelWidth - fm.stringWidth(typeLabel)) / 2, panelY + 70);
         
         // Status and time info - centered
-        g.setFont(new Font("Arial", Font.BOLD, 18));
+        g.setFont(TextCache.font("Arial", Font.BOLD, 18));
         int infoY = panelY + 100;
         
         if (isCompleted) {
@@ -1187,7 +1282,7 @@ public class Renderer {
         }
         
         // Navigation hints at very bottom
-        g.setFont(new Font("Arial", Font.PLAIN, 14));
+        g.setFont(TextCache.font("Arial", Font.PLAIN, 14));
         g.setColor(new Color(100, 110, 130));
         String navHint = "← →  Navigate    SPACE  Start    ESC  Back";
         fm = g.getFontMetrics();
@@ -1206,7 +1301,7 @@ public class Renderer {
         g.fillRect(0, 0, width, height);
         
         // Title
-        g.setFont(new Font("Arial", Font.BOLD, 48));
+        g.setFont(TextCache.font("Arial", Font.BOLD, 48));
         String title = "RISK CONTRACT";
         FontMetrics titleFm = g.getFontMetrics();
         int titleX = (width - titleFm.stringWidth(title)) / 2;
@@ -1221,7 +1316,7 @@ public class Renderer {
         g.drawString(title, titleX, 80);
         
         // Subtitle
-        g.setFont(new Font("Arial", Font.PLAIN, 20));
+        g.setFont(TextCache.font("Arial", Font.PLAIN, 20));
         String subtitle = "Choose your challenge modifier for Level " + level;
         FontMetrics subFm = g.getFontMetrics();
         g.setColor(new Color(200, 200, 200));
@@ -1275,7 +1370,7 @@ public class Renderer {
             
             // Contract icon/symbol
             int iconY = cardY + offsetY + 50;
-            g.setFont(new Font("Arial", Font.BOLD, 48));
+            g.setFont(TextCache.font("Arial", Font.BOLD, 48));
             String icon = i == 0 ? "○" : i == 1 ? "◆◆" : i == 2 ? "»»" : "⊘";
             FontMetrics iconFm = g.getFontMetrics();
             Color iconColor = i == 0 ? new Color(100, 180, 100) :
@@ -1285,14 +1380,14 @@ public class Renderer {
             g.drawString(icon, cardX + offsetX + (scaledWidth - iconFm.stringWidth(icon)) / 2, iconY);
             
             // Contract name
-            g.setFont(new Font("Arial", Font.BOLD, 18));
+            g.setFont(TextCache.font("Arial", Font.BOLD, 18));
             FontMetrics nameFm = g.getFontMetrics();
             g.setColor(isSelected ? Color.WHITE : new Color(150, 150, 150));
             g.drawString(contractNames[i], cardX + offsetX + (scaledWidth - nameFm.stringWidth(contractNames[i])) / 2, 
                         cardY + offsetY + 90);
             
             // Multiplier
-            g.setFont(new Font("Arial", Font.BOLD, 28));
+            g.setFont(TextCache.font("Arial", Font.BOLD, 28));
             String multiplier = i == 0 ? "—" : String.format("%.2fx", contractMultipliers[i]);
             FontMetrics multFm = g.getFontMetrics();
             g.setColor(i == 0 ? new Color(150, 150, 150) : new Color(255, 215, 0));
@@ -1300,7 +1395,7 @@ public class Renderer {
                         cardY + offsetY + 130);
             
             // Description (word wrapped)
-            g.setFont(new Font("Arial", Font.PLAIN, 13));
+            g.setFont(TextCache.font("Arial", Font.PLAIN, 13));
             g.setColor(isSelected ? new Color(200, 200, 200) : new Color(120, 120, 120));
             String desc = contractDescriptions[i];
             int descY = cardY + offsetY + 160;
@@ -1327,7 +1422,7 @@ public class Renderer {
         }
         
         // Controls hint
-        g.setFont(new Font("Arial", Font.PLAIN, 18));
+        g.setFont(TextCache.font("Arial", Font.PLAIN, 18));
         g.setColor(new Color(150, 150, 150));
         String hint = "← →  Select   |   SPACE  Confirm   |   ESC  Back";
         FontMetrics hintFm = g.getFontMetrics();
@@ -1335,7 +1430,7 @@ public class Renderer {
         
         // Warning for risky contracts
         if (selectedContract > 0) {
-            g.setFont(new Font("Arial", Font.BOLD, 16));
+            g.setFont(TextCache.font("Arial", Font.BOLD, 16));
             g.setColor(new Color(255, 100, 100, (int)(200 + 55 * Math.sin(time * 3))));
             String warning = "⚠ Higher risk = Higher reward!";
             FontMetrics warnFm = g.getFontMetrics();
@@ -1343,10 +1438,46 @@ public class Renderer {
         }
     }
     
-    public void drawGame(Graphics2D g, int width, int height, Player player, Boss boss, List<Bullet> bullets, List<Particle> particles, List<BeamAttack> beamAttacks, int level, double time, boolean bossVulnerable, int vulnerabilityTimer, int dodgeCombo, boolean showCombo, boolean bossDeathAnimation, double bossDeathScale, double bossDeathRotation, double gameTime, int fps, boolean shieldActive, boolean playerInvincible, int bossHitCount, double cameraX, double cameraY, boolean introPanActive, int bossFlashTimer, int screenFlashTimer, ComboSystem comboSystem, List<DamageNumber> damageNumbers, boolean bossIntroActive, String bossIntroText, int bossIntroTimer, boolean isPaused, int selectedPauseItem, List<Achievement> pendingAchievements, int achievementNotificationTimer, boolean resurrectionAnimation, int resurrectionTimer, double resurrectionScale, double resurrectionGlow) {
+    public void drawGame(Graphics2D g, int width, int height, FrameSnapshot frame, double time, int fps, boolean isPaused, int selectedPauseItem) {
+        // Unpack the snapshot (read-only copies owned by the frame, never the live simulation)
+        Player player = frame.player;
+        Boss boss = frame.boss;
+        BulletStore bullets = frame.bullets;
+        ParticleSystem particles = frame.particles;
+        List<BeamAttack> beamAttacks = frame.beamAttacks;
+        List<DamageNumber> damageNumbers = frame.damageNumbers;
+        List<Achievement> pendingAchievements = frame.pendingAchievements;
+        ComboSystem comboSystem = frame.comboSystem;
+        int level = frame.level;
+        boolean bossVulnerable = frame.bossVulnerable;
+        int vulnerabilityTimer = frame.vulnerabilityTimer;
+        int dodgeCombo = frame.dodgeCombo;
+        boolean showCombo = frame.showCombo;
+        boolean bossDeathAnimation = frame.bossDeathAnimation;
+        double bossDeathScale = frame.bossDeathScale;
+        double bossDeathRotation = frame.bossDeathRotation;
+        double gameTime = frame.gameTime;
+        boolean shieldActive = frame.shieldActive;
+        boolean playerInvincible = frame.playerInvincible;
+        int bossHitCount = frame.bossHitCount;
+        double cameraX = frame.cameraX;
+        double cameraY = frame.cameraY;
+        boolean introPanActive = frame.introPanActive;
+        int bossFlashTimer = frame.bossFlashTimer;
+        int screenFlashTimer = frame.screenFlashTimer;
+        boolean bossIntroActive = frame.bossIntroActive;
+        String bossIntroText = frame.bossIntroText;
+        int bossIntroTimer = frame.bossIntroTimer;
+        int achievementNotificationTimer = frame.achievementNotificationTimer;
+        boolean resurrectionAnimation = frame.resurrectionAnimation;
+        int resurrectionTimer = frame.resurrectionTimer;
+        double resurrectionScale = frame.resurrectionScale;
+        double resurrectionGlow = frame.resurrectionGlow;
+        
         // Draw background based on mode setting
         if (Game.backgroundMode == 0) {
             // Gradient mode
+            backgroundCache.flush(); // Release the pre-scaled layers
             Color[] colors = getLevelGradientColors(level);
             drawAnimatedGradient(g, width, height, time, colors);
         } else if (Game.backgroundMode == 1 && backgroundsLoaded) {
@@ -1361,11 +1492,6 @@ public class Renderer {
             drawAnimatedGradient(g, width, height, time, colors);
         }
         
-        // Apply chromatic aberration effect before drawing game objects
-        if (Game.enableChromaticAberration) {
-            applyChromaticAberration(g, width, height);
-        }
-        
         // Save the original transform and apply camera offset to all game objects
         AffineTransform originalTransform = g.getTransform();
         
@@ -1374,6 +1500,12 @@ public class Renderer {
         double breathY = Math.cos(time * 0.3) * 1.0;
         g.translate(-cameraX + breathX, -cameraY + breathY);
         
+        // Visible world rectangle (camera, breathing and Game's screen shake undone)
+        double viewLeft = cameraX - breathX - frame.screenShakeX;
+        double viewTop = cameraY - breathY - frame.screenShakeY;
+        double viewRight = viewLeft + width;
+        double viewBottom = viewTop + height;
+        
         // Draw beam attacks (behind everything else)
         for (int i = 0; i < beamAttacks.size(); i++) {
             BeamAttack beam = beamAttacks.get(i);
@@ -1404,13 +1536,8 @@ public class Renderer {
             g.fillRect((int)(laserX - laserWidth / 4), (int)laserY, (int)(laserWidth / 2), (int)laserHeight);
         }
         
-        // Draw particles (behind sprites) - use snapshot to avoid ConcurrentModificationException
-        java.util.List<Particle> particleSnapshot = new java.util.ArrayList<>(particles);
-        for (Particle particle : particleSnapshot) {
-            if (particle != null && particle.isAlive()) {
-                particle.draw(g);
-            }
-        }
+        // Draw particles (behind sprites) - rendering runs on the game thread, no snapshot needed
+        ParticleBatch.draw(g, particles, viewLeft, viewTop, viewRight, viewBottom);
         
         // Draw player afterimages (ghost trail when moving fast)
         if (player != null && Game.enableParticles) {
@@ -1433,6 +1560,11 @@ public class Renderer {
             }
         }
         
+        // Interpolate the player (and its shield/glow overlays) between ticks
+        double playerLerpX = player != null ? player.getRenderOffsetX(interpolationAlpha) : 0;
+        double playerLerpY = player != null ? player.getRenderOffsetY(interpolationAlpha) : 0;
+        g.translate(playerLerpX, playerLerpY);
+
         // Draw player (only if not in death animation)
         if (player != null) {
             // Draw resurrection glow if animation is active
@@ -1457,7 +1589,7 @@ public class Renderer {
                 if (resurrectionTimer > 60) { // Show text in first half of animation
                     float textAlpha = Math.min(1.0f, (float)(resurrectionTimer - 60) / 60);
                     g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, textAlpha));
-                    g.setFont(new Font("Arial", Font.BOLD, 36));
+                    g.setFont(TextCache.font("Arial", Font.BOLD, 36));
                     g.setColor(new Color(255, 215, 0));
                     String resText = "EXTRA LIFE!";
                     FontMetrics fm = g.getFontMetrics();
@@ -1505,6 +1637,13 @@ public class Renderer {
             }
         }
         
+        g.translate(-playerLerpX, -playerLerpY);
+
+        // Interpolate the boss and its glow/flash overlays between ticks
+        double bossLerpX = boss != null ? boss.getRenderOffsetX(interpolationAlpha) : 0;
+        double bossLerpY = boss != null ? boss.getRenderOffsetY(interpolationAlpha) : 0;
+        g.translate(bossLerpX, bossLerpY);
+
         // Draw boss with special handling during death animation
         if (bossDeathAnimation) {
             // Save original transform
@@ -1586,13 +1725,26 @@ public class Renderer {
             }
         }
         
-        // Draw bullets (including warnings for inactive bullets)
-        for (int i = 0; i < bullets.size(); i++) {
-            Bullet bullet = bullets.get(i);
-            if (bullet != null) {
-                bullet.draw(g);
+        g.translate(-bossLerpX, -bossLerpY);
+
+        // Draw bullets (including warnings for inactive bullets), skipping any
+        // whose sprite, shadow or warning can't reach the view
+        int drawn = 0;
+        double cullLeft = viewLeft - Bullet.CULL_RADIUS;
+        double cullTop = viewTop - Bullet.CULL_RADIUS;
+        double cullRight = viewRight + Bullet.CULL_RADIUS;
+        double cullBottom = viewBottom + Bullet.CULL_RADIUS;
+        for (int i = 0, n = bullets.size(); i < n; i++) {
+            double bx = bullets.getRenderX(i, interpolationAlpha);
+            double by = bullets.getRenderY(i, interpolationAlpha);
+            if (bx < cullLeft || bx > cullRight || by < cullTop || by > cullBottom) {
+                continue;
             }
+            Bullet.draw(g, bullets, i, interpolationAlpha);
+            drawn++;
         }
+        drawnBullets = drawn;
+        culledBullets = bullets.size() - drawn;
         
         // Draw hitboxes for debugging if enabled
         if (Game.enableHitboxes) {
@@ -1637,11 +1789,10 @@ public class Renderer {
             // Bullet hitboxes (yellow circles) - uses SIZE * 0.5 radius (SIZE = 6)
             g2d.setColor(new Color(255, 255, 0, 150));
             g2d.setStroke(new BasicStroke(1));
-            for (int i = 0; i < bullets.size(); i++) {
-                Bullet bullet = bullets.get(i);
-                if (bullet != null && bullet.isActive()) {
+            for (int i = 0, n = bullets.size(); i < n; i++) {
+                if (bullets.isActive(i)) {
                     int bulletHitRadius = 3; // SIZE * 0.5 = 6 * 0.5 = 3
-                    g2d.drawOval((int)bullet.getX() - bulletHitRadius, (int)bullet.getY() - bulletHitRadius, 
+                    g2d.drawOval((int)bullets.getX(i) - bulletHitRadius, (int)bullets.getY(i) - bulletHitRadius, 
                                 bulletHitRadius * 2, bulletHitRadius * 2);
                 }
             }
@@ -1651,7 +1802,7 @@ public class Renderer {
         
         // Apply bloom/glow effect on bright objects
         if (Game.enableBloom) {
-            applyBloom(g, player, boss, bullets, particles, bossVulnerable);
+            applyBloom(g, player, boss, particles, bossVulnerable, viewLeft, viewTop, width, height);
         }
         
         // Draw boss health bar at bottom
@@ -1677,14 +1828,14 @@ public class Renderer {
             g.fillRoundRect(barX, barY, barWidth, barHeight + 45, 15, 15);
             
             // Boss type label
-            g.setFont(new Font("Arial", Font.BOLD, 14));
+            g.setFont(TextCache.font("Arial", Font.BOLD, 14));
             FontMetrics fm = g.getFontMetrics();
             Color typeColor = boss.isMegaBoss() ? new Color(255, 50, 50) : new Color(100, 200, 100);
             g.setColor(typeColor);
             g.drawString(bossType, barX + 10, barY + 18);
             
             // Boss name
-            g.setFont(new Font("Arial", Font.BOLD, 18));
+            g.setFont(TextCache.font("Arial", Font.BOLD, 18));
             fm = g.getFontMetrics();
             g.setColor(boss.isMegaBoss() ? new Color(255, 215, 0) : Color.WHITE);
             g.drawString(bossName, barX + 10, barY + 38);
@@ -1725,7 +1876,7 @@ public class Renderer {
             }
             
             // Draw hit count text
-            g.setFont(new Font("Arial", Font.BOLD, 12));
+            g.setFont(TextCache.font("Arial", Font.BOLD, 12));
             g.setColor(Color.WHITE);
             String hitText = "Hits: " + bossHitCount + "/" + maxHits;
             g.drawString(hitText, barX + barWidth - 70, barY + 57);
@@ -1746,7 +1897,7 @@ public class Renderer {
                 }
                 
                 g.setColor(textColor);
-                g.setFont(new Font("Arial", Font.BOLD, 14));
+                g.setFont(TextCache.font("Arial", Font.BOLD, 14));
                 String vulnText = "ATTACK NOW!";
                 fm = g.getFontMetrics();
                 int vulnX = barX + barWidth - fm.stringWidth(vulnText) - 15;
@@ -1760,7 +1911,7 @@ public class Renderer {
             int phaseBarY = barY - 25;
             
             // Phase label and icon
-            g.setFont(new Font("Arial", Font.BOLD, 11));
+            g.setFont(TextCache.font("Arial", Font.BOLD, 11));
             String phaseText = boss.isAssaultPhase() ? "⚔ ASSAULT" : "◐ RECOVERY";
             Color phaseColor = boss.isAssaultPhase() ? new Color(255, 80, 80) : new Color(80, 180, 255);
             
@@ -1830,20 +1981,28 @@ public class Renderer {
         g.setColor(new Color(0, 0, 0, 150));
         g.fillRoundRect(10, 10, 280, 140, 10, 10);
         
-        g.setColor(Color.WHITE);
-        g.setFont(new Font("Arial", Font.BOLD, 24));
-        g.drawString("Level: " + level, 20, 35);
-        g.drawString("Score: " + (int)displayedScore, 20, 65);
-        g.drawString("Money: $" + (int)displayedMoney, 20, 95);
+        // Counters are drawn without building Strings (see TextCache)
+        TextCache.drawNumber(g, "Level: ", level, FONT_MEDIUM_BOLD, Color.WHITE, 20, 35);
+        TextCache.drawNumber(g, "Score: ", (int)displayedScore, FONT_MEDIUM_BOLD, Color.WHITE, 20, 65);
+        TextCache.drawNumber(g, "Money: $", (int)displayedMoney, FONT_MEDIUM_BOLD, Color.WHITE, 20, 95);
         
         // Display timer and FPS
-        g.setFont(new Font("Arial", Font.PLAIN, 18));
         int minutes = (int)(gameTime / 60);
         int seconds = (int)(gameTime % 60);
         int milliseconds = (int)((gameTime % 1) * 100);
-        String timeStr = String.format("Time: %d:%02d.%02d", minutes, seconds, milliseconds);
-        g.drawString(timeStr, 20, 120);
-        g.drawString("FPS: " + fps, 20, 145);
+        drawTime(g, minutes, seconds, milliseconds, 20, 120);
+        TextCache.drawNumber(g, "FPS: ", fps, FONT_INFO, Color.WHITE, 20, 145);
+        if (Game.enableHitboxes) {
+            g.setColor(Color.WHITE);
+            g.setFont(FONT_INFO);
+            // Bullet pool stats (misses mean the store had to grow mid-fight)
+            g.drawString("Bullets: " + bullets.size() + "/" + frame.bulletCapacity
+                + "  pool hits/misses: " + frame.bulletPoolHits + "/" + frame.bulletPoolMisses, 20, 170);
+            // Drawn / culled this frame
+            g.drawString("Drawn/culled  bullets " + drawnBullets + "/" + culledBullets
+                + "  particles " + ParticleBatch.getDrawnCount() + "/" + ParticleBatch.getCulledCount()
+                + "  text " + drawnDamageNumbers + "/" + culledDamageNumbers, 20, 195);
+        }
         
         // Draw combo counter with pulse effect
         if (showCombo && dodgeCombo > 1) {
@@ -1859,7 +2018,7 @@ public class Renderer {
             g.translate(-comboX, -comboY);
             
             g.setColor(new Color(163, 190, 140));
-            g.setFont(new Font("Arial", Font.BOLD, 32));
+            g.setFont(TextCache.font("Arial", Font.BOLD, 32));
             String comboText = "COMBO x" + dodgeCombo;
             FontMetrics comboFm = g.getFontMetrics();
             g.drawString(comboText, width - 205 + (190 - comboFm.stringWidth(comboText)) / 2, 50);
@@ -1888,7 +2047,7 @@ public class Renderer {
             g.translate(-centerX, -centerY);
             
             // Draw shadow
-            g.setFont(new Font("Arial", Font.BOLD, 72));
+            g.setFont(TextCache.font("Arial", Font.BOLD, 72));
             FontMetrics announceFm = g.getFontMetrics();
             int announceWidth = announceFm.stringWidth(announcement);
             
@@ -1915,16 +2074,15 @@ public class Renderer {
         // Draw close call / perfect dodge indicators below combo
         if (comboSystem != null && (comboSystem.getCloseCallCount() > 0 || comboSystem.getPerfectDodgeCount() > 0)) {
             int indicatorY = showCombo && dodgeCombo > 1 ? 70 : 10;
-            g.setFont(new Font("Arial", Font.BOLD, 14));
             
             if (comboSystem.getPerfectDodgeCount() > 0) {
-                g.setColor(new Color(255, 215, 0)); // Gold for perfect
-                g.drawString("⚡ PERFECT x" + comboSystem.getPerfectDodgeCount(), width - 200, indicatorY);
+                // Gold for perfect
+                TextCache.drawNumber(g, "⚡ PERFECT x", comboSystem.getPerfectDodgeCount(), FONT_INDICATOR, PERFECT_COLOR, width - 200, indicatorY);
                 indicatorY += 18;
             }
             if (comboSystem.getCloseCallCount() > 0) {
-                g.setColor(new Color(163, 190, 140)); // Green for close call
-                g.drawString("★ CLOSE x" + comboSystem.getCloseCallCount(), width - 200, indicatorY);
+                // Green for close call
+                TextCache.drawNumber(g, "★ CLOSE x", comboSystem.getCloseCallCount(), FONT_INDICATOR, CLOSE_CALL_COLOR, width - 200, indicatorY);
             }
         }
         
@@ -1939,7 +2097,7 @@ public class Renderer {
             g.fillRoundRect(itemUIX, itemUIY, 200, 80, 10, 10);
             
             // Item name
-            g.setFont(new Font("Arial", Font.BOLD, 20));
+            g.setFont(TextCache.font("Arial", Font.BOLD, 20));
             if (equippedItem.canActivate()) {
                 g.setColor(new Color(163, 190, 140)); // Green when ready
             } else if (equippedItem.isActive()) {
@@ -1966,7 +2124,7 @@ public class Renderer {
             }
             
             // Key hint
-            g.setFont(new Font("Arial", Font.PLAIN, 14));
+            g.setFont(TextCache.font("Arial", Font.PLAIN, 14));
             g.setColor(Color.WHITE);
             String keyHint = equippedItem.canActivate() ? "Press [SPACE]" : 
                            equippedItem.isActive() ? "ACTIVE" :
@@ -1976,7 +2134,7 @@ public class Renderer {
         
         // Draw "Press SPACE to skip" text during intro animation
         if (introPanActive) {
-            g.setFont(new Font("Arial", Font.BOLD, 18));
+            g.setFont(TextCache.font("Arial", Font.BOLD, 18));
             g.setColor(new Color(255, 255, 255, 180));
             String skipText = "Press SPACE to skip";
             FontMetrics fm = g.getFontMetrics();
@@ -2000,17 +2158,14 @@ public class Renderer {
             g.fillRoundRect(comboX, comboY, 200, 80, 15, 15);
             
             // Combo number
-            g.setFont(new Font("Arial", Font.BOLD, 48));
-            g.setColor(new Color(235, 203, 139));
             String comboText = comboSystem.getCombo() + "x";
-            FontMetrics fm = g.getFontMetrics();
-            g.drawString(comboText, comboX + (200 - fm.stringWidth(comboText)) / 2, comboY + 45);
+            TextCache.drawCentered(g, comboText, FONT_COMBO, COMBO_COLOR, comboX + 100, comboY + 45);
             
             // Multiplier
-            g.setFont(new Font("Arial", Font.PLAIN, 14));
+            g.setFont(TextCache.font("Arial", Font.PLAIN, 14));
             g.setColor(new Color(216, 222, 233));
             String multText = String.format("%.1fx Score", comboSystem.getMultiplier());
-            fm = g.getFontMetrics();
+            FontMetrics fm = g.getFontMetrics();
             g.drawString(multText, comboX + (200 - fm.stringWidth(multText)) / 2, comboY + 65);
             
             // Timeout bar
@@ -2023,9 +2178,19 @@ public class Renderer {
         
         // Draw damage numbers
         if (damageNumbers != null) {
-            for (DamageNumber dmg : damageNumbers) {
-                dmg.draw(g);
+            // Drawn without the camera transform, so cull against the (shaken) screen
+            int drawnText = 0;
+            double screenLeft = -frame.screenShakeX;
+            double screenTop = -frame.screenShakeY;
+            for (int i = 0, n = damageNumbers.size(); i < n; i++) {
+                DamageNumber dmg = damageNumbers.get(i);
+                if (dmg.isVisible(screenLeft, screenTop, screenLeft + width, screenTop + height)) {
+                    dmg.draw(g);
+                    drawnText++;
+                }
             }
+            drawnDamageNumbers = drawnText;
+            culledDamageNumbers = damageNumbers.size() - drawnText;
         }
         
         // Draw boss intro cinematic
@@ -2039,7 +2204,7 @@ public class Renderer {
             float introAlpha = Math.max(0.0f, Math.min(1.0f, bossIntroTimer / 30f));
             Graphics2D g2d = (Graphics2D) g.create();
             g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, introAlpha));
-            g2d.setFont(new Font("Arial", Font.BOLD, 72));
+            g2d.setFont(TextCache.font("Arial", Font.BOLD, 72));
             g2d.setColor(Color.WHITE);
             FontMetrics fm = g2d.getFontMetrics();
             g2d.drawString(bossIntroText, (width - fm.stringWidth(bossIntroText)) / 2, height / 2);
@@ -2054,7 +2219,7 @@ public class Renderer {
             g.fillRect(-shakeMargin, -shakeMargin, width + shakeMargin * 2, height + shakeMargin * 2);
             
             // Pause title
-            g.setFont(new Font("Arial", Font.BOLD, 84));
+            g.setFont(TextCache.font("Arial", Font.BOLD, 84));
             g.setColor(Color.WHITE);
             String pauseText = "PAUSED";
             FontMetrics fm = g.getFontMetrics();
@@ -2085,17 +2250,17 @@ public class Renderer {
             g2d.fillRoundRect(notifX, notifY, 400, 100, 15, 15);
             
             // Title
-            g2d.setFont(new Font("Arial", Font.BOLD, 20));
+            g2d.setFont(TextCache.font("Arial", Font.BOLD, 20));
             g2d.setColor(new Color(235, 203, 139));
             g2d.drawString("Achievement Unlocked!", notifX + 20, notifY + 30);
             
             // Achievement name
-            g2d.setFont(new Font("Arial", Font.BOLD, 24));
+            g2d.setFont(TextCache.font("Arial", Font.BOLD, 24));
             g2d.setColor(new Color(216, 222, 233));
             g2d.drawString(ach.getName(), notifX + 20, notifY + 60);
             
             // Description
-            g2d.setFont(new Font("Arial", Font.PLAIN, 14));
+            g2d.setFont(TextCache.font("Arial", Font.PLAIN, 14));
             g2d.drawString(ach.getDescription(), notifX + 20, notifY + 85);
             
             g2d.dispose();
@@ -2116,18 +2281,34 @@ public class Renderer {
             g2d.dispose();
         }
         
-        // Apply vignette effect at the end (darkens edges)
-        if (Game.enableVignette) {
-            applyVignette(g, width, height);
-        }
+        // Vignette (darkens edges) and chromatic aberration fringes, baked into one overlay
+        postOverlay.draw(g, width, height, Game.enableVignette, Game.enableChromaticAberration);
     }
     
     public void drawShop(Graphics2D g, int width, int height, double time) {
         // Draw animated Balatro-style gradient
-        drawAnimatedGradient(g, width, height, time, new Color[]{new Color(46, 52, 64), new Color(59, 66, 82), new Color(76, 86, 106)});
+        drawAnimatedGradient(g, width, height, time, MENU_GRADIENT);
         
+        // Everything but the shine and the selected button changes only with money and selection
+        int selectedItem = shopManager.getSelectedShopItem();
+        long version = RetainedLayer.mix(SCREEN_SHOP, selectedItem);
+        version = RetainedLayer.mix(version, gameData.getTotalMoney());
+        version = RetainedLayer.mix(version, gameData.getRunMoney());
+        for (int i = 0; i < shopButtons.length; i++) {
+            version = RetainedLayer.mix(version, shopManager.getItemCost(i));
+        }
+        screenLayer.draw(g, width, height, version, layer -> paintShop(layer, width, height));
+        drawTitleShine(g, "UPGRADE SHOP", TextCache.font("Arial", Font.BOLD, 64), width, 100, time);
+        
+        if (selectedItem >= 0 && selectedItem < shopButtons.length) {
+            shopButtons[selectedItem].update(true, time);
+            shopButtons[selectedItem].draw(g, time);
+        }
+    }
+    
+    private void paintShop(Graphics2D g, int width, int height) {
         // Holographic title
-        g.setFont(new Font("Arial", Font.BOLD, 64));
+        g.setFont(TextCache.font("Arial", Font.BOLD, 64));
         String title = "UPGRADE SHOP";
         FontMetrics fm = g.getFontMetrics();
         int titleX = (width - fm.stringWidth(title)) / 2;
@@ -2145,16 +2326,9 @@ public class Renderer {
         g.setPaint(titleGrad);
         g.drawString(title, titleX, titleY);
         
-        // Holographic shine
-        int shineOffset = (int)(Math.sin(time * 2) * 30);
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.3f));
-        g.setColor(Color.WHITE);
-        g.drawString(title, titleX + 2 + shineOffset / 10, titleY - 2);
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1.0f));
-        
         // Show money with glowing effect
         g.setColor(new Color(163, 190, 140)); // Green
-        g.setFont(new Font("Arial", Font.BOLD, 36));
+        g.setFont(TextCache.font("Arial", Font.BOLD, 36));
         String money = "Money: $" + gameData.getTotalMoney();
         fm = g.getFontMetrics();
         int moneyX = (width - fm.stringWidth(money)) / 2;
@@ -2166,7 +2340,7 @@ public class Renderer {
         
         // Show earnings
         g.setColor(new Color(235, 203, 139)); // Yellow
-        g.setFont(new Font("Arial", Font.PLAIN, 24));
+        g.setFont(TextCache.font("Arial", Font.PLAIN, 24));
         String earnings = "Earned this run: $" + gameData.getRunMoney();
         fm = g.getFontMetrics();
         g.drawString(earnings, (width - fm.stringWidth(earnings)) / 2, 210);
@@ -2194,26 +2368,48 @@ public class Renderer {
             }
             
             shopButtons[i].setPosition((width - 800) / 2, y - 30);
-            shopButtons[i].update(i == selectedItem, time);
-            shopButtons[i].draw(g, time);
+            shopButtons[i].update(false, 0);
+            
+            // The selected button animates, so drawShop draws it live
+            if (i != selectedItem) {
+                shopButtons[i].draw(g, 0);
+            }
             
             y += 80;
         }
         
         // Instructions
         g.setColor(new Color(216, 222, 233));
-        g.setFont(new Font("Arial", Font.PLAIN, 20));
+        g.setFont(TextCache.font("Arial", Font.PLAIN, 20));
         String inst1 = "Use UP/DOWN to select | SPACE to purchase | ESC to continue";
         fm = g.getFontMetrics();
         g.drawString(inst1, (width - fm.stringWidth(inst1)) / 2, height - 50);
     }
     
+    // Holographic shine over a centered menu title (drawn live over the retained title)
+    private void drawTitleShine(Graphics2D g, String title, Font font, int width, int titleY, double time) {
+        int titleX = (width - TextCache.metrics(font).stringWidth(title)) / 2;
+        int shineOffset = (int)(Math.sin(time * 2) * 30);
+        g.setComposite(SHINE_COMPOSITE);
+        g.setFont(font);
+        g.setColor(Color.WHITE);
+        g.drawString(title, titleX + 2 + shineOffset / 10, titleY - 2);
+        g.setComposite(ALPHA_FULL);
+    }
+    
+    // "Time: m:ss.cc" without String.format
+    private void drawTime(Graphics2D g, int minutes, int seconds, int centiseconds, int x, int y) {
+        x = TextCache.drawNumber(g, "Time: ", minutes, FONT_INFO, Color.WHITE, x, y);
+        x = TextCache.drawNumber(g, seconds < 10 ? ":0" : ":", seconds, FONT_INFO, Color.WHITE, x, y);
+        TextCache.drawNumber(g, centiseconds < 10 ? ".0" : ".", centiseconds, FONT_INFO, Color.WHITE, x, y);
+    }
+    
     public void drawGameOver(Graphics2D g, int width, int height, double time) {
         // Draw animated gradient
-        drawAnimatedGradient(g, width, height, time, new Color[]{new Color(46, 52, 64), new Color(59, 66, 82), new Color(67, 76, 94)});
+        drawAnimatedGradient(g, width, height, time, GAME_OVER_GRADIENT);
         
         // Holographic title
-        g.setFont(new Font("Arial", Font.BOLD, 84));
+        g.setFont(TextCache.font("Arial", Font.BOLD, 84));
         String gameOver = "RUN ENDED";
         FontMetrics fm = g.getFontMetrics();
         int titleX = (width - fm.stringWidth(gameOver)) / 2;
@@ -2240,7 +2436,7 @@ public class Renderer {
         
         // Run stats with consistent styling
         g.setColor(new Color(216, 222, 233));
-        g.setFont(new Font("Arial", Font.BOLD, 32));
+        g.setFont(TextCache.font("Arial", Font.BOLD, 32));
         
         // Level reached this run
         String level = "Level Reached: " + gameData.getCurrentLevel();
@@ -2256,7 +2452,7 @@ public class Renderer {
         g.drawString(money, (width - fm.stringWidth(money)) / 2, height / 2 + 40);
         
         // Show persistent stats
-        g.setFont(new Font("Arial", Font.PLAIN, 22));
+        g.setFont(TextCache.font("Arial", Font.PLAIN, 22));
         g.setColor(new Color(180, 180, 190));
         String totalMoney = "Total Money: $" + gameData.getTotalMoney();
         fm = g.getFontMetrics();
@@ -2268,7 +2464,7 @@ public class Renderer {
         
         // Show extra lives remaining
         if (gameData.getExtraLives() > 0) {
-            g.setFont(new Font("Arial", Font.BOLD, 24));
+            g.setFont(TextCache.font("Arial", Font.BOLD, 24));
             g.setColor(new Color(255, 215, 0)); // Gold color
             String livesText = "★ Extra Lives: " + gameData.getExtraLives() + " ★";
             fm = g.getFontMetrics();
@@ -2276,14 +2472,14 @@ public class Renderer {
         }
         
         // Controls
-        g.setFont(new Font("Arial", Font.PLAIN, 24));
+        g.setFont(TextCache.font("Arial", Font.PLAIN, 24));
         g.setColor(new Color(216, 222, 233));
         String retry = "SPACE - New Run  |  ESC - Main Menu";
         fm = g.getFontMetrics();
         g.drawString(retry, (width - fm.stringWidth(retry)) / 2, height / 2 + 170);
         
         // Roguelike reminder
-        g.setFont(new Font("Arial", Font.ITALIC, 18));
+        g.setFont(TextCache.font("Arial", Font.ITALIC, 18));
         g.setColor(new Color(163, 190, 140));
         String keep = "Your upgrades and items are saved!";
         fm = g.getFontMetrics();
@@ -2292,10 +2488,10 @@ public class Renderer {
     
     public void drawWin(Graphics2D g, int width, int height, double time, double bossKillTime) {
         // Draw animated gradient
-        drawAnimatedGradient(g, width, height, time, new Color[]{new Color(46, 52, 64), new Color(59, 66, 82), new Color(76, 86, 106)});
+        drawAnimatedGradient(g, width, height, time, MENU_GRADIENT);
         
         // Holographic title
-        g.setFont(new Font("Arial", Font.BOLD, 84));
+        g.setFont(TextCache.font("Arial", Font.BOLD, 84));
         String win = "VICTORY!";
         FontMetrics fm = g.getFontMetrics();
         int titleX = (width - fm.stringWidth(win)) / 2;
@@ -2322,7 +2518,7 @@ public class Renderer {
         
         // Stats with consistent styling
         g.setColor(new Color(216, 222, 233));
-        g.setFont(new Font("Arial", Font.BOLD, 36));
+        g.setFont(TextCache.font("Arial", Font.BOLD, 36));
         String score = "Score: " + gameData.getScore();
         fm = g.getFontMetrics();
         g.drawString(score, (width - fm.stringWidth(score)) / 2, height / 2 - 10);
@@ -2341,7 +2537,7 @@ public class Renderer {
         g.drawString(timeStr, (width - fm.stringWidth(timeStr)) / 2, height / 2 + 70);
         
         g.setColor(Color.WHITE);
-        g.setFont(new Font("Arial", Font.PLAIN, 24));
+        g.setFont(TextCache.font("Arial", Font.PLAIN, 24));
         String inst = "Press SPACE to Visit Shop";
         fm = g.getFontMetrics();
         g.drawString(inst, (width - fm.stringWidth(inst)) / 2, height / 2 + 130);
@@ -2349,11 +2545,46 @@ public class Renderer {
     
     public void drawSettings(Graphics2D g, int width, int height, int selectedItem, double time, double scrollOffset, int selectedCategory, GameData gameData) {
         // Draw animated gradient with palette colors
-        drawAnimatedGradient(g, width, height, time, new Color[]{new Color(46, 52, 64), new Color(59, 66, 82), new Color(76, 86, 106)});
-        
+        drawAnimatedGradient(g, width, height, time, MENU_GRADIENT);
+        
+        // Everything but the title shine changes only with the selection, scroll and setting values
+        long version = RetainedLayer.mix(SCREEN_SETTINGS, selectedCategory);
+        version = RetainedLayer.mix(version, selectedItem);
+        version = RetainedLayer.mix(version, Double.doubleToLongBits(scrollOffset));
+        version = RetainedLayer.mix(version, settingsState());
+        version = RetainedLayer.mix(version, gameData.isSoundEnabled() ? 1 : 0);
+        version = RetainedLayer.mix(version, Float.floatToIntBits(gameData.getMasterVolume()));
+        version = RetainedLayer.mix(version, Float.floatToIntBits(gameData.getSfxVolume()));
+        version = RetainedLayer.mix(version, Float.floatToIntBits(gameData.getUiVolume()));
+        version = RetainedLayer.mix(version, Float.floatToIntBits(gameData.getMusicVolume()));
+        screenLayer.draw(g, width, height, version,
+            layer -> paintSettings(layer, width, height, selectedItem, time, scrollOffset, selectedCategory, gameData));
+        drawTitleShine(g, "SETTINGS", FONT_TITLE_MEDIUM, width, 80, time);
+    }
+    
+    // Every graphics and debug setting shown in the settings lists, packed into one number
+    private static long settingsState() {
+        long state = Game.backgroundMode;
+        state = state * 4 + Game.gradientQuality;
+        state = state * 8 + Game.renderScaleMode;
+        state = state * 2 + (Game.enableGradientAnimation ? 1 : 0);
+        state = state * 2 + (Game.enableGrainEffect ? 1 : 0);
+        state = state * 2 + (Game.enableParticles ? 1 : 0);
+        state = state * 2 + (Game.enableShadows ? 1 : 0);
+        state = state * 2 + (Game.enableBloom ? 1 : 0);
+        state = state * 2 + (Game.enableMotionBlur ? 1 : 0);
+        state = state * 2 + (Game.enableChromaticAberration ? 1 : 0);
+        state = state * 2 + (Game.enableVignette ? 1 : 0);
+        state = state * 2 + (Game.enableDynamicResolution ? 1 : 0);
+        state = state * 2 + (Game.smoothUpscale ? 1 : 0);
+        state = state * 2 + (Game.enableHitboxes ? 1 : 0);
+        return state;
+    }
+    
+    private void paintSettings(Graphics2D g, int width, int height, int selectedItem, double time, double scrollOffset, int selectedCategory, GameData gameData) {
         // Holographic title
         String title = "SETTINGS";
-        g.setFont(new Font("Arial", Font.BOLD, 60));
+        g.setFont(TextCache.font("Arial", Font.BOLD, 60));
         FontMetrics fm = g.getFontMetrics();
         int titleX = (width - fm.stringWidth(title)) / 2;
         int titleY = 80;
@@ -2370,20 +2601,13 @@ public class Renderer {
         g.setPaint(titleGrad);
         g.drawString(title, titleX, titleY);
         
-        // Holographic shine
-        int shineOffset = (int)(Math.sin(time * 2) * 30);
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.3f));
-        g.setColor(Color.WHITE);
-        g.drawString(title, titleX + 2 + shineOffset / 10, titleY - 2);
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1.0f));
-        
         // Category tabs
         String[] categories = {"GRAPHICS", "AUDIO", "DEBUG"};
         int tabWidth = 200;
         int tabStartX = (width - categories.length * tabWidth) / 2;
         int tabY = 130;
         
-        g.setFont(new Font("Arial", Font.BOLD, 20));
+        g.setFont(TextCache.font("Arial", Font.BOLD, 20));
         for (int i = 0; i < categories.length; i++) {
             int tabX = tabStartX + i * tabWidth;
             boolean isSelected = i == selectedCategory;
@@ -2409,7 +2633,7 @@ public class Renderer {
             g.drawString(categories[i], tabX + (tabWidth - 10 - fm.stringWidth(categories[i])) / 2, tabY + 26);
         }
         
-        g.setFont(new Font("Arial", Font.PLAIN, 16));
+        g.setFont(TextCache.font("Arial", Font.PLAIN, 16));
         g.setColor(new Color(216, 222, 233));
         String subtitle = "TAB to switch category | Arrow keys to adjust | Mouse wheel to scroll";
         fm = g.getFontMetrics();
@@ -2433,14 +2657,14 @@ public class Renderer {
         
         // Instructions
         g.setColor(new Color(216, 222, 233));
-        g.setFont(new Font("Arial", Font.PLAIN, 18));
+        g.setFont(TextCache.font("Arial", Font.PLAIN, 18));
         String inst = "Press ESC to return to menu";
         fm = g.getFontMetrics();
         g.drawString(inst, (width - fm.stringWidth(inst)) / 2, height - 30);
     }
     
     private void drawGraphicsSettings(Graphics2D g, int width, int height, int selectedItem, double time, double scrollOffset) {
-        String[] settingNames = {"Background Mode", "Gradient Animation", "Gradient Quality", "Grain Effect", "Particle Effects", "Shadows", "Bloom/Glow", "Motion Blur", "Chromatic Aberration", "Vignette"};
+        String[] settingNames = {"Background Mode", "Gradient Animation", "Gradient Quality", "Grain Effect", "Particle Effects", "Shadows", "Bloom/Glow", "Motion Blur", "Chromatic Aberration", "Vignette", "Render Scale", "Dynamic Resolution", "Upscale Filter"};
         String[] settingValues = {
             Game.backgroundMode == 0 ? "Gradient" : Game.backgroundMode == 1 ? "Parallax" : "Static",
             Game.enableGradientAnimation ? "ON" : "OFF",
@@ -2451,7 +2675,10 @@ public class Renderer {
             Game.enableBloom ? "ON" : "OFF",
             Game.enableMotionBlur ? "ON" : "OFF",
             Game.enableChromaticAberration ? "ON" : "OFF",
-            Game.enableVignette ? "ON" : "OFF"
+            Game.enableVignette ? "ON" : "OFF",
+            Math.round(Game.RENDER_SCALES[Game.renderScaleMode] * 100) + "%",
+            Game.enableDynamicResolution ? "ON" : "OFF",
+            Game.smoothUpscale ? "Smooth" : "Sharp"
         };
         
         String[] descriptions = {
@@ -2464,7 +2691,10 @@ public class Renderer {
             "Glow effect on bright objects (performance impact)",
             "Blur effect on fast moving objects (performance impact)",
             "Color fringing on screen edges (cinematic effect)",
-            "Darken screen edges (focuses attention on center)"
+            "Darken screen edges (focuses attention on center)",
+            "Internal resolution, upscaled to the screen (lower = faster)",
+            "Lower the resolution automatically when frames run slow",
+            "How the scaled image is stretched: smooth (bilinear) or sharp pixels"
         };
         
         drawSettingsList(g, width, height, selectedItem, time, scrollOffset, settingNames, settingValues, descriptions, false);
@@ -2536,7 +2766,7 @@ public class Renderer {
             }
             
             // Setting name
-            g.setFont(new Font("Arial", Font.BOLD, 20));
+            g.setFont(TextCache.font("Arial", Font.BOLD, 20));
             g.setColor(isSelected ? new Color(235, 203, 139) : new Color(216, 222, 233));
             g.drawString(names[i], boxX + 20, boxY + 28);
             
@@ -2558,20 +2788,20 @@ public class Renderer {
                 g.fillRoundRect(sliderX, sliderY, fillWidth, sliderHeight, 5, 5);
                 
                 // Value text
-                g.setFont(new Font("Arial", Font.PLAIN, 16));
+                g.setFont(TextCache.font("Arial", Font.PLAIN, 16));
                 g.setColor(new Color(216, 222, 233));
                 fm = g.getFontMetrics();
                 g.drawString(values[i], boxX + boxWidth - fm.stringWidth(values[i]) - 20, boxY + 28);
             } else {
                 // Regular value text
-                g.setFont(new Font("Arial", Font.BOLD, 20));
+                g.setFont(TextCache.font("Arial", Font.BOLD, 20));
                 fm = g.getFontMetrics();
                 g.drawString(values[i], boxX + boxWidth - fm.stringWidth(values[i]) - 20, boxY + 28);
             }
             
             // Draw description below if selected
             if (isSelected) {
-                g.setFont(new Font("Arial", Font.ITALIC, 14));
+                g.setFont(TextCache.font("Arial", Font.ITALIC, 14));
                 g.setColor(new Color(216, 222, 233));
                 fm = g.getFontMetrics();
                 g.drawString(descriptions[i], (width - fm.stringWidth(descriptions[i])) / 2, y + 75);
@@ -2583,11 +2813,11 @@ public class Renderer {
     
     public void drawDebug(Graphics2D g, int width, int height, double time) {
         // Draw animated gradient with dark palette colors
-        drawAnimatedGradient(g, width, height, time, new Color[]{new Color(46, 52, 64), new Color(59, 66, 82), new Color(76, 86, 106)});
+        drawAnimatedGradient(g, width, height, time, MENU_GRADIENT);
         
         // Holographic title
         String title = "DEBUG MENU";
-        g.setFont(new Font("Arial", Font.BOLD, 72));
+        g.setFont(TextCache.font("Arial", Font.BOLD, 72));
         FontMetrics fm = g.getFontMetrics();
         int titleX = (width - fm.stringWidth(title)) / 2;
         int titleY = 80;
@@ -2612,7 +2842,7 @@ public class Renderer {
         g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1.0f));
         
         g.setColor(new Color(255, 200, 200));
-        g.setFont(new Font("Arial", Font.PLAIN, 18));
+        g.setFont(TextCache.font("Arial", Font.PLAIN, 18));
         String subtitle = "Developer/Cheat Menu - Press Number Keys";
         fm = g.getFontMetrics();
         g.drawString(subtitle, (width - fm.stringWidth(subtitle)) / 2, 120);
@@ -2620,7 +2850,7 @@ public class Renderer {
         // Cheat options
         int startY = 200;
         int spacing = 80;
-        g.setFont(new Font("Arial", Font.BOLD, 32));
+        g.setFont(TextCache.font("Arial", Font.BOLD, 32));
         
         String[] options = {
             "[1] Unlock All Levels (1-20)",
@@ -2801,49 +3031,42 @@ public class Renderer {
     
     // Visual effects methods
     
-    private void applyBloom(Graphics2D g, Player player, Boss boss, List<Bullet> bullets, List<Particle> particles, boolean bossVulnerable) {
-        // Bloom effect: draw glowing halos around bright objects
-        Composite originalComposite = g.getComposite();
+    private void applyBloom(Graphics2D g, Player player, Boss boss, ParticleSystem particles, boolean bossVulnerable,
+                            double viewLeft, double viewTop, int width, int height) {
+        // Bloom effect: splat bright objects into the quarter-resolution bloom
+        // buffer, blur it, and composite it over the scene once
+        bloomPass.begin(viewLeft, viewTop, width, height);
         
         // Glow around vulnerable boss
         if (bossVulnerable && boss != null) {
             for (int i = 3; i > 0; i--) {
-                float alpha = 0.15f / i;
-                g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
-                g.setColor(new Color(255, 255, 0));
                 double glowSize = boss.getSize() + (i * 25);
-                g.fillOval((int)(boss.getX() - glowSize/2), (int)(boss.getY() - glowSize/2), (int)glowSize, (int)glowSize);
+                bloomPass.glow(boss.getX(), boss.getY(), glowSize, BOSS_GLOW, 0.15f / i);
             }
         }
         
         // Glow around player
         if (player != null) {
             for (int i = 2; i > 0; i--) {
-                float alpha = 0.1f / i;
-                g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
-                g.setColor(new Color(150, 200, 255));
                 double glowSize = 50 + (i * 15);
-                g.fillOval((int)(player.getX() - glowSize/2), (int)(player.getY() - glowSize/2), (int)glowSize, (int)glowSize);
+                bloomPass.glow(player.getX(), player.getY(), glowSize, PLAYER_GLOW, 0.1f / i);
             }
         }
         
-        // Glow around bright particles (using only X/Y position)
-        // Create snapshot to avoid ConcurrentModificationException
-        java.util.List<Particle> particleSnapshot = new java.util.ArrayList<>(particles);
-        for (Particle p : particleSnapshot) {
-            if (p != null && p.isAlive()) {
-                // Apply glow to all particles with simple distance-based intensity
-                for (int i = 2; i > 0; i--) {
-                    float alpha = 0.05f / i;
-                    g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
-                    g.setColor(new Color(255, 200, 100)); // Orange glow for particles
-                    double glowSize = 15 + (i * 8);
-                    g.fillOval((int)(p.getX() - glowSize/2), (int)(p.getY() - glowSize/2), (int)glowSize, (int)glowSize);
-                }
-            }
+        // Glow around bright particles (using only X/Y position); the blur
+        // spreads each one into a soft ~30px halo
+        double left = viewLeft - BloomPass.MARGIN;
+        double top = viewTop - BloomPass.MARGIN;
+        double right = viewLeft + width + BloomPass.MARGIN;
+        double bottom = viewTop + height + BloomPass.MARGIN;
+        for (int j = 0, n = particles.size(); j < n; j++) {
+            float px = particles.getX(j);
+            float py = particles.getY(j);
+            if (px < left || px > right || py < top || py > bottom) continue;
+            bloomPass.glow(px, py, 23, PARTICLE_GLOW, 0.075f);
         }
         
-        g.setComposite(originalComposite);
+        bloomPass.finish(g);
     }
     
     private void applyMotionBlur(Graphics2D g, Player player) {
@@ -2871,164 +3094,26 @@ public class Renderer {
         }
     }
     
-    private void applyChromaticAberration(Graphics2D g, int width, int height) {
-        // Chromatic aberration: subtle color fringing at screen edges
-        Composite originalComposite = g.getComposite();
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.03f));
-        
-        // Red fringe on left edge
-        g.setColor(new Color(255, 0, 0));
-        g.fillRect(0, 0, 15, height);
-        
-        // Cyan fringe on right edge
-        g.setColor(new Color(0, 255, 255));
-        g.fillRect(width - 15, 0, 15, height);
-        
-        // Blue fringe on top
-        g.setColor(new Color(0, 0, 255));
-        g.fillRect(0, 0, width, 15);
-        
-        // Yellow fringe on bottom
-        g.setColor(new Color(255, 255, 0));
-        g.fillRect(0, height - 15, width, 15);
-        
-        g.setComposite(originalComposite);
-    }
-    
-    private void applyVignette(Graphics2D g, int width, int height) {
-        // Vignette effect: darken edges to focus attention on center
-        Composite originalComposite = g.getComposite();
-        
-        // Create radial gradient from center
-        int centerX = width / 2;
-        int centerY = height / 2;
-        int radius = (int)Math.sqrt(centerX * centerX + centerY * centerY) * 3;
-        
-        // Draw multiple layers for smooth gradient
-        for (int i = 0; i < 4; i++) {
-            float alpha = Math.min(1.0f, 0.36f * (i + 1)); // Cap at 1.0f to avoid exceeding range
-            int innerRadius = radius - (radius / 4) * (4 - i);
-            int outerRadius = radius;
-            
-            g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
-            
-            // Draw darkened edges - starts darkening much earlier (0.2 instead of 0.4)
-            RadialGradientPaint gradient = new RadialGradientPaint(
-                centerX, centerY, outerRadius,
-                new float[]{0.0f, 0.2f, 1.0f},
-                new Color[]{new Color(0, 0, 0, 0), new Color(0, 0, 0, 0), new Color(0, 0, 0, 255)}
-            );
-            g.setPaint(gradient);
-            g.fillRect(0, 0, width, height);
-        }
-        
-        g.setComposite(originalComposite);
-    }
-    
     // Optimized Balatro-style animated gradient system
     private void drawAnimatedGradient(Graphics2D g, int width, int height, double time, Color[] colors) {
         // Determine offsets based on animation setting
-        int offset1 = Game.enableGradientAnimation ? (int)(Math.sin(time * 0.5) * 150) : 0;
-        int offset2 = Game.enableGradientAnimation ? (int)(Math.cos(time * 0.4) * 120) : 0;
-        int offset3 = Game.enableGradientAnimation ? (int)(Math.sin(time * 0.6) * 130) : 0;
-        
-        // Base layer (always drawn)
-        GradientPaint base = new GradientPaint(
-            0, offset1, colors[0],
-            0, height + offset1, colors[1]
-        );
-        g.setPaint(base);
-        g.fillRect(0, 0, width, height);
-        
-        // Draw additional layers based on quality setting
-        if (Game.gradientQuality >= 1) {
-            // Second layer (Medium and High quality)
-            Color accentColor = new Color(
-                colors[2].getRed(), colors[2].getGreen(), colors[2].getBlue(), 160
-            );
-            GradientPaint accent = new GradientPaint(
-                width / 2, offset2, accentColor,
-                width / 2, height + offset2, new Color(colors[2].getRed(), colors[2].getGreen(), colors[2].getBlue(), 0)
-            );
-            g.setPaint(accent);
-            g.fillRect(0, 0, width, height);
-        }
+        int offset1 = Game.enableGradientAnimation ? (int)(Math.sin(time * 0.5) * GradientCache.BASE_AMPLITUDE) : 0;
+        int offset2 = Game.enableGradientAnimation ? (int)(Math.cos(time * 0.4) * GradientCache.ACCENT_AMPLITUDE) : 0;
+        int offset3 = Game.enableGradientAnimation ? (int)(Math.sin(time * 0.6) * GradientCache.MID_AMPLITUDE) : 0;
         
-        if (Game.gradientQuality >= 2) {
-            // Third layer (High quality only)
-            Color midColor = new Color(
-                colors[1].getRed(), colors[1].getGreen(), colors[1].getBlue(), 120
-            );
-            GradientPaint mid = new GradientPaint(
-                offset3, 0, new Color(colors[1].getRed(), colors[1].getGreen(), colors[1].getBlue(), 0),
-                width + offset3, height, midColor
-            );
-            g.setPaint(mid);
-            g.fillRect(0, 0, width, height);
-        }
+        // Base layer, plus accent (Medium) and diagonal (High) layers, blitted
+        // from strips pre-rendered once per palette
+        gradientCache.draw(g, width, height, colors, Game.gradientQuality, offset1, offset2, offset3, Game.enableGradientAnimation);
         
-        // Optional grain effect
+        // Optional grain effect (pre-generated noise tiles)
         if (Game.enableGrainEffect) {
-            g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.03f));
-            for (int i = 0; i < 150; i++) {
-                int x = (int)(Math.random() * width);
-                int y = (int)(Math.random() * height);
-                int size = (int)(Math.random() * 2) + 1;
-                g.setColor(Color.WHITE);
-                g.fillRect(x, y, size, size);
-            }
-            g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1.0f));
+            postOverlay.drawGrain(g, width, height);
         }
     }
     
     private Color[] getLevelGradientColors(int level) {
         // Different color palettes for different level ranges
-        int palette = ((level - 1) / 5) % 6;
-        
-        switch (palette) {
-            case 0: // Levels 1-5: Dark blue theme
-                return new Color[]{
-                    new Color(46, 52, 64),
-                    new Color(59, 66, 82),
-                    new Color(76, 86, 106)
-                };
-            case 1: // Levels 6-10: Purple theme
-                return new Color[]{
-                    new Color(59, 66, 82),
-                    new Color(76, 86, 106),
-                    new Color(88, 91, 112)
-                };
-            case 2: // Levels 11-15: Red theme
-                return new Color[]{
-                    new Color(46, 52, 64),
-                    new Color(67, 76, 94),
-                    new Color(76, 86, 106)
-                };
-            case 3: // Levels 16-20: Green theme
-                return new Color[]{
-                    new Color(46, 52, 64),
-                    new Color(59, 66, 82),
-                    new Color(67, 76, 94)
-                };
-            case 4: // Levels 21-25: Orange theme
-                return new Color[]{
-                    new Color(59, 66, 82),
-                    new Color(67, 76, 94),
-                    new Color(76, 86, 106)
-                };
-            case 5: // Levels 26+: Teal theme
-                return new Color[]{
-                    new Color(46, 52, 64),
-                    new Color(59, 66, 82),
-                    new Color(76, 86, 106)
-                };
-            default:
-                return new Color[]{
-                    new Color(46, 52, 64),
-                    new Color(59, 66, 82),
-                    new Color(76, 86, 106)
-                };
-        }
+        return LEVEL_GRADIENTS[((level - 1) / 5) % LEVEL_GRADIENTS.length];
     }
     
     // Getter methods for button arrays (for mouse navigation)
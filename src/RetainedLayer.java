@@ -0,0 +1,115 @@
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.awt.image.WritableRaster;
+
+// Retained drawing for menu screens: the parts of a screen that only change
+// with game state are painted once into a translucent screen-sized image and
+// blitted every frame after that. The caller passes a version that summarizes
+// the state the content depends on (see mix); the content is repainted when
+// the version, size, pixel scale or antialiasing changes. Animated parts
+// (gradient, title shine, the selected button) are drawn live on top.
+// Menu content is sparse, so after a repaint the image is scanned once for the
+// horizontal extent of its content in each band of rows, and a frame blits
+// only those spans instead of the whole mostly-transparent image.
+// Sizes are device pixels (see GradientCache). Render thread only.
+final class RetainedLayer {
+    private static final AffineTransform DEVICE_TRANSFORM = new AffineTransform();
+    private static final int BAND_HEIGHT = 16; // Device pixel rows per blitted band
+
+    interface Painter {
+        void paint(Graphics2D g);
+    }
+
+    private BufferedImage image;
+    private int imageWidth, imageHeight;
+    private double imageScaleX, imageScaleY;
+    private boolean imageAntialias;
+    private long imageVersion;
+    private int[] bandMinX = new int[0], bandMaxX = new int[0]; // Content span per band; empty when min > max
+    private int[] alphaRow = new int[0];
+
+    // Fold one state value into a version
+    static long mix(long version, long value) {
+        long h = (version ^ value) * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 29);
+    }
+
+    // Draw the content covering (0, 0, width, height) in g's coordinates,
+    // calling painter first if it is out of date
+    void draw(Graphics2D g, int width, int height, long version, Painter painter) {
+        AffineTransform originalTransform = g.getTransform();
+        double scaleX = originalTransform.getScaleX();
+        double scaleY = originalTransform.getScaleY();
+        int pixelWidth = Math.max(1, (int)Math.ceil(width * scaleX));
+        int pixelHeight = Math.max(1, (int)Math.ceil(height * scaleY));
+        boolean antialias = g.getRenderingHint(RenderingHints.KEY_ANTIALIASING) == RenderingHints.VALUE_ANTIALIAS_ON;
+
+        if (image == null || imageWidth != pixelWidth || imageHeight != pixelHeight) {
+            image = g.getDeviceConfiguration().createCompatibleImage(pixelWidth, pixelHeight, Transparency.TRANSLUCENT);
+            imageWidth = pixelWidth;
+            imageHeight = pixelHeight;
+            repaint(g, painter, scaleX, scaleY, antialias, version);
+        } else if (imageVersion != version || imageScaleX != scaleX || imageScaleY != scaleY || imageAntialias != antialias) {
+            repaint(g, painter, scaleX, scaleY, antialias, version);
+        }
+
+        int originX = (int)Math.round(originalTransform.getTranslateX());
+        int originY = (int)Math.round(originalTransform.getTranslateY());
+        g.setTransform(DEVICE_TRANSFORM);
+        for (int band = 0; band < bandMinX.length; band++) {
+            int x0 = bandMinX[band];
+            int x1 = bandMaxX[band] + 1;
+            if (x0 >= x1) continue;
+            int y0 = band * BAND_HEIGHT;
+            int y1 = Math.min(imageHeight, y0 + BAND_HEIGHT);
+            g.drawImage(image, originX + x0, originY + y0, originX + x1, originY + y1, x0, y0, x1, y1, null);
+        }
+        g.setTransform(originalTransform);
+    }
+
+    private void repaint(Graphics2D g, Painter painter, double scaleX, double scaleY, boolean antialias, long version) {
+        Graphics2D ig = image.createGraphics();
+        ig.setRenderingHints(g.getRenderingHints());
+        ig.setComposite(AlphaComposite.Clear);
+        ig.fillRect(0, 0, imageWidth, imageHeight);
+        ig.setComposite(AlphaComposite.SrcOver);
+        ig.scale(scaleX, scaleY);
+        painter.paint(ig);
+        ig.dispose();
+
+        findBands();
+        imageScaleX = scaleX;
+        imageScaleY = scaleY;
+        imageAntialias = antialias;
+        imageVersion = version;
+    }
+
+    // Content span of each band, from the image's alpha
+    private void findBands() {
+        int bands = (imageHeight + BAND_HEIGHT - 1) / BAND_HEIGHT;
+        if (bandMinX.length != bands) {
+            bandMinX = new int[bands];
+            bandMaxX = new int[bands];
+        }
+        if (alphaRow.length != imageWidth) {
+            alphaRow = new int[imageWidth];
+        }
+        WritableRaster alpha = image.getAlphaRaster();
+        for (int band = 0; band < bands; band++) {
+            int minX = imageWidth;
+            int maxX = -1;
+            for (int y = band * BAND_HEIGHT, end = Math.min(imageHeight, y + BAND_HEIGHT); y < end; y++) {
+                alpha.getSamples(0, y, imageWidth, 1, 0, alphaRow);
+                int x = 0;
+                while (x < minX && alphaRow[x] == 0) x++;
+                minX = x;
+                x = imageWidth - 1;
+                while (x > maxX && alphaRow[x] == 0) x--;
+                maxX = x;
+            }
+            bandMinX[band] = minX;
+            bandMaxX[band] = maxX;
+        }
+    }
+}
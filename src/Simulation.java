@@ -0,0 +1,1663 @@
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+
+// Gameplay core: owns the player, boss, bullets, beams, combo and scoring for one level.
+// Has no dependency on Game, Swing or the display so it can be stepped headless
+// (java -Djava.awt.headless=true -cp bin Simulation <level> <ticks> <runs>).
+public class Simulation {
+    // Playfield size
+    private final int width;
+    private final int height;
+
+    // Shared systems (owned by the caller so menus see the same progression)
+    private GameData gameData;
+    private AchievementManager achievementManager;
+    private PassiveUpgradeManager passiveUpgradeManager;
+    private ComboSystem comboSystem;
+    private SoundManager soundManager; // May be null when running headless
+
+    // Game objects
+    private Player player;
+    private Boss currentBoss;
+    private BulletStore bullets; // Structure-of-arrays bullet storage
+    private ParticleSystem particles;
+    private ParticleEmitter emitter; // All particle spawns go through here
+    private List<BeamAttack> beamAttacks;
+    private List<DamageNumber> damageNumbers;
+
+    // Input (shared key state array, indexed by KeyEvent codes)
+    private boolean[] keys;
+
+    // Particle limits for performance
+    private static final int MAX_PARTICLES = ParticleSystem.DEFAULT_CAPACITY; // Oldest recycled beyond this
+
+    // Removal mode: dead entities are compacted once per frame. Stable order keeps
+    // draw order intact; otherwise holes are filled from the end (cheaper).
+    private boolean stableRemovalOrder = false;
+
+    // Seeded random streams, reseeded at every startLevel: from a fresh seed each
+    // time, or from runSeed once setSeed has fixed it (benchmarks, headless runs).
+    // Gameplay decisions draw from random; particles/shake/sound picks from fxRandom,
+    // so toggling cosmetics never changes how a seeded run plays out.
+    private static final long FX_STREAM = 0x5DEECE66DL; // Offsets the cosmetic stream's seed
+    private long runSeed = System.nanoTime();
+    private boolean fixedSeed = false;
+    private final GameRandom random = new GameRandom(runSeed);
+    private final GameRandom fxRandom = new GameRandom(runSeed ^ FX_STREAM);
+
+    // Cached colors for performance
+    private static final Color FIRE_ORANGE = new Color(255, 100, 0);
+    private static final Color FIRE_RED = new Color(255, 50, 0);
+    private static final Color WARNING_RED = new Color(191, 97, 106);
+
+    // Cached math constants
+    private static final double TWO_PI = Math.PI * 2;
+
+    // Simulation runs in 60 Hz frame units (deltaTime 1.0 == one tick)
+    static final int TICKS_PER_SECOND = 60;
+
+    // Spatial grid for bullet collision optimization
+    private BulletGrid bulletGrid; // Flat counting-sort grid, rebuilt each frame
+
+    // Player trail effect
+    private int trailSpawnTimer;
+
+    // Visual effects
+    private double screenShakeX;
+    private double screenShakeY;
+    private double screenShakeIntensity;
+
+    // Combo system
+    private int dodgeCombo;
+    private int comboTimer;
+    private static final int COMBO_TIMEOUT = 180; // 3 seconds
+
+    // Boss intro cinematics
+    private boolean bossIntroActive;
+    private int bossIntroTimer;
+    private static final int BOSS_INTRO_DURATION = 120; // 2 seconds
+    private String bossIntroText;
+
+    // Pause (gameplay freezes, intro and camera keep animating)
+    private boolean paused;
+
+    // Achievement notification
+    private List<Achievement> pendingAchievements;
+    private int achievementNotificationTimer;
+    private static final int ACHIEVEMENT_NOTIFICATION_DURATION = 180; // 3 seconds
+
+    // Perfect boss tracking (no damage taken)
+    private boolean tookDamageThisBoss;
+    private int consecutivePerfectBosses;
+    private int totalGrazesThisRun;
+
+    // Boss mechanics
+    private boolean bossVulnerable;
+    private int vulnerabilityTimer;
+    private int invulnerabilityTimer; // Prevents boss from going vulnerable at level start
+    private int bossHitCount; // Number of times boss has been hit (max 3)
+    private int bossFlashTimer; // Flash effect when boss takes damage
+    private static final int VULNERABILITY_DURATION = 1200; // 20 second window
+    private static final int INVULNERABILITY_DURATION = 180; // 3 seconds at start
+    private boolean bossDeathAnimation;
+    private int deathAnimationTimer;
+    private static final int DEATH_ANIMATION_DURATION = 180; // 3 seconds
+    private double bossDeathScale;
+    private boolean waitingForRespawn; // Waiting after non-fatal boss hit
+    private int respawnDelayTimer; // Timer before respawning player
+    private static final int RESPAWN_DELAY = 90; // 1.5 seconds delay
+    private double bossDeathRotation;
+
+    // Polish effects
+    private static final double GRAZE_DISTANCE = 25; // Distance for graze detection
+    private static final double CLOSE_CALL_DISTANCE = 15; // Very close graze
+    private static final double PERFECT_DODGE_DISTANCE = 8; // Frame-perfect dodge
+    private int grazeScore = 0; // Accumulate graze score
+    private int screenFlashTimer = 0; // Screen flash on player hit
+
+    // Perfect Dodge system
+    private int perfectDodgeIFrames = 0; // Brief invincibility after perfect dodge
+    private static final int PERFECT_DODGE_IFRAMES = 8; // 8 frames of invincibility
+    private int perfectDodgeFlashTimer = 0; // Visual flash effect
+
+    // Risk Contract (chosen before the level starts)
+    private int riskContractType = 0; // 0 = none, 1 = 2x bullets, 2 = faster bullets, 3 = no shield
+    private double riskContractMultiplier = 1.0; // Money multiplier from contract
+
+    // Game feel effects
+    private int hitFreezeFrames = 0; // Freeze frames on boss damage
+    private double slowMotionFactor = 1.0; // Slow-motion multiplier (1.0 = normal)
+    private int slowMotionTimer = 0; // Timer for slow-motion effect
+    private double comboPulseScale = 1.0; // Scale pulse on combo increase
+
+    // Extra Life / Resurrection system
+    private boolean resurrectionAnimation = false;
+    private int resurrectionTimer = 0;
+    public static final int RESURRECTION_DURATION = 120; // 2 seconds
+    private double resurrectionScale = 0.0;
+    private double resurrectionGlow = 0.0;
+
+    // Afterimage trail for player
+    private double[] afterimageX = new double[5];
+    private double[] afterimageY = new double[5];
+    private double[] afterimageAlpha = new double[5];
+    private int afterimageTimer = 0;
+
+    // Active item effects
+    private boolean playerInvincible; // For INVINCIBILITY item and DASH i-frames
+    private boolean shieldActive; // For SHIELD item
+    private int respawnInvincibilityTimer; // Shorter invincibility after respawn
+    private double dashSpeedMultiplier; // For DASH item
+
+    // Camera tracking with smooth interpolation
+    private double cameraX = 0;
+    private double cameraY = 0;
+    private static final double CAMERA_SMOOTHING = 0.02; // Slower and smoother (was 0.05)
+    private static final double CAMERA_DEADZONE = 80; // Distance from center before camera moves
+    private static final double CAMERA_MAX_OFFSET = 100; // Max pixels camera can move from center
+    private boolean introPanActive = false;
+    private int introPanTimer = 0;
+    private static final int INTRO_PAN_DURATION = 240; // 4 seconds total (2s boss entrance, 2s pan back)
+    private double bossEntranceY = -200; // Boss starts above screen
+
+    // Level timer
+    private double gameTimeSeconds; // Simulated time in seconds since level start
+    private double bossKillTime; // Time when boss was killed
+
+    // Level outcome (read by the caller after each update)
+    private boolean gameOver;
+    private boolean levelComplete;
+    private String unlockedItemName; // Set when a mega boss unlocks an item
+
+    public Simulation(int width, int height, GameData gameData, AchievementManager achievementManager,
+                      PassiveUpgradeManager passiveUpgradeManager, SoundManager soundManager) {
+        this.width = width;
+        this.height = height;
+        this.gameData = gameData;
+        this.achievementManager = achievementManager;
+        this.passiveUpgradeManager = passiveUpgradeManager;
+        this.soundManager = soundManager;
+        this.comboSystem = new ComboSystem();
+
+        keys = new boolean[256];
+        bullets = new BulletStore(random, fxRandom);
+        particles = new ParticleSystem(MAX_PARTICLES);
+        emitter = new ParticleEmitter(particles, new ParticleGovernor(), fxRandom);
+        beamAttacks = new ArrayList<>();
+        bulletGrid = new BulletGrid(width, height);
+        pendingAchievements = new ArrayList<>();
+        damageNumbers = new ArrayList<>();
+
+        bossIntroText = "";
+        bossDeathScale = 1.0;
+    }
+
+    // Reset all per-level state and spawn the player and boss for the current level
+    public void startLevel(int riskContractType, double riskContractMultiplier) {
+        this.riskContractType = riskContractType;
+        this.riskContractMultiplier = riskContractMultiplier;
+        if (!fixedSeed) {
+            runSeed = System.nanoTime(); // Every start and retry plays differently
+        }
+        random.setSeed(runSeed);
+        fxRandom.setSeed(runSeed ^ FX_STREAM);
+
+        player = new Player(width / 2, height - 200, gameData.getActiveSpeedLevel());
+        bullets.clear();
+        bullets.resetPoolStats(); // Pool stats are per level
+        particles.clear();
+        damageNumbers.clear();
+        beamAttacks.clear();
+        currentBoss = new Boss(width / 2, 100, gameData.getCurrentLevel(), soundManager, random, fxRandom); // Normal position, will move during intro
+        gameData.setSurvivalTime(0);
+        dodgeCombo = 0;
+        comboTimer = 0;
+        bossVulnerable = false;
+        vulnerabilityTimer = 0;
+
+        invulnerabilityTimer = INVULNERABILITY_DURATION; // 5 seconds of immunity
+        bossHitCount = 0;
+        respawnInvincibilityTimer = 0; // No respawn invincibility at start
+        waitingForRespawn = false;
+        respawnDelayTimer = 0;
+        paused = false;
+        tookDamageThisBoss = false;
+        totalGrazesThisRun = 0;
+        comboSystem.resetCombo();
+
+        // Start boss intro cinematic
+        bossIntroActive = true;
+        bossIntroTimer = 0;
+        bossIntroText = "LEVEL " + gameData.getCurrentLevel() + " - " + currentBoss.getVehicleName();
+        if (currentBoss.isMegaBoss()) {
+            bossIntroText += " [MEGA BOSS]";
+        }
+
+        // Start intro sequence with boss entrance
+        introPanActive = true;
+        introPanTimer = 0;
+        bossEntranceY = -200; // Boss will start above screen
+        cameraX = 0;
+        cameraY = 0;
+
+        screenShakeIntensity = 0;
+        bossDeathAnimation = false;
+        deathAnimationTimer = 0;
+        bossDeathScale = 1.0;
+        bossDeathRotation = 0;
+
+        gameTimeSeconds = 0;
+        bossKillTime = 0;
+
+        gameOver = false;
+        levelComplete = false;
+        unlockedItemName = null;
+
+        // Start active item cooldown at start of level
+        ActiveItem equippedItem = gameData.getEquippedItem();
+        if (equippedItem != null) {
+            equippedItem.startLevelCooldown();
+        }
+    }
+
+    public void update(double deltaTime) {
+        if (gameOver || levelComplete) return;
+
+        // Snapshot positions so the renderer can interpolate between ticks
+        if (player != null) player.savePreviousPosition();
+        if (currentBoss != null) currentBoss.savePreviousPosition();
+        bullets.savePreviousPositions();
+
+        // Handle hit freeze frames (pause game briefly on boss damage)
+        if (hitFreezeFrames > 0) {
+            hitFreezeFrames--;
+            return; // Skip update during freeze
+        }
+
+        // Advance level timer (only while the player is alive)
+        if (player != null && !paused) {
+            gameTimeSeconds += deltaTime / TICKS_PER_SECOND;
+        }
+
+        // Apply slow-motion effect to delta time
+        double effectiveDelta = deltaTime;
+        if (slowMotionTimer > 0) {
+            slowMotionTimer--;
+            effectiveDelta = deltaTime * slowMotionFactor;
+            if (slowMotionTimer <= 0) {
+                slowMotionFactor = 1.0; // Reset
+            }
+        }
+
+        // Use effectiveDelta for all gameplay updates during slow-motion
+        final double dt = effectiveDelta;
+
+        // Update perfect dodge i-frames
+        if (perfectDodgeIFrames > 0) {
+            perfectDodgeIFrames--;
+        }
+        if (perfectDodgeFlashTimer > 0) {
+            perfectDodgeFlashTimer--;
+        }
+
+        // Update combo pulse animation (decay back to 1.0)
+        if (comboPulseScale > 1.0) {
+            comboPulseScale = Math.max(1.0, comboPulseScale - 0.05);
+        }
+
+        // Update afterimage trail for player
+        if (player != null) {
+            afterimageTimer++;
+            if (afterimageTimer >= 3) { // Every 3 frames
+                afterimageTimer = 0;
+                // Shift old positions
+                for (int i = afterimageX.length - 1; i > 0; i--) {
+                    afterimageX[i] = afterimageX[i-1];
+                    afterimageY[i] = afterimageY[i-1];
+                    afterimageAlpha[i] = afterimageAlpha[i-1] * 0.7; // Fade out
+                }
+                // Add new position
+                double speed = Math.sqrt(player.getVX() * player.getVX() + player.getVY() * player.getVY());
+                afterimageX[0] = player.getX();
+                afterimageY[0] = player.getY();
+                afterimageAlpha[0] = Math.min(1.0, speed / 4.0); // Only visible when moving fast
+            }
+        }
+
+        // Reset active item effect states each frame
+        playerInvincible = false;
+        dashSpeedMultiplier = 1.0;
+        // Shield persists until used
+
+        // Update resurrection animation
+        if (resurrectionAnimation) {
+            resurrectionTimer--;
+            // Animate scale from 0 to 1
+            double progress = 1.0 - (resurrectionTimer / (double)RESURRECTION_DURATION);
+            resurrectionScale = Math.min(1.0, progress * 2.0); // Scale up in first half
+            resurrectionGlow = Math.max(0.0, 1.0 - progress); // Glow fades out
+
+            if (resurrectionTimer <= 0) {
+                resurrectionAnimation = false;
+            }
+        }
+
+        // Handle respawn invincibility timer
+        if (respawnInvincibilityTimer > 0) {
+            respawnInvincibilityTimer -= deltaTime;
+            if (respawnInvincibilityTimer <= 0) {
+                // Timer expired - remove shield and invincibility
+                shieldActive = false;
+                playerInvincible = false;
+            } else {
+                // Still invincible from respawn
+                playerInvincible = true;
+            }
+        }
+
+        // Track survival and score (scaled by delta time) - only when player is alive
+        if (player != null) {
+            gameData.incrementSurvivalTime();
+
+            // Apply score multiplier from active item
+            ActiveItem item = gameData.getEquippedItem();
+            int scoreGain = (int)deltaTime;
+            if (item != null && item.getType() == ActiveItem.ItemType.LUCKY_CHARM) {
+                scoreGain = (int)(scoreGain * 1.5); // 50% bonus
+            }
+            gameData.addScore(scoreGain);
+        }
+
+        // Update active item
+        ActiveItem equippedItem = gameData.getEquippedItem();
+        if (equippedItem != null) {
+            equippedItem.update();
+
+            // Handle active item effects
+            if (equippedItem.isActive()) {
+                handleActiveItemEffects(equippedItem, deltaTime);
+            } else {
+                // Item just ended - clear shield if it was active
+                if (equippedItem.getType() == ActiveItem.ItemType.SHIELD) {
+                    shieldActive = false;
+                }
+            }
+        }
+
+        // Update screen shake
+        if (screenShakeIntensity > 0) {
+            // Play shake sound for strong impacts (intensity >= 5)
+            if (screenShakeIntensity >= 5 && screenShakeIntensity < 5.5) {
+                playSound(SoundManager.Sound.SCREEN_SHAKE, 0.3f);
+            }
+            screenShakeX = (fxRandom.nextDouble() - 0.5) * screenShakeIntensity;
+            screenShakeY = (fxRandom.nextDouble() - 0.5) * screenShakeIntensity;
+            screenShakeIntensity *= 0.9;
+            if (screenShakeIntensity < 0.1) screenShakeIntensity = 0;
+        } else {
+            screenShakeX = 0;
+            screenShakeY = 0;
+        }
+
+        // Update flash timers
+        if (bossFlashTimer > 0) {
+            bossFlashTimer--;
+        }
+        if (screenFlashTimer > 0) {
+            screenFlashTimer--;
+        }
+
+        // Update combo timer
+        if (comboTimer > 0) {
+            comboTimer -= deltaTime;
+            if (comboTimer <= 0) {
+                dodgeCombo = 0;
+            }
+        }
+
+        // Update boss vulnerability
+        if (bossVulnerable) {
+            vulnerabilityTimer -= deltaTime;
+            if (vulnerabilityTimer <= 0) {
+                bossVulnerable = false;
+            }
+        }
+
+        // Update player with delta time (only if alive)
+        if (player != null) {
+            // Only allow player control when intro pan is complete
+            if (!introPanActive) {
+                player.update(keys, width, height, dt); // Use effective delta for slow-motion
+            }
+
+            // Handle intro sequence
+            if (introPanActive) {
+                introPanTimer += dt;
+
+                double halfDuration = INTRO_PAN_DURATION / 2.0;
+                if (introPanTimer < halfDuration) {
+                    // Boss entrance animation - fly down from above
+                    double progress = introPanTimer / halfDuration;
+                    double easeProgress = 1 - Math.pow(1 - progress, 3); // Ease out cubic
+
+                    // Boss flies down smoothly from -200 to 100
+                    bossEntranceY = -200 + (300 * easeProgress);
+                    if (currentBoss != null) {
+                        // Directly set boss Y position during entrance
+                        currentBoss.setPosition(currentBoss.getX(), bossEntranceY);
+                        // Keep animations running (helicopter blades)
+                        currentBoss.updateAnimations(deltaTime);
+
+                        // Add screen shake during descent
+                        if (progress > 0.2) {
+                            screenShakeIntensity = Math.max(screenShakeIntensity, 8 + easeProgress * 4);
+                        }
+
+                        // Add jet trail particles during descent
+                        if (progress > 0.1 && fxRandom.nextDouble() < 0.4) {
+                            double angle = -Math.PI / 2 + (fxRandom.nextDouble() - 0.5) * 0.5; // Point upward (thrusters push down)
+                            double speed = 1 + fxRandom.nextDouble() * 2;
+                            emitter.emit(
+                                currentBoss.getX() + (fxRandom.nextDouble() - 0.5) * 30,
+                                currentBoss.getY() + currentBoss.getSize() / 2,
+                                Math.cos(angle) * speed,
+                                Math.sin(angle) * speed,
+                                Particle.argb(255, 150, 0, 200),
+                                60 + (int)(fxRandom.nextDouble() * 30),
+                                8.0 + fxRandom.nextDouble() * 8.0,
+                                Particle.ParticleType.TRAIL
+                            );
+                        }
+                    }
+
+                    // Camera follows boss down slightly
+                    double targetY = bossEntranceY * 0.3;
+                    cameraY = targetY;
+
+                } else if (introPanTimer < INTRO_PAN_DURATION) {
+                    // Pan back to player (second half)
+                    double progress = (introPanTimer - halfDuration) / halfDuration;
+                    double easeProgress = progress * progress * (3 - 2 * progress); // Smooth ease
+
+                    // Boss settles into final position (100)
+                    if (currentBoss != null) {
+                        if (bossEntranceY < 100) {
+                            bossEntranceY += (100 - bossEntranceY) * 0.1;
+                        } else {
+                            bossEntranceY = 100;
+                        }
+                        currentBoss.setPosition(currentBoss.getX(), bossEntranceY);
+                        // Keep animations running
+                        currentBoss.updateAnimations(deltaTime);
+
+                        // Screen shake decreases as boss settles
+                        screenShakeIntensity = Math.max(screenShakeIntensity, 6 * (1 - easeProgress));
+                    }
+
+                    // Camera pans back to center
+                    double startY = 30.0; // Camera's max Y during boss viewing
+                    cameraY = startY * (1 - easeProgress);
+
+                    // Add engine glow particles as boss settles
+                    if (currentBoss != null && fxRandom.nextDouble() < 0.15) {
+                        emitter.emit(
+                            currentBoss.getX() + (fxRandom.nextDouble() - 0.5) * 40,
+                            currentBoss.getY() + currentBoss.getSize() / 2,
+                            (fxRandom.nextDouble() - 0.5) * 0.5,
+                            1 + fxRandom.nextDouble() * 1.5,
+                            Particle.argb(100, 150, 255, 180),
+                            40 + (int)(fxRandom.nextDouble() * 20),
+                            6.0 + fxRandom.nextDouble() * 6.0,
+                            Particle.ParticleType.SPARK
+                        );
+                    }
+
+                } else {
+                    // Entrance complete - add final burst of particles
+                    if (introPanTimer - deltaTime < INTRO_PAN_DURATION) {
+                        // Just finished - add dramatic particle burst
+                        screenShakeIntensity = 15; // Massive shake at the end
+                        if (currentBoss != null) {
+                            emitter.burst(EmitterDefinition.BOSS_ARRIVAL, currentBoss.getX(), currentBoss.getY());
+                        }
+                    }
+
+                    introPanActive = false;
+                    cameraX = 0;
+                    cameraY = 0;
+                }
+            } else {
+                // Normal camera follow with slow smooth interpolation (only when intro is done)
+                double targetCameraX = 0;
+                double targetCameraY = 0;
+
+                // Calculate offset from screen center
+                double offsetX = player.getX() - width / 2;
+                double offsetY = player.getY() - height / 2;
+
+                // Only move camera if player is outside deadzone
+                if (Math.abs(offsetX) > CAMERA_DEADZONE) {
+                    targetCameraX = offsetX - Math.signum(offsetX) * CAMERA_DEADZONE;
+                }
+                if (Math.abs(offsetY) > CAMERA_DEADZONE) {
+                    targetCameraY = offsetY - Math.signum(offsetY) * CAMERA_DEADZONE;
+                }
+
+                // Smoothly interpolate camera position (slower than before)
+                cameraX += (targetCameraX - cameraX) * CAMERA_SMOOTHING;
+                cameraY += (targetCameraY - cameraY) * CAMERA_SMOOTHING;
+
+                // Clamp camera to max offset from center
+                cameraX = Math.max(-CAMERA_MAX_OFFSET, Math.min(CAMERA_MAX_OFFSET, cameraX));
+                cameraY = Math.max(-CAMERA_MAX_OFFSET, Math.min(CAMERA_MAX_OFFSET, cameraY));
+            }
+
+            // Update boss intro cinematic
+            if (bossIntroActive) {
+                bossIntroTimer += deltaTime;
+                if (bossIntroTimer >= BOSS_INTRO_DURATION) {
+                    bossIntroActive = false;
+                }
+            }
+
+            // If paused, skip all gameplay updates
+            if (paused) {
+                return;
+            }
+
+            // Update combo system
+            comboSystem.update(deltaTime, passiveUpgradeManager.getMultiplier(PassiveUpgrade.UpgradeType.COMBO_DURATION));
+
+            // Update damage numbers
+            for (int i = 0, n = damageNumbers.size(); i < n; i++) {
+                damageNumbers.get(i).update(deltaTime);
+            }
+            Compaction.removeDead(damageNumbers, DamageNumber::isDone, stableRemovalOrder);
+
+            // Update achievement notifications
+            if (achievementNotificationTimer > 0) {
+                achievementNotificationTimer -= deltaTime;
+            }
+            if (achievementNotificationTimer <= 0 && !pendingAchievements.isEmpty()) {
+                // Remove displayed achievement
+                pendingAchievements.remove(0);
+                if (!pendingAchievements.isEmpty()) {
+                    achievementNotificationTimer = ACHIEVEMENT_NOTIFICATION_DURATION;
+                }
+            }
+
+            // Spawn fire trail behind player
+            if (emitter.isEnabled()) {
+                trailSpawnTimer++;
+                if (trailSpawnTimer >= 2) { // Every 2 frames
+                    trailSpawnTimer = 0;
+                    // Create rocket/fire trail particles
+                    // Calculate angle based on velocity (or default upward if stationary)
+                    double vx = player.getVX();
+                    double vy = player.getVY();
+                    double angle = (vx == 0 && vy == 0) ? -Math.PI / 2 : Math.atan2(vy, vx);
+
+                    // Spawn particles at the back of the rocket (opposite to movement direction)
+                    double backDistance = 20; // Distance behind rocket center
+                    double trailX = player.getX() - Math.cos(angle) * backDistance;
+                    double trailY = player.getY() - Math.sin(angle) * backDistance;
+
+                    for (int i = 0; i < 2; i++) {
+                        // Add spread perpendicular to movement direction
+                        double perpAngle = angle + Math.PI / 2;
+                        double spread = (fxRandom.nextDouble() - 0.5) * 6;
+                        double finalX = trailX + Math.cos(perpAngle) * spread;
+                        double finalY = trailY + Math.sin(perpAngle) * spread;
+
+                        // Particle velocity opposite to rocket direction
+                        double particleVX = -Math.cos(angle) * (0.5 + fxRandom.nextDouble() * 1.0);
+                        double particleVY = -Math.sin(angle) * (0.5 + fxRandom.nextDouble() * 1.0);
+
+                        emitter.emit(
+                            finalX, finalY,
+                            particleVX, particleVY,
+                            Particle.rgb(255, 150 + (int)(fxRandom.nextDouble() * 50), 0),
+                            15 + (int)(fxRandom.nextDouble() * 10),
+                            6 + (int)(fxRandom.nextDouble() * 6),
+                            Particle.ParticleType.SPARK
+                        );
+                    }
+                }
+            }
+        }
+
+        // Update particles (dead ones are compacted out in the same pass)
+        particles.update(deltaTime);
+
+        // Check if player hit boss (only vulnerable during special window)
+        if (currentBoss != null && player != null && player.collidesWith(currentBoss) && !bossDeathAnimation) {
+            if (bossVulnerable) {
+                playSound(SoundManager.Sound.BOSS_HIT);
+
+                // Deal damage to boss using new health system
+                currentBoss.takeDamage();
+                int remainingHealth = currentBoss.getCurrentHealth();
+
+                // Show damage number
+                damageNumbers.add(new DamageNumber("HIT! HP: " + remainingHealth,
+                    currentBoss.getX(), currentBoss.getY() - 60,
+                    new Color(255, 100, 100), 36));
+
+                // Increment hit counter (for old visual effects)
+                bossHitCount++;
+
+                // Progressive damage effects - more smoke and fire with each hit
+                int particleMultiplier = bossHitCount; // 1x, 2x, 3x particles
+
+                // Create impact particles at collision point (between player and boss)
+                if (emitter.isEnabled()) {
+                    double impactX = (player.getX() + currentBoss.getX()) / 2;
+                    double impactY = (player.getY() + currentBoss.getY()) / 2;
+
+                    // Impact flash, smoke, fire, debris and sparks (all scale with hit count)
+                    double bossX = currentBoss.getX();
+                    double bossY = currentBoss.getY();
+                    emitter.burst(EmitterDefinition.BOSS_IMPACT_FLASH, impactX, impactY, 0, particleMultiplier, 0);
+                    emitter.burst(EmitterDefinition.BOSS_DAMAGE_SMOKE, bossX, bossY, 0, particleMultiplier, 0);
+                    emitter.burst(EmitterDefinition.BOSS_DAMAGE_FIRE, bossX, bossY, 0, particleMultiplier, 0);
+                    emitter.burst(EmitterDefinition.BOSS_DAMAGE_DEBRIS, bossX, bossY, 0, particleMultiplier, 0);
+                    emitter.burst(EmitterDefinition.BOSS_DAMAGE_SPARKS, bossX, bossY, 0, particleMultiplier, 0);
+
+                    // Large explosion rings at impact (bigger with each hit)
+                    emitter.burst(EmitterDefinition.BOSS_IMPACT_RINGS, impactX, impactY, 0, 1, particleMultiplier * 10);
+                }
+
+                // Hit-pause: freeze frames on boss damage (more frames for more hits)
+                hitFreezeFrames = 3 + bossHitCount * 2;
+
+                // Reset vulnerability
+                bossVulnerable = false;
+                invulnerabilityTimer = 90; // 1.5 seconds before next vulnerability window
+
+                screenShakeIntensity = 20 + (bossHitCount * 8); // More shake with each hit
+                bossFlashTimer = 12; // Longer boss flash effect
+
+                // Check if boss is defeated using new health system
+                if (currentBoss.isDead()) {
+                    // Roguelike: Track boss defeat for stats
+                    gameData.onBossDefeated();
+
+                    // Track perfect boss kill for achievements
+                    if (!tookDamageThisBoss) {
+                        consecutivePerfectBosses++;
+                        achievementManager.incrementProgress(Achievement.AchievementType.PERFECT_BOSS, 1);
+                        achievementManager.incrementProgress(Achievement.AchievementType.NO_DAMAGE, 1);
+                    } else {
+                        consecutivePerfectBosses = 0;
+                    }
+
+                    // Update achievements
+                    achievementManager.incrementProgress(Achievement.AchievementType.BOSS_KILLS, 1);
+                    achievementManager.updateProgress(Achievement.AchievementType.REACH_LEVEL, gameData.getCurrentLevel());
+                    achievementManager.updateProgress(Achievement.AchievementType.GRAZE_COUNT, totalGrazesThisRun);
+                    achievementManager.updateProgress(Achievement.AchievementType.HIGH_COMBO, comboSystem.getMaxCombo());
+
+                    // Check for newly unlocked achievements
+                    List<Achievement> newlyUnlocked = achievementManager.getRecentlyUnlocked();
+                    if (!newlyUnlocked.isEmpty()) {
+                        pendingAchievements.addAll(newlyUnlocked);
+                        achievementNotificationTimer = ACHIEVEMENT_NOTIFICATION_DURATION;
+                        achievementManager.clearRecentlyUnlocked();
+                    }
+
+                    // Award points and money with passive multipliers
+                    int winBonus = 1000 + (gameData.getCurrentLevel() * 500);
+                    // Apply combo multiplier
+                    winBonus = (int)(winBonus * comboSystem.getMultiplier());
+                    // Apply score multiplier passive
+                    winBonus = (int)(winBonus * passiveUpgradeManager.getMultiplier(PassiveUpgrade.UpgradeType.SCORE_MULTIPLIER));
+                    gameData.addScore(winBonus);
+
+                    int moneyReward = currentBoss.getMoneyReward();
+
+                    // Apply LUCKY_CHARM multiplier if equipped
+                    if (equippedItem != null && equippedItem.getType() == ActiveItem.ItemType.LUCKY_CHARM) {
+                        moneyReward = (int)(moneyReward * 1.5); // 50% bonus
+                    }
+
+                    // Apply money gain passive multiplier
+                    moneyReward = (int)(moneyReward * passiveUpgradeManager.getMultiplier(PassiveUpgrade.UpgradeType.MONEY_GAIN));
+
+                    gameData.addRunMoney(moneyReward);
+                    gameData.addTotalMoney(moneyReward);
+
+                    // Update money achievement
+                    achievementManager.updateProgress(Achievement.AchievementType.MONEY_EARNED, gameData.getTotalMoney());
+
+                    // Save level completion time
+                    gameData.setLevelCompletionTime(gameData.getCurrentLevel(), (int)(gameTimeSeconds * 60));
+
+                    // Start boss death animation
+                    playSound(SoundManager.Sound.BOSS_DEATH);
+                    bossDeathAnimation = true;
+                    deathAnimationTimer = DEATH_ANIMATION_DURATION;
+                    bossDeathScale = 1.0;
+                    bossDeathRotation = 0;
+                    bossKillTime = gameTimeSeconds;
+
+                    // Make player disappear (missile hit)
+                    player = null;
+
+                    // Massive final explosion
+                    screenShakeIntensity = 25;
+
+                // Create massive fiery explosion particles and rings (density is up to the governor)
+                emitter.burst(EmitterDefinition.BOSS_KILL_EXPLOSION, currentBoss.getX(), currentBoss.getY());
+                emitter.burst(EmitterDefinition.BOSS_KILL_RINGS, currentBoss.getX(), currentBoss.getY());
+                } else {
+                    // Non-fatal hit - delay respawn and show explosion
+                    double hitX = (player.getX() + currentBoss.getX()) / 2;
+                    double hitY = (player.getY() + currentBoss.getY()) / 2;
+                    player = null; // Remove player temporarily
+                    waitingForRespawn = true;
+                    respawnDelayTimer = RESPAWN_DELAY;
+
+                    // Huge screen shake for explosion
+                    screenShakeIntensity = 20;
+
+                    // Create explosion at hit location
+                    if (emitter.isEnabled()) {
+                        // Large explosion particles and rings
+                        emitter.burst(EmitterDefinition.PLAYER_EXPLOSION, hitX, hitY);
+                        emitter.burst(EmitterDefinition.PLAYER_EXPLOSION_RINGS, hitX, hitY);
+                    }
+
+                    // Reset vulnerability
+                    bossVulnerable = false;
+                    invulnerabilityTimer = 90; // 1.5 seconds before next vulnerability window
+
+                    screenShakeIntensity = 20 + (bossHitCount * 8); // More shake with each hit
+                }
+
+                return;
+            } else {
+                // Hit boss when not vulnerable - player dies
+                handlePlayerDeath();
+                return;
+            }
+        }
+
+        // Update boss death animation
+        if (bossDeathAnimation) {
+            deathAnimationTimer -= deltaTime;
+
+            // Calculate animation progress (0 to 1)
+            double progress = 1.0 - (deathAnimationTimer / (double)DEATH_ANIMATION_DURATION);
+
+            // Boss shrinks and falls (scale decreases)
+            bossDeathScale = 1.0 - (progress * 0.7); // Shrink to 30% size
+
+            // Boss spins as it falls
+            bossDeathRotation += 0.05 * deltaTime;
+
+            // Continuous explosions during death
+            if (emitter.isEnabled() && fxRandom.nextDouble() < 0.15 * deltaTime) {
+                double offsetX = (fxRandom.nextDouble() - 0.5) * 80 * bossDeathScale;
+                double offsetY = (fxRandom.nextDouble() - 0.5) * 80 * bossDeathScale;
+                emitter.burst(EmitterDefinition.BOSS_DEATH_BURST, currentBoss.getX() + offsetX, currentBoss.getY() + offsetY);
+            }
+
+            // Continuous screen shake that decreases over time
+            screenShakeIntensity = 15 * (1.0 - progress);
+
+            // Smoke trails
+            if (emitter.isEnabled() && fxRandom.nextDouble() < 0.3 * deltaTime) {
+                emitter.emit(
+                    currentBoss.getX() + (fxRandom.nextDouble() - 0.5) * 60,
+                    currentBoss.getY() + (fxRandom.nextDouble() - 0.5) * 60,
+                    (fxRandom.nextDouble() - 0.5) * 2, 2 + fxRandom.nextDouble() * 3,
+                    Particle.argb(80, 80, 80, 150), 40, 8,
+                    Particle.ParticleType.SPARK
+                );
+            }
+
+            // Final explosion and level completion
+            if (deathAnimationTimer <= 0) {
+                // Final massive explosion
+                emitter.burst(EmitterDefinition.BOSS_FINAL_EXPLOSION, currentBoss.getX(), currentBoss.getY());
+
+                screenShakeIntensity = 20;
+
+                // Check if this is a mega boss (every 3rd level)
+                int currentLevel = gameData.getCurrentLevel();
+                if (currentLevel % 3 == 0 && !gameData.getDefeatedBosses()[currentLevel - 1]) {
+                    // Unlock item before transitioning
+                    gameData.unlockNextItem();
+                    // Get the newly unlocked item for display
+                    List<ActiveItem.ItemType> unlockedItems = gameData.getUnlockedItems();
+                    if (!unlockedItems.isEmpty()) {
+                        ActiveItem newItem = new ActiveItem(unlockedItems.get(unlockedItems.size() - 1));
+                        unlockedItemName = newItem.getName();
+                    }
+                    // Equip first item if this is the first unlock
+                    if (unlockedItems.size() == 1) {
+                        gameData.equipItem(0);
+                    }
+                    playSound(SoundManager.Sound.ITEM_PICKUP);
+
+                    // Check if this is the SECOND mega boss (level 6)
+                    // Level 6 is the second mega boss (6 % 3 == 0)
+                    if (currentLevel == 6 && !gameData.areContractsUnlocked()) {
+                        // Unlock risk contracts permanently!
+                        gameData.unlockContracts();
+                        // The contract animation is shown AFTER the item animation finishes
+                    }
+                }
+
+                playSound(SoundManager.Sound.LEVEL_COMPLETE);
+                if (soundManager != null) {
+                    soundManager.stopMusic();
+                }
+                levelComplete = true;
+                bossDeathAnimation = false;
+                return;
+            }
+        }
+
+        // Boss becomes vulnerable periodically (less frequent at early levels)
+        if (invulnerabilityTimer > 0) {
+            invulnerabilityTimer -= deltaTime; // Countdown immunity timer
+        }
+
+        double vulnerabilityChance = 0.01 * deltaTime;
+        if (gameData.getCurrentLevel() <= 3) {
+            vulnerabilityChance *= 0.5; // Half as likely at levels 1-3
+        }
+        if (!bossVulnerable && currentBoss != null && invulnerabilityTimer <= 0 && random.nextDouble() < vulnerabilityChance) {
+            playSound(SoundManager.Sound.VULNERABILITY_WINDOW);
+
+            bossVulnerable = true;
+            // Base duration + 60 frames (1 second) per upgrade level
+            vulnerabilityTimer = VULNERABILITY_DURATION + (gameData.getActiveAttackWindowLevel() * 60);
+            // Visual indicator - sparkles around boss
+            emitter.burst(EmitterDefinition.VULNERABILITY_OPEN, currentBoss.getX(), currentBoss.getY());
+        }
+
+        // Warning sparkles 1 second before vulnerability window closes
+        if (bossVulnerable && vulnerabilityTimer > 0 && vulnerabilityTimer < 60 && currentBoss != null) {
+            // Intermittent warning sparkles
+            if (emitter.isEnabled() && fxRandom.nextDouble() < 0.3 * deltaTime) {
+                double angle = fxRandom.nextDouble() * TWO_PI;
+                double radius = 50 + fxRandom.nextDouble() * 20;
+                emitter.emit(
+                    currentBoss.getX() + Math.cos(angle) * radius,
+                    currentBoss.getY() + Math.sin(angle) * radius,
+                    0, -2,
+                    WARNING_RED, 20, 3,
+                    Particle.ParticleType.SPARK
+                );
+            }
+        }
+
+        // Update boss with delta time (but not during death animation, intro, or respawn delay)
+        if (currentBoss != null && !bossDeathAnimation && !introPanActive && player != null) {
+            int bulletCountBefore = bullets.size();
+            currentBoss.update(bullets, player, width, height, deltaTime, emitter);
+            beamAttacks = currentBoss.getBeamAttacks();
+
+            // Apply risk contract effects to newly spawned bullets
+            if (riskContractType > 0 && bullets.size() > bulletCountBefore) {
+                int bulletCountAfter = bullets.size();
+                for (int i = bulletCountBefore; i < bulletCountAfter; i++) {
+                    // Speed Demon: 50% faster bullets
+                    if (riskContractType == 2) {
+                        double speedMult = 1.5;
+                        bullets.multiplySpeed(i, speedMult);
+                    }
+
+                    // Bullet Storm: duplicate bullets with slight offset (appended after the originals)
+                    if (riskContractType == 1) {
+                        bullets.add(
+                            bullets.getX(i) + (random.nextDouble() - 0.5) * 10,
+                            bullets.getY(i) + (random.nextDouble() - 0.5) * 10,
+                            bullets.getVX(i) * (0.9 + random.nextDouble() * 0.2),
+                            bullets.getVY(i) * (0.9 + random.nextDouble() * 0.2),
+                            bullets.getType(i)
+                        );
+                    }
+                }
+            }
+
+            // Add continuous flame and smoke particles from damaged boss
+            if (bossHitCount > 0 && emitter.isEnabled()) {
+                // More frequent particles with each hit
+                double spawnChance = 0.2 * bossHitCount; // 20% per hit level
+
+                if (fxRandom.nextDouble() < spawnChance) {
+                    // Flame particles
+                    double angle = Math.PI / 2 + (fxRandom.nextDouble() - 0.5) * 0.8; // Downward
+                    double speed = 0.5 + fxRandom.nextDouble() * 1.5;
+                    Color flameColor = fxRandom.nextDouble() < 0.6 ? FIRE_ORANGE : FIRE_RED;
+                    emitter.emit(
+                        currentBoss.getX() + (fxRandom.nextDouble() - 0.5) * 40,
+                        currentBoss.getY() + (fxRandom.nextDouble() - 0.5) * 30,
+                        Math.cos(angle) * speed,
+                        Math.sin(angle) * speed,
+                        flameColor, 35 + (int)(fxRandom.nextDouble() * 20), 6 + fxRandom.nextDouble() * 4,
+                        Particle.ParticleType.TRAIL
+                    );
+                }
+
+                if (fxRandom.nextDouble() < spawnChance * 0.7) {
+                    // Smoke particles (darker, slower) - use SMOKE type for softer look
+                    double angle = Math.PI / 2 + (fxRandom.nextDouble() - 0.5) * 0.6;
+                    double speed = 0.2 + fxRandom.nextDouble() * 0.8;
+                    int gray = 40 + (int)(fxRandom.nextDouble() * 30);
+                    emitter.emit(
+                        currentBoss.getX() + (fxRandom.nextDouble() - 0.5) * 35,
+                        currentBoss.getY() + (fxRandom.nextDouble() - 0.5) * 25,
+                        Math.cos(angle) * speed,
+                        Math.sin(angle) * speed,
+                        Particle.argb(gray, gray, gray, 140), 60 + (int)(fxRandom.nextDouble() * 40), 10 + fxRandom.nextDouble() * 6,
+                        Particle.ParticleType.SMOKE
+                    );
+                }
+            }
+        }
+
+        // Handle respawn delay after non-fatal boss hit
+        if (waitingForRespawn) {
+            respawnDelayTimer -= deltaTime;
+
+            if (respawnDelayTimer <= 0) {
+                // Respawn player at bottom with shield
+                playSound(SoundManager.Sound.PLAYER_RESPAWN);
+                player = new Player(width / 2, height - 200, gameData.getActiveSpeedLevel());
+                shieldActive = true;
+                playerInvincible = true;
+                respawnInvincibilityTimer = 180; // 3 seconds of invincibility after respawn
+                waitingForRespawn = false;
+
+                // Add respawn flash effect
+                // Bright spawn flash at new player position, then shield activation rings
+                emitter.burst(EmitterDefinition.RESPAWN_FLASH, width / 2, height - 200);
+                emitter.burst(EmitterDefinition.RESPAWN_RINGS, width / 2, height - 200);
+            }
+        }
+
+        // Check beam attack collisions (only if player exists)
+        for (BeamAttack beam : beamAttacks) {
+            // Update beam lifecycle
+            beam.update(dt);
+
+            // Play beam lifecycle sounds
+            if (beam.shouldPlayWarning()) {
+                playSound(SoundManager.Sound.BEAM_WARNING, 0.5f);
+            }
+            if (beam.shouldPlayFire()) {
+                playSound(SoundManager.Sound.EXPL_MEDIUM_1, 0.6f);
+            }
+
+            if (player != null && beam.collidesWith(player)) {
+                // Hit by beam - game over
+
+                // Create death particles
+                emitter.burst(EmitterDefinition.PLAYER_DEATH, player.getX(), player.getY());
+                handlePlayerDeath();
+                return;
+            }
+        }
+
+        // Update bullets
+        // Apply bullet slow upgrade (reduced to 0.1% per level)
+        int bulletSlowLevel = gameData.getActiveBulletSlowLevel();
+        double bulletSlow = 0.999 - (bulletSlowLevel * 0.0001);
+        // Apply time slow from active item
+        boolean timeSlowActive = equippedItem != null && equippedItem.isActive() &&
+            equippedItem.getType() == ActiveItem.ItemType.TIME_SLOW;
+
+        for (int i = bullets.size() - 1; i >= 0; i--) {
+            if (bulletSlowLevel > 0) {
+                bullets.applySlow(i, bulletSlow);
+            }
+            if (timeSlowActive) {
+                bullets.applySlow(i, 0.5); // 50% speed
+            }
+
+            bullets.update(i, player, width, height, deltaTime);
+
+            // Spawn trail particles for fast-moving bullets
+            if (emitter.isEnabled() && bullets.shouldSpawnTrail(i) && fxRandom.nextDouble() < 0.10 * deltaTime) {
+                emitter.emit(
+                    bullets.getX(i), bullets.getY(i),
+                    -bullets.getVX(i) * 0.2, -bullets.getVY(i) * 0.2,
+                    bullets.getTrailColor(i), 15, 3,
+                    Particle.ParticleType.TRAIL
+                );
+            }
+
+            // Check if explosive bullets should explode
+            if (bullets.shouldExplode(i)) {
+                // Play appropriate explosion sound based on bullet type
+                Bullet.BulletType bulletType = bullets.getType(i);
+                if (bulletType == Bullet.BulletType.BOMB || bulletType == Bullet.BulletType.GRENADE || bulletType == Bullet.BulletType.NUKE) {
+                    playSound(SoundManager.Sound.GRENADE_EXPLODE, 0.6f);
+                } else {
+                    SoundManager.Sound[] explosionSounds = {
+                        SoundManager.Sound.EXPL_SHORT_1, SoundManager.Sound.EXPL_SHORT_2,
+                        SoundManager.Sound.EXPL_SHORT_3, SoundManager.Sound.EXPL_SHORT_4,
+                        SoundManager.Sound.EXPL_SHORT_5
+                    };
+                    playSound(explosionSounds[(int)(fxRandom.nextDouble() * explosionSounds.length)], 0.4f);
+                }
+
+                // Create explosion particles with shockwave
+                if (emitter.isEnabled()) {
+                    bullets.spawnExplosionParticles(i, emitter); // Density is up to the governor
+                }
+
+                // Create fragments from explosion (appended, so not updated until next frame)
+                bullets.spawnFragments(i);
+                bullets.kill(i);
+                continue;
+            }
+
+            // Check if splitting bullet should split
+            if (bullets.shouldSplit(i)) {
+                bullets.markAsSplit(i);
+                double bx = bullets.getX(i);
+                double by = bullets.getY(i);
+                double baseAngle = Math.atan2(bullets.getVY(i), bullets.getVX(i));
+                for (int j = 0; j < 4; j++) {
+                    double angle = baseAngle + (Math.PI / 2 * j);
+                    bullets.add(bx, by, Math.cos(angle) * 3, Math.sin(angle) * 3, Bullet.BulletType.FAST);
+                }
+            }
+
+            // Remove off-screen bullets
+            if (bullets.isOffScreen(i, width, height)) {
+                bullets.kill(i);
+            }
+        }
+        bullets.removeDead(stableRemovalOrder);
+
+        // Rebuild spatial grid after all bullet updates for optimized collision
+        rebuildBulletGrid();
+
+        // Check collisions using spatial grid (much faster for many bullets!)
+        if (player != null) {
+            int ranges = bulletGrid.queryNeighborhood(player.getX(), player.getY());
+            for (int r = 0; r < ranges; r++) {
+                for (int k = bulletGrid.getRangeStart(r), end = bulletGrid.getRangeEnd(r); k < end; k++) {
+                    int bullet = bulletGrid.getBullet(k);
+                    if (bullets.isDead(bullet)) continue;
+                    if (bullets.isActive(bullet) && bullets.collidesWith(bullet, player)) {
+                        // Check for active item invincibility (DASH or INVINCIBILITY)
+                        if (playerInvincible) {
+                            // Invincible - bullets pass through
+                            continue;
+                        }
+
+                        // Check for perfect dodge i-frames
+                        if (perfectDodgeIFrames > 0) {
+                            // Perfect dodge invincibility - phase through bullet
+                            continue;
+                        }
+
+                        // Check for shield
+                        if (shieldActive) {
+                            // Shield blocks the hit
+                            playSound(SoundManager.Sound.SHIELD_BREAK);
+                            shieldActive = false;
+                            bullets.kill(bullet);
+
+                            // Create shield break particles
+                            emitter.burst(EmitterDefinition.SHIELD_BREAK, player.getX(), player.getY());
+
+                            screenShakeIntensity = 5;
+                            continue;
+                        }
+
+                        // Lucky Dodge chance - phase through bullets
+                        int luckyDodgeLevel = gameData.getActiveLuckyDodgeLevel();
+                        if (luckyDodgeLevel > 0) {
+                            double dodgeChance = luckyDodgeLevel * 0.05; // 5% per level
+                            if (random.nextDouble() < dodgeChance) {
+                                playSound(SoundManager.Sound.DODGE, 1.0f + (dodgeCombo * 0.1f));
+
+                                // Lucky dodge! Trigger flicker animation
+                                player.triggerFlicker();
+                                bullets.kill(bullet);
+
+                                // Increment dodge combo
+                                dodgeCombo++;
+                                comboTimer = COMBO_TIMEOUT;
+
+                                // Add score based on combo
+                                gameData.addScore(10 * dodgeCombo);
+
+                                // Create dodge particles
+                                emitter.burst(EmitterDefinition.LUCKY_DODGE, player.getX(), player.getY());
+
+                                continue;
+                            }
+                        }
+
+                        // No dodge - game over
+
+                        // Create death particles
+                        emitter.burst(EmitterDefinition.PLAYER_DEATH, player.getX(), player.getY());
+                        bullets.removeDead(stableRemovalOrder);
+                        handlePlayerDeath();
+                        return;
+                    }
+
+                    // Check for graze (near miss)
+                    double grazeRadius = GRAZE_DISTANCE * passiveUpgradeManager.getMultiplier(PassiveUpgrade.UpgradeType.GRAZE_RADIUS);
+                    double closeCallRadius = CLOSE_CALL_DISTANCE * passiveUpgradeManager.getMultiplier(PassiveUpgrade.UpgradeType.GRAZE_RADIUS);
+                    double perfectDodgeRadius = PERFECT_DODGE_DISTANCE;
+                    double dist = Math.sqrt(Math.pow(bullets.getX(bullet) - player.getX(), 2) + Math.pow(bullets.getY(bullet) - player.getY(), 2));
+
+                    if (!bullets.hasGrazed(bullet) && dist < grazeRadius && dist > player.getSize() / 2.0) {
+                        bullets.setGrazed(bullet, true);
+                        totalGrazesThisRun++;
+
+                        // Determine graze tier
+                        boolean isPerfectDodge = dist < perfectDodgeRadius;
+                        boolean isCloseCall = dist < closeCallRadius;
+
+                        // Calculate graze value based on tier
+                        int grazeValue = 1;
+                        int moneyBonus = 0;
+                        int particleColor = Particle.argb(100, 200, 255, 200);
+
+                        if (isPerfectDodge) {
+                            // PERFECT DODGE - highest reward
+                            playSound(SoundManager.Sound.PERFECT_DODGE, 1.2f);
+                            grazeValue = 5;
+                            moneyBonus = (int)(25 * riskContractMultiplier);
+                            particleColor = Particle.argb(255, 215, 0, 255); // Gold
+
+                            // Grant brief invincibility
+                            perfectDodgeIFrames = PERFECT_DODGE_IFRAMES;
+                            perfectDodgeFlashTimer = 20;
+
+                            // Intense slow-mo and effects
+                            slowMotionFactor = 0.15;
+                            slowMotionTimer = 10;
+                            screenShakeIntensity = Math.max(screenShakeIntensity, 5);
+                            comboPulseScale = 1.6;
+
+                            // Spawn damage number showing "PERFECT!"
+                            damageNumbers.add(new DamageNumber("PERFECT!", player.getX(), player.getY() - 30, new Color(255, 215, 0), 24));
+
+                        } else if (isCloseCall) {
+                            // CLOSE CALL - medium reward
+                            playSound(SoundManager.Sound.CLOSE_CALL, 0.9f);
+                            grazeValue = 2;
+                            moneyBonus = (int)(10 * riskContractMultiplier);
+                            particleColor = Particle.argb(150, 255, 150, 220); // Green
+
+                            // Moderate slow-mo
+                            slowMotionFactor = 0.25;
+                            slowMotionTimer = 6;
+                            screenShakeIntensity = Math.max(screenShakeIntensity, 3);
+                            comboPulseScale = 1.4;
+
+                        } else {
+                            // Normal graze - no sound to prevent spam
+                            grazeValue = 1;
+                            moneyBonus = (int)(2 * riskContractMultiplier);
+                            comboPulseScale = 1.2;
+                        }
+
+                        // Add combo with tier info
+                        comboSystem.addCombo(grazeValue, isCloseCall, isPerfectDodge, soundManager);
+
+                        // Add score with combo multiplier
+                        int grazeScore = (int)(10 * grazeValue * comboSystem.getMultiplier());
+                        gameData.addScore(grazeScore);
+
+                        // Add money bonus
+                        if (moneyBonus > 0) {
+                            gameData.addRunMoney(moneyBonus);
+                            if (isPerfectDodge) {
+                                playSound(SoundManager.Sound.COIN_PICKUP, 1.2f);
+                            }
+                        }
+
+                        // Create enhanced graze particle effect
+                        if (emitter.isEnabled()) {
+                            // Spray back along the bullet's path (more particles for higher tiers)
+                            EmitterDefinition grazeEffect = isPerfectDodge ? EmitterDefinition.PERFECT_DODGE
+                                : isCloseCall ? EmitterDefinition.CLOSE_CALL : EmitterDefinition.GRAZE;
+                            double bulletAngle = Math.atan2(bullets.getVY(bullet), bullets.getVX(bullet));
+                            emitter.burst(grazeEffect, player.getX(), player.getY(), bulletAngle + Math.PI, 1, 0);
+
+                            // Glow ring at graze point
+                            int ringSize = isPerfectDodge ? 30 : (isCloseCall ? 20 : 15);
+                            emitter.emit(
+                                (bullets.getX(bullet) + player.getX()) / 2,
+                                (bullets.getY(bullet) + player.getY()) / 2,
+                                0, 0,
+                                particleColor, 15, ringSize,
+                                Particle.ParticleType.EXPLOSION
+                            );
+
+                            // Extra starburst for perfect dodges
+                            if (isPerfectDodge) {
+                                emitter.burst(EmitterDefinition.PERFECT_DODGE_STAR, player.getX(), player.getY());
+                            }
+                        }
+                    }
+                }
+            }
+
+            // Drop bullets consumed by shield/lucky dodge
+            bullets.removeDead(stableRemovalOrder);
+        }
+    }
+
+    // Handle player death - check for extra life first
+    private void handlePlayerDeath() {
+        // Check if player has extra lives
+        if (gameData.useExtraLife()) {
+            // Trigger resurrection animation
+            resurrectionAnimation = true;
+            resurrectionTimer = RESURRECTION_DURATION;
+            resurrectionScale = 0.0;
+            resurrectionGlow = 1.0;
+
+            // Clear bullets and beam attacks to give player a chance
+            bullets.clear();
+            beamAttacks.clear();
+
+            // Create resurrection particles
+            emitter.burst(EmitterDefinition.RESURRECTION, player.getX(), player.getY());
+
+            // Play resurrection sound
+            playSound(SoundManager.Sound.ACHIEVEMENT_UNLOCK);
+            playSound(SoundManager.Sound.UI_POPUP_OPEN);
+
+            // Grant temporary invincibility
+            playerInvincible = true;
+            respawnInvincibilityTimer = 180; // 3 seconds of invincibility
+
+            // Screen effects
+            screenShakeIntensity = 15;
+            slowMotionFactor = 0.2;
+            slowMotionTimer = 30;
+
+            // Don't end the game - continue playing
+            return;
+        }
+
+        // No extra lives - normal game over
+        playSound(SoundManager.Sound.PLAYER_DEATH);
+        playSound(SoundManager.Sound.GAME_OVER, 0.6f);
+        if (soundManager != null) {
+            soundManager.stopMusic();
+        }
+        screenShakeIntensity = 10;
+        tookDamageThisBoss = true;
+        gameOver = true;
+    }
+
+    // Handle active item effects during gameplay
+    private void handleActiveItemEffects(ActiveItem item, double deltaTime) {
+        switch (item.getType()) {
+            case DASH:
+                // Apply speed boost and invincibility during dash
+                playerInvincible = true;
+                dashSpeedMultiplier = 5.0;
+                if (player != null) {
+                    player.applyDashBoost(dashSpeedMultiplier);
+                }
+                break;
+
+            case SHOCKWAVE:
+                // Push all bullets away from player (instant effect)
+                if (player != null) {
+                    for (int i = 0, n = bullets.size(); i < n; i++) {
+                        double dx = bullets.getX(i) - player.getX();
+                        double dy = bullets.getY(i) - player.getY();
+                        double distance = Math.sqrt(dx * dx + dy * dy);
+
+                        if (distance < 300) { // Shockwave radius
+                            // Push bullet away
+                            double angle = Math.atan2(dy, dx);
+                            double pushForce = 10 * (1.0 - distance / 300);
+                            bullets.applyForce(i, Math.cos(angle) * pushForce, Math.sin(angle) * pushForce);
+                        }
+                    }
+
+                    // Create shockwave particles
+                    emitter.burst(EmitterDefinition.SHOCKWAVE, player.getX(), player.getY());
+
+                    screenShakeIntensity = 8;
+                }
+                break;
+
+            case SHIELD:
+                // Shield is active - will tank next hit (disabled by Shieldless contract)
+                if (riskContractType != 3) {
+                    playSound(SoundManager.Sound.SHIELD_ACTIVATE);
+                    shieldActive = true;
+                } else if (player != null) {
+                    // Show message that shield is disabled
+                    damageNumbers.add(new DamageNumber("DISABLED!", player.getX(), player.getY() - 30, new Color(150, 150, 150), 20));
+                }
+                break;
+
+            case BOMB:
+                // Clear all bullets (instant effect)
+                playSound(SoundManager.Sound.BOMB_ACTIVATE);
+                playSound(SoundManager.Sound.EXPL_LONG_1, 0.8f);
+                int clearedBullets = bullets.size();
+
+                // Create destruction particles for each bullet before clearing
+                if (emitter.isEnabled()) {
+                    for (int i = 0, n = bullets.size(); i < n; i++) {
+                        emitter.burst(EmitterDefinition.BOMB_CLEAR, bullets.getX(i), bullets.getY(i)); // At each bullet's position
+                    }
+                }
+
+                bullets.clear();
+
+                // Award score for cleared bullets
+                gameData.addScore(clearedBullets * 5);
+
+                // Create massive explosion effect
+                if (player != null) {
+                    emitter.burst(EmitterDefinition.BOMB_BLAST, player.getX(), player.getY());
+                    emitter.burst(EmitterDefinition.BOMB_BLAST_RINGS, player.getX(), player.getY()); // Expanding shockwave rings
+                }
+
+                hitFreezeFrames = 5; // Brief freeze on bomb
+                screenShakeIntensity = 15;
+                break;
+
+            case MAGNET:
+                // Pull nearby bullets toward player for scoring
+                if (player != null) {
+                    for (int i = 0, n = bullets.size(); i < n; i++) {
+                        double dx = player.getX() - bullets.getX(i);
+                        double dy = player.getY() - bullets.getY(i);
+                        double distance = Math.sqrt(dx * dx + dy * dy);
+
+                        if (distance < 400) { // Magnet radius
+                            double angle = Math.atan2(dy, dx);
+                            double pullForce = 0.5 * (1.0 - distance / 400);
+                            bullets.applyForce(i, Math.cos(angle) * pullForce, Math.sin(angle) * pullForce);
+                        }
+                    }
+                }
+                break;
+
+            case TIME_SLOW:
+                // Bullets move at 50% speed (applied in bullet update loop)
+                // This effect is checked in the bullet collision section
+                break;
+
+            case LASER_BEAM:
+                // Fire a damaging laser beam upward
+                // Damage bullets in path
+                if (player != null) {
+                    double laserX = player.getX();
+                    double laserWidth = 40;
+
+                    for (int i = bullets.size() - 1; i >= 0; i--) {
+                        double bulletX = bullets.getX(i);
+                        double bulletY = bullets.getY(i);
+
+                        // Check if bullet is in laser path
+                        if (Math.abs(bulletX - laserX) < laserWidth / 2 && bulletY < player.getY()) {
+                            bullets.kill(i);
+                            gameData.addScore(10);
+
+                            // Create destruction particles
+                            emitter.burst(EmitterDefinition.LASER_HIT, bulletX, bulletY);
+                        }
+                    }
+                    bullets.removeDead(stableRemovalOrder);
+                }
+                break;
+
+            case INVINCIBILITY:
+                // Player is invincible
+                playSound(SoundManager.Sound.INVINCIBILITY_ACTIVATE);
+                playerInvincible = true;
+                break;
+
+            default:
+                break;
+        }
+    }
+
+    // Player actions (called from input handling)
+    public void skipIntroPan() {
+        introPanActive = false;
+        cameraX = 0;
+        cameraY = 0;
+        screenShakeIntensity = 8;
+    }
+
+    public void skipBossIntro() {
+        bossIntroActive = false;
+        screenShakeIntensity = 5;
+    }
+
+    public void activateEquippedItem() {
+        // Items can't be used during the intro
+        if (introPanActive || bossIntroActive) return;
+        ActiveItem item = gameData.getEquippedItem();
+        if (item != null && item.canActivate()) {
+            item.activate();
+            screenShakeIntensity = 3;
+        }
+    }
+
+    // Debug: Instantly defeat boss and win level
+    public void debugDefeatBoss() {
+        if (currentBoss == null) return;
+        bossVulnerable = true; // Force vulnerability
+        while (currentBoss.getCurrentHealth() > 0) {
+            currentBoss.takeDamage();
+        }
+        screenShakeIntensity = 15;
+    }
+
+    private void playSound(SoundManager.Sound sound) {
+        if (soundManager != null) {
+            soundManager.playSound(sound);
+        }
+    }
+
+    private void playSound(SoundManager.Sound sound, float volumeMultiplier) {
+        if (soundManager != null) {
+            soundManager.playSound(sound, volumeMultiplier);
+        }
+    }
+
+    void rebuildBulletGrid() {
+        bulletGrid.rebuild(bullets);
+    }
+
+    // Check for close calls with bullets (graze detection, uses the grid from the last rebuild)
+    void checkBulletGrazes(Player player) {
+        double playerRadius = player.getSize() / 2.0;
+
+        int ranges = bulletGrid.queryNeighborhood(player.getX(), player.getY());
+        for (int r = 0; r < ranges; r++) {
+            for (int k = bulletGrid.getRangeStart(r), end = bulletGrid.getRangeEnd(r); k < end; k++) {
+                int bullet = bulletGrid.getBullet(k);
+                if (bullets.hasGrazed(bullet)) continue; // Only count each graze once
+
+                double dx = bullets.getX(bullet) - player.getX();
+                double dy = bullets.getY(bullet) - player.getY();
+                double distance = Math.sqrt(dx * dx + dy * dy);
+                double bulletRadius = 4.0; // Default bullet radius
+                double hitDistance = playerRadius + bulletRadius;
+
+                // Check if bullet is in graze zone (close but not hitting)
+                if (distance > hitDistance && distance < hitDistance + GRAZE_DISTANCE) {
+                    bullets.setGrazed(bullet, true);
+
+                    // Award graze bonus
+                    int grazeBonus = 10;
+                    grazeScore += grazeBonus;
+                    gameData.addScore(grazeBonus);
+
+                    // Spawn graze particles
+                    if (emitter.isEnabled() && fxRandom.nextDouble() < 0.3) {
+                        for (int i = 0; i < 3; i++) {
+                            double angle = fxRandom.nextDouble() * TWO_PI;
+                            double speed = 0.5 + fxRandom.nextDouble() * 1.5;
+                            emitter.emit(
+                                player.getX() + Math.cos(angle) * playerRadius,
+                                player.getY() + Math.sin(angle) * playerRadius,
+                                Math.cos(angle) * speed,
+                                Math.sin(angle) * speed,
+                                Particle.argb(100, 200, 255, 200),
+                                20, 3,
+                                Particle.ParticleType.SPARK
+                            );
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    // Settings and input
+    public void setInput(boolean[] keys) { this.keys = keys; }
+    public void setPaused(boolean paused) { this.paused = paused; }
+    public boolean isPaused() { return paused; }
+    public void setParticlesEnabled(boolean enabled) { emitter.setEnabled(enabled); }
+    public void setStableRemovalOrder(boolean stable) { this.stableRemovalOrder = stable; }
+    public void setSeed(long seed) { this.runSeed = seed; this.fixedSeed = true; } // Used by every following startLevel
+    public long getSeed() { return runSeed; }
+    public void setScreenShake(double intensity) { this.screenShakeIntensity = intensity; }
+
+    // Level outcome
+    public boolean isGameOver() { return gameOver; }
+    public boolean isLevelComplete() { return levelComplete; }
+    public String getUnlockedItemName() { return unlockedItemName; }
+
+    // Copy everything the renderer needs into a reusable snapshot
+    public void writeSnapshot(FrameSnapshot frame) {
+        frame.copyPlayer(player);
+        frame.copyBoss(currentBoss);
+        frame.bullets.copyFrom(bullets);
+        frame.bulletCapacity = bullets.capacity();
+        frame.bulletPoolHits = bullets.getPoolHits();
+        frame.bulletPoolMisses = bullets.getPoolMisses();
+        frame.particles.copyFrom(particles);
+        frame.copyBeamAttacks(beamAttacks);
+        frame.copyDamageNumbers(damageNumbers);
+        frame.copyPendingAchievements(pendingAchievements);
+        frame.comboSystem.copyFrom(comboSystem);
+
+        frame.level = gameData.getCurrentLevel();
+        frame.bossVulnerable = bossVulnerable;
+        frame.vulnerabilityTimer = vulnerabilityTimer;
+        frame.dodgeCombo = dodgeCombo;
+        frame.showCombo = comboTimer > 0;
+        frame.bossDeathAnimation = bossDeathAnimation;
+        frame.bossDeathScale = bossDeathScale;
+        frame.bossDeathRotation = bossDeathRotation;
+        frame.gameTime = gameTimeSeconds;
+        frame.shieldActive = shieldActive;
+        frame.playerInvincible = playerInvincible;
+        frame.bossHitCount = bossHitCount;
+        frame.cameraX = cameraX;
+        frame.cameraY = cameraY;
+        frame.screenShakeX = screenShakeX;
+        frame.screenShakeY = screenShakeY;
+        frame.introPanActive = introPanActive;
+        frame.bossFlashTimer = bossFlashTimer;
+        frame.screenFlashTimer = screenFlashTimer;
+        frame.bossIntroActive = bossIntroActive;
+        frame.bossIntroText = bossIntroText;
+        frame.bossIntroTimer = bossIntroTimer;
+        frame.achievementNotificationTimer = achievementNotificationTimer;
+        frame.resurrectionAnimation = resurrectionAnimation;
+        frame.resurrectionTimer = resurrectionTimer;
+        frame.resurrectionScale = resurrectionScale;
+        frame.resurrectionGlow = resurrectionGlow;
+    }
+
+    // State for rendering
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    public Player getPlayer() { return player; }
+    public Boss getBoss() { return currentBoss; }
+    public BulletStore getBullets() { return bullets; }
+    public ParticleSystem getParticles() { return particles; }
+    public ParticleGovernor getParticleGovernor() { return emitter.getGovernor(); }
+    public List<BeamAttack> getBeamAttacks() { return beamAttacks; }
+    public List<DamageNumber> getDamageNumbers() { return damageNumbers; }
+    public List<Achievement> getPendingAchievements() { return pendingAchievements; }
+    public int getAchievementNotificationTimer() { return achievementNotificationTimer; }
+    public ComboSystem getComboSystem() { return comboSystem; }
+    public int getDodgeCombo() { return dodgeCombo; }
+    public boolean isComboActive() { return comboTimer > 0; }
+    public boolean isBossVulnerable() { return bossVulnerable; }
+    public int getVulnerabilityTimer() { return vulnerabilityTimer; }
+    public int getBossHitCount() { return bossHitCount; }
+    public int getBossFlashTimer() { return bossFlashTimer; }
+    public int getScreenFlashTimer() { return screenFlashTimer; }
+    public boolean isBossDeathAnimation() { return bossDeathAnimation; }
+    public double getBossDeathScale() { return bossDeathScale; }
+    public double getBossDeathRotation() { return bossDeathRotation; }
+    public boolean isShieldActive() { return shieldActive; }
+    public boolean isPlayerInvincible() { return playerInvincible; }
+    public double getCameraX() { return cameraX; }
+    public double getCameraY() { return cameraY; }
+    public double getScreenShakeX() { return screenShakeX; }
+    public double getScreenShakeY() { return screenShakeY; }
+    public boolean isIntroPanActive() { return introPanActive; }
+    public boolean isBossIntroActive() { return bossIntroActive; }
+    public String getBossIntroText() { return bossIntroText; }
+    public int getBossIntroTimer() { return bossIntroTimer; }
+    public boolean isResurrectionAnimation() { return resurrectionAnimation; }
+    public int getResurrectionTimer() { return resurrectionTimer; }
+    public double getResurrectionScale() { return resurrectionScale; }
+    public double getResurrectionGlow() { return resurrectionGlow; }
+    public double getGameTimeSeconds() { return gameTimeSeconds; }
+    public double getBossKillTime() { return bossKillTime; }
+
+    // Batch-simulate a level without a display for balancing and regression runs.
+    // Usage: java -Djava.awt.headless=true -cp bin Simulation [level] [maxTicks] [runs]
+    public static void main(String[] args) {
+        int level = args.length > 0 ? Integer.parseInt(args[0]) : 1;
+        int maxTicks = args.length > 1 ? Integer.parseInt(args[1]) : 36000; // 10 minutes of game time
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+        long baseSeed = args.length > 3 ? Long.parseLong(args[3]) : 1; // Run N uses baseSeed + N - 1
+
+        for (int run = 1; run <= runs; run++) {
+            GameData data = new GameData();
+            data.setMaxUnlockedLevel(level);
+            data.setCurrentLevel(level);
+            Simulation sim = new Simulation(GameData.WIDTH, GameData.HEIGHT, data,
+                new AchievementManager(), new PassiveUpgradeManager(), null);
+            sim.setParticlesEnabled(false); // Cosmetic only
+            sim.setSeed(baseSeed + run - 1);
+            sim.startLevel(0, 1.0);
+            sim.skipIntroPan();
+            sim.skipBossIntro();
+
+            long start = System.nanoTime();
+            int ticks = 0;
+            int peakBullets = 0;
+            while (ticks < maxTicks && !sim.isGameOver() && !sim.isLevelComplete()) {
+                sim.update(1.0);
+                peakBullets = Math.max(peakBullets, sim.getBullets().size());
+                ticks++;
+            }
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            String outcome = sim.isLevelComplete() ? "WIN" : (sim.isGameOver() ? "GAME_OVER" : "TIMEOUT");
+            BulletStore store = sim.getBullets();
+            System.out.printf("run %d (seed %d): level %d %s after %d ticks (%.1fs game time), score %d, peak bullets %d, pool %d hits / %d misses, %.0f ticks/s%n",
+                run, sim.getSeed(), level, outcome, ticks, sim.getGameTimeSeconds(), data.getScore(), peakBullets,
+                store.getPoolHits(), store.getPoolMisses(), ticks / Math.max(seconds, 1e-9));
+        }
+    }
+}
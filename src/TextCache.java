@@ -0,0 +1,89 @@
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+
+// Shared text objects: canonical Font instances and their FontMetrics, so draw
+// code can ask for a font every frame without creating one. Counters that
+// change every frame (score, money, FPS, timer) are formatted into a reused
+// char buffer and drawn with drawChars, so they build no Strings either.
+// Glyph images are already cached by Java2D; blitting whole pre-rasterized
+// strings measured slower than drawString, so text is still drawn live.
+// Render thread only.
+final class TextCache {
+    private static final int FONT_SLOTS = 256;
+
+    private static final long[] fontKeys = new long[FONT_SLOTS]; // 0 = empty
+    private static final Font[] fonts = new Font[FONT_SLOTS];
+    private static final Map<Font, FontMetrics> metrics = new HashMap<>();
+    private static final Graphics2D metricsGraphics = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB).createGraphics();
+    private static final char[] chars = new char[64];
+
+    private TextCache() {
+    }
+
+    // Shared Font instance; same arguments as new Font(name, style, size)
+    static Font font(String name, int style, int size) {
+        long key = 1L << 60
+            | (name.hashCode() & 0xFFFFFFFFL) << 20
+            | (long)(style & 0xF) << 16
+            | size & 0xFFFF;
+        int home = (int)((key ^ (key >>> 21)) * 0x9E3779B1) >>> 24; // 8 bits -> FONT_SLOTS
+        for (int p = 0; p < FONT_SLOTS; p++) {
+            int slot = (home + p) & (FONT_SLOTS - 1);
+            if (fontKeys[slot] == 0) {
+                Font font = new Font(name, style, size);
+                fontKeys[slot] = key;
+                fonts[slot] = font;
+                return font;
+            }
+            if (fontKeys[slot] == key && fonts[slot].getName().equals(name)) {
+                return fonts[slot];
+            }
+        }
+        return new Font(name, style, size); // Table full
+    }
+
+    // Metrics for a font (integer advances, as drawString uses with fractional metrics off)
+    static FontMetrics metrics(Font font) {
+        FontMetrics fm = metrics.get(font);
+        if (fm == null) {
+            fm = metricsGraphics.getFontMetrics(font);
+            metrics.put(font, fm);
+        }
+        return fm;
+    }
+
+    // Draw text centered horizontally on centerX
+    static void drawCentered(Graphics2D g, String text, Font font, Color color, int centerX, int y) {
+        g.setFont(font);
+        g.setColor(color);
+        g.drawString(text, centerX - metrics(font).stringWidth(text) / 2, y);
+    }
+
+    // Draw label followed by value, e.g. "Score: " + 1234, without building the
+    // String. Returns the x where following text would start.
+    static int drawNumber(Graphics2D g, String label, long value, Font font, Color color, int x, int y) {
+        int labelLength = Math.min(label.length(), chars.length - 20);
+        label.getChars(0, labelLength, chars, 0);
+        int length = labelLength + digits(value);
+        long rest = value;
+        for (int i = length - 1; i >= labelLength; i--) {
+            chars[i] = (char)('0' + Math.abs(rest % 10));
+            rest /= 10;
+        }
+        if (value < 0) chars[labelLength] = '-';
+
+        g.setFont(font);
+        g.setColor(color);
+        g.drawChars(chars, 0, length, x, y);
+        return x + metrics(font).charsWidth(chars, 0, length);
+    }
+
+    // Characters needed to print value (sign included)
+    private static int digits(long value) {
+        int count = value < 0 ? 2 : 1;
+        for (long v = value / 10; v != 0; v /= 10) count++;
+        return count;
+    }
+}
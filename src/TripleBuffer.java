@@ -0,0 +1,39 @@
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// Lock-free single-producer/single-consumer triple buffer.
+// The writer fills its back buffer and publishes it; the reader takes the most
+// recently published buffer. Neither side ever waits, and neither ever sees a
+// buffer the other is using.
+public class TripleBuffer<T> {
+    private static final int INDEX_MASK = 3;
+    private static final int FRESH = 4; // Set when the shared slot holds an unread frame
+
+    private final List<T> buffers;
+    private final AtomicInteger shared = new AtomicInteger(1); // Index (plus FRESH flag) of the middle buffer
+    private int back = 0; // Writer-owned
+    private int front = 2; // Reader-owned
+
+    public TripleBuffer(Supplier<T> factory) {
+        this.buffers = List.of(factory.get(), factory.get(), factory.get());
+    }
+
+    // Writer: the buffer to fill next
+    public T getBack() {
+        return buffers.get(back);
+    }
+
+    // Writer: hand the filled back buffer over and take the old middle one
+    public void publish() {
+        back = shared.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    // Reader: swap in the newest published buffer (if any) and return it
+    public T acquireLatest() {
+        if ((shared.get() & FRESH) != 0) {
+            front = shared.getAndSet(front) & INDEX_MASK;
+        }
+        return buffers.get(front);
+    }
+}
@@ -1,6 +1,23 @@
 import java.awt.*;
 
 public class UIButton {
+    private static final Color SHADOW_COLOR = new Color(0, 0, 0, 100);
+    private static final Color GRADIENT_BOTTOM = new Color(136, 192, 208);
+    private static final Color BORDER_COLOR = new Color(76, 86, 106);
+    private static final Color TEXT_SHADOW_COLOR = new Color(0, 0, 0, 150);
+    private static final Color TEXT_COLOR = new Color(216, 222, 233);
+    private static final BasicStroke BORDER_STROKE = new BasicStroke(3);
+    private static final BasicStroke SELECTED_BORDER_STROKE = new BasicStroke(4);
+    private static final Font FONT = TextCache.font("Arial", Font.BOLD, 20);
+    private static final AlphaComposite SHINE_COMPOSITE = AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.2f);
+    // Glowing border color per alpha (100..255)
+    private static final Color[] GLOW_COLORS = new Color[256];
+    static {
+        for (int i = 100; i < 256; i++) {
+            GLOW_COLORS[i] = new Color(235, 203, 139, i);
+        }
+    }
+    
     private String text;
     private int x, y, width, height;
     private boolean isSelected;
@@ -70,7 +87,7 @@ public class UIButton {
         
         // Draw shadow
         if (isSelected) {
-            g2.setColor(new Color(0, 0, 0, 100));
+            g2.setColor(SHADOW_COLOR);
             g2.fillRoundRect(x + 6, y + 6, width, height, 20, 20);
         }
         
@@ -78,7 +95,7 @@ public class UIButton {
         if (isSelected) {
             GradientPaint grad = new GradientPaint(
                 x, y, selectedColor,
-                x, y + height, new Color(136, 192, 208)
+                x, y + height, GRADIENT_BOTTOM
             );
             g2.setPaint(grad);
         } else {
@@ -87,15 +104,14 @@ public class UIButton {
         g2.fillRoundRect(x, y, width, height, 20, 20);
         
         // Draw border
-        g2.setStroke(new BasicStroke(3));
         if (isSelected) {
-            g2.setColor(new Color(235, 203, 139));
             // Animated glowing border
             int glowAlpha = (int)(Math.abs(Math.sin(time * 5)) * 155 + 100);
-            g2.setColor(new Color(235, 203, 139, glowAlpha));
-            g2.setStroke(new BasicStroke(4));
+            g2.setColor(GLOW_COLORS[glowAlpha]);
+            g2.setStroke(SELECTED_BORDER_STROKE);
         } else {
-            g2.setColor(new Color(76, 86, 106));
+            g2.setColor(BORDER_COLOR);
+            g2.setStroke(BORDER_STROKE);
         }
         g2.drawRoundRect(x, y, width, height, 20, 20);
         
@@ -105,22 +121,23 @@ public class UIButton {
         g2.translate(swayOffset, 0); // Only apply sway to text, not scale
         
         // Draw text at constant size
-        g2.setFont(new Font("Arial", Font.BOLD, 20));
-        FontMetrics fm = g2.getFontMetrics();
+        FontMetrics fm = TextCache.metrics(FONT);
         int textX = x + (width - fm.stringWidth(text)) / 2;
         int textY = y + ((height - fm.getHeight()) / 2) + fm.getAscent();
         
+        g2.setFont(FONT);
+        
         // Text shadow
-        g2.setColor(new Color(0, 0, 0, 150));
+        g2.setColor(TEXT_SHADOW_COLOR);
         g2.drawString(text, textX + 2, textY + 2);
         
         // Main text
-        g2.setColor(isSelected ? Color.WHITE : new Color(216, 222, 233));
+        g2.setColor(isSelected ? Color.WHITE : TEXT_COLOR);
         g2.drawString(text, textX, textY);
         
         // Shine effect for selected
         if (isSelected) {
-            g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.2f));
+            g2.setComposite(SHINE_COMPOSITE);
             g2.setColor(Color.WHITE);
             int shineY = y + (int)(Math.sin(time * 4) * height / 4 + height / 2);
             g2.fillRoundRect(x, shineY - 10, width, 20, 20, 20);